@@ -137,7 +137,8 @@ class ServiceFactory {
         new DefaultApi(this.podClient),
         this.authSession,
         this.templateEngine,
-        this.retryBuilder
+        this.retryBuilder,
+        MessageService.sharedAsyncExecutor(this.config.getMessage().getAsyncMaxThreads())
     );
   }
 
@@ -10,8 +10,14 @@ import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
 /**
@@ -23,6 +29,19 @@ public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
 
   private ActivityInfo info;
 
+  // resolved once, creates the context of each processed event
+  private volatile BiFunction<V4Initiator, E, C> contextFactory;
+
+  private volatile ActivityExecutionPolicy executionPolicy = ActivityExecutionPolicy.inline();
+
+  private final ActivityMetrics metrics = new ActivityMetrics(this::getInfo);
+  // set by the registry, null if the activity is not registered
+  private volatile ActivityMetricsListener metricsListener;
+  // set by the registry, null if the activity executions are not rate limited
+  private volatile ActivityRateLimiter rateLimiter;
+  // set by the registry, null if the activity is not registered
+  private volatile ConversationStore conversationStore;
+
   /**
    * Any kind of activity must provide an {@link ActivityMatcher} in order to detect if it can be applied to a certain
    * user input.
@@ -83,6 +102,8 @@ public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
   protected void processEvent(V4Initiator initiator, E event) throws EventException {
 
     final C context = this.createContextInstance(initiator, event);
+    context.setConversationStore(this.conversationStore);
+    final long matchingStart = System.nanoTime();
 
     try {
       log.trace("Before beforeMatcher execution");
@@ -95,15 +116,83 @@ public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
 
     // executes matcher with no failure
     final Optional<Boolean> matcherResult = this.executeMatcher(context);
-    if (matcherResult.isPresent() && Boolean.TRUE.equals(matcherResult.get())) {
-      try {
-        log.trace("Before activity execution");
-        this.onActivity(context);
-      } catch (EventException ex) {
-        throw ex; // to allow events to be re-queued in DFv2 loop
-      } catch (Exception ex) {
-        log.warn("Activity execution failed.", ex);
-      }
+    final boolean matched = matcherResult.isPresent() && Boolean.TRUE.equals(matcherResult.get());
+    this.recordMatching(matched, System.nanoTime() - matchingStart);
+    if (matched && this.acquireExecution(context)) {
+      this.executionPolicy.execute(context, () -> this.executeActivity(context));
+    }
+  }
+
+  /**
+   * @return the metrics recorded by the activity.
+   */
+  ActivityMetrics getMetrics() {
+    return this.metrics;
+  }
+
+  void setMetricsListener(ActivityMetricsListener metricsListener) {
+    this.metricsListener = metricsListener;
+  }
+
+  void setRateLimiter(ActivityRateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+  }
+
+  void setConversationStore(ConversationStore conversationStore) {
+    this.conversationStore = conversationStore;
+  }
+
+  private boolean acquireExecution(C context) {
+    final ActivityRateLimiter limiter = this.rateLimiter;
+    if (limiter == null || limiter.tryAcquire(context)) {
+      return true;
+    }
+    this.metrics.recordRejection();
+    return false;
+  }
+
+  /**
+   * @return the policy executing the activity business logic, {@link ActivityExecutionPolicy#inline()} by default.
+   */
+  ActivityExecutionPolicy getExecutionPolicy() {
+    return this.executionPolicy;
+  }
+
+  void setExecutionPolicy(ActivityExecutionPolicy executionPolicy) {
+    this.executionPolicy = executionPolicy;
+  }
+
+  private void executeActivity(C context) {
+    final long start = System.nanoTime();
+    this.metrics.recordExecutionStart();
+    Exception failure = null;
+    try {
+      log.trace("Before activity execution");
+      this.onActivity(context);
+    } catch (EventException ex) {
+      failure = ex;
+      throw ex; // to allow events to be re-queued in DFv2 loop
+    } catch (Exception ex) {
+      failure = ex;
+      log.warn("Activity execution failed.", ex);
+    } finally {
+      this.recordExecution(System.nanoTime() - start, failure);
+    }
+  }
+
+  private void recordMatching(boolean matched, long nanos) {
+    this.metrics.recordMatching(matched, nanos);
+    final ActivityMetricsListener listener = this.metricsListener;
+    if (listener != null) {
+      listener.onMatched(this.getInfo(), matched, Duration.ofNanos(nanos));
+    }
+  }
+
+  private void recordExecution(long nanos, Exception failure) {
+    this.metrics.recordExecutionEnd(nanos, failure != null);
+    final ActivityMetricsListener listener = this.metricsListener;
+    if (listener != null) {
+      listener.onExecuted(this.getInfo(), Duration.ofNanos(nanos), failure);
     }
   }
 
@@ -119,10 +208,72 @@ public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
     }
   }
 
+  /**
+   * Creates the context of an event, using the factory returned by {@link #contextFactory()}. The factory is resolved
+   * once, when the activity is registered or else when the first event is processed.
+   *
+   * @param initiator the event initiator.
+   * @param event     the real-time event.
+   * @return the activity context.
+   */
+  protected C createContextInstance(V4Initiator initiator, E event) {
+    BiFunction<V4Initiator, E, C> factory = this.contextFactory;
+    if (factory == null) {
+      factory = this.contextFactory();
+      this.contextFactory = factory;
+    }
+    return factory.apply(initiator, event);
+  }
+
+  /**
+   * Returns the factory creating the activity contexts. Activities can override this method to provide the context
+   * constructor explicitly (ex: {@code CommandContext::new}).
+   * <p>
+   * By default, the public constructor of the context class taking the event initiator and the event is looked up
+   * through reflection, the context class being the generic type argument of the activity class. Contexts are then
+   * created by invoking the constructor method handle.
+   *
+   * @return the context factory.
+   */
   @SneakyThrows // assuming that this method can never fail
   @SuppressWarnings("unchecked")
-  protected C createContextInstance(V4Initiator initiator, E event) {
+  protected BiFunction<V4Initiator, E, C> contextFactory() {
     final Class<C> clz = (Class<C>) ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0];
-    return clz.getConstructor(V4Initiator.class, event.getClass()).newInstance(initiator, event);
+    final MethodHandle constructor = MethodHandles.publicLookup()
+        .findConstructor(clz, MethodType.methodType(void.class, V4Initiator.class, eventClass(clz)))
+        .asType(MethodType.methodType(ActivityContext.class, V4Initiator.class, Object.class));
+    return (initiator, event) -> (C) newContext(constructor, initiator, event);
+  }
+
+  /**
+   * Resolves the context factory when the activity is registered, so that it is not done when processing the first
+   * event. A failure is not reported here but when processing events, as it would have been without this call.
+   */
+  void initContextFactory() {
+    if (this.contextFactory == null) {
+      try {
+        this.contextFactory = this.contextFactory();
+      } catch (Exception e) {
+        log.debug("Unable to resolve the context factory of activity '{}'", this.getClass().getName(), e);
+      }
+    }
+  }
+
+  @SneakyThrows
+  private static ActivityContext<?> newContext(MethodHandle constructor, V4Initiator initiator, Object event) {
+    return (ActivityContext<?>) constructor.invokeExact(initiator, event);
+  }
+
+  private static Class<?> eventClass(Class<?> contextClass) {
+    // the event type is the type argument of ActivityContext, in the context class hierarchy
+    for (Class<?> clz = contextClass; clz != null && clz != ActivityContext.class; clz = clz.getSuperclass()) {
+      final Type superclass = clz.getGenericSuperclass();
+      if (superclass instanceof ParameterizedType
+          && ((ParameterizedType) superclass).getRawType() == ActivityContext.class
+          && ((ParameterizedType) superclass).getActualTypeArguments()[0] instanceof Class) {
+        return (Class<?>) ((ParameterizedType) superclass).getActualTypeArguments()[0];
+      }
+    }
+    throw new IllegalArgumentException("Unable to resolve the event type of context " + contextClass.getName());
   }
 }
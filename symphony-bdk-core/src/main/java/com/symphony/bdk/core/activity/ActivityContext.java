@@ -1,7 +1,12 @@
 package com.symphony.bdk.core.activity;
 
 import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Stream;
+import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
+import com.symphony.bdk.gen.api.model.V4UserJoinedRoom;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apiguardian.api.API;
@@ -29,4 +34,57 @@ public abstract class ActivityContext<E> {
    * </ul>
    */
   private final E sourceEvent;
+
+  /** The store of the conversations, set by the activity when it is registered */
+  @Getter(AccessLevel.NONE)
+  private ConversationStore conversationStore;
+
+  /**
+   * Returns the conversation of the user who triggered the event in the stream of the event, allowing multi-step
+   * activities (e.g. a form, then a confirmation) to keep a state between events.
+   *
+   * @return the conversation between the initiator and the bot in the event stream.
+   * @throws IllegalStateException if the activity is not registered or if the event has no initiator or stream.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public Conversation getConversation() {
+    final String streamId = this.streamId();
+    final Long userId = this.initiatorUserId();
+    if (this.conversationStore == null || streamId == null || userId == null) {
+      throw new IllegalStateException("No conversation available for this context: the activity must be registered "
+          + "and the event must have an initiator and a stream.");
+    }
+    return new Conversation(this.conversationStore, streamId, userId);
+  }
+
+  /**
+   * @return the id of the user who triggered the event, null if not present.
+   */
+  Long initiatorUserId() {
+    return this.initiator != null && this.initiator.getUser() != null ? this.initiator.getUser().getUserId() : null;
+  }
+
+  /**
+   * @return the id of the stream the event has been triggered from, null if not present.
+   */
+  String streamId() {
+    V4Stream stream = null;
+    if (this.sourceEvent instanceof V4MessageSent && ((V4MessageSent) this.sourceEvent).getMessage() != null) {
+      stream = ((V4MessageSent) this.sourceEvent).getMessage().getStream();
+    } else if (this.sourceEvent instanceof V4SymphonyElementsAction) {
+      stream = ((V4SymphonyElementsAction) this.sourceEvent).getStream();
+    } else if (this.sourceEvent instanceof V4UserJoinedRoom) {
+      stream = ((V4UserJoinedRoom) this.sourceEvent).getStream();
+    }
+    return stream != null ? stream.getStreamId() : null;
+  }
+
+  /**
+   * Sets the store of the conversations, done by the activity when processing an event.
+   *
+   * @param conversationStore the conversation store.
+   */
+  void setConversationStore(ConversationStore conversationStore) {
+    this.conversationStore = conversationStore;
+  }
 }
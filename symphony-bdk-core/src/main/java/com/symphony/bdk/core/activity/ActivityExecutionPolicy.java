@@ -0,0 +1,119 @@
+package com.symphony.bdk.core.activity;
+
+import org.apiguardian.api.API;
+
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * An activity execution policy defines how the business logic of an activity is executed, once its matcher has
+ * returned true. It is set when registering the activity in the {@link ActivityRegistry}.
+ * <p>
+ * By default, activities are executed {@link #inline()}, on the thread processing the datafeed event. A long-running
+ * activity can be executed asynchronously, so that it does not delay the processing of the next events.
+ */
+@FunctionalInterface
+@API(status = API.Status.EXPERIMENTAL)
+public interface ActivityExecutionPolicy {
+
+  /**
+   * Executes the activity business logic.
+   *
+   * @param context  the context of the activity, already matched.
+   * @param activity runs {@link AbstractActivity#onActivity(ActivityContext)} for the context.
+   */
+  void execute(ActivityContext<?> context, Runnable activity);
+
+  /**
+   * Returns the default policy, executing activities on the thread processing the datafeed event. This is the only
+   * policy allowing an activity to re-queue the events in DFv2 loop by throwing an
+   * {@link com.symphony.bdk.core.service.datafeed.EventException}.
+   *
+   * @return the inline execution policy.
+   */
+  static ActivityExecutionPolicy inline() {
+    return (context, activity) -> activity.run();
+  }
+
+  /**
+   * Returns a policy executing activities asynchronously, on a bounded thread pool shared by the activities using this
+   * policy. Failures of asynchronous activities are logged, as well as the executions dropped when too many of them are
+   * waiting for a thread of the pool.
+   *
+   * @return the asynchronous execution policy.
+   */
+  static ActivityExecutionPolicy async() {
+    return async(AsyncExecutionPolicy.sharedExecutor());
+  }
+
+  /**
+   * Returns a policy executing activities asynchronously, on the given executor.
+   *
+   * @param executor the executor running the activities.
+   * @return the asynchronous execution policy.
+   */
+  static ActivityExecutionPolicy async(Executor executor) {
+    return new AsyncExecutionPolicy(executor, Integer.MAX_VALUE, null);
+  }
+
+  /**
+   * Returns a policy executing activities asynchronously, with at most {@code maxConcurrency} executions at the same
+   * time. Further executions are queued, without blocking the thread processing the datafeed events. Above 10000 queued
+   * executions, new executions are logged and dropped.
+   *
+   * @param executor       the executor running the activities.
+   * @param maxConcurrency the maximum number of concurrent executions.
+   * @return the bounded asynchronous execution policy.
+   * @throws IllegalArgumentException if the maximum concurrency is not positive.
+   */
+  static ActivityExecutionPolicy bounded(Executor executor, int maxConcurrency) {
+    return new AsyncExecutionPolicy(executor, maxConcurrency, null);
+  }
+
+  /**
+   * Returns a policy executing activities asynchronously, with at most {@code maxConcurrency} executions at the same
+   * time, the executions having the same serialization key running one after the other, in the order of the events.
+   * See {@link #byInitiator()} and {@link #byStream()}.
+   *
+   * @param executor         the executor running the activities.
+   * @param maxConcurrency   the maximum number of concurrent executions.
+   * @param serializationKey returns the serialization key of a context, executions with a null key not being serialized.
+   * @return the bounded asynchronous execution policy.
+   * @throws IllegalArgumentException if the maximum concurrency is not positive.
+   */
+  static ActivityExecutionPolicy bounded(Executor executor, int maxConcurrency,
+      Function<ActivityContext<?>, ?> serializationKey) {
+    return new AsyncExecutionPolicy(executor, maxConcurrency, serializationKey);
+  }
+
+  /**
+   * Same as {@link #bounded(Executor, int, Function)}, at most {@code maxQueued} executions being queued. Further
+   * executions are logged and dropped.
+   *
+   * @param executor         the executor running the activities.
+   * @param maxConcurrency   the maximum number of concurrent executions.
+   * @param serializationKey returns the serialization key of a context, can be null not to serialize the executions.
+   * @param maxQueued        the maximum number of queued executions.
+   * @return the bounded asynchronous execution policy.
+   * @throws IllegalArgumentException if the maximum concurrency or the maximum number of queued executions is not
+   *                                  positive.
+   */
+  static ActivityExecutionPolicy bounded(Executor executor, int maxConcurrency,
+      Function<ActivityContext<?>, ?> serializationKey, int maxQueued) {
+    return new AsyncExecutionPolicy(executor, maxConcurrency, serializationKey, maxQueued);
+  }
+
+  /**
+   * @return a serialization key function returning the id of the user who triggered the activity.
+   */
+  static Function<ActivityContext<?>, ?> byInitiator() {
+    return ActivityContext::initiatorUserId;
+  }
+
+  /**
+   * @return a serialization key function returning the id of the stream the activity has been triggered from.
+   */
+  static Function<ActivityContext<?>, ?> byStream() {
+    return ActivityContext::streamId;
+  }
+}
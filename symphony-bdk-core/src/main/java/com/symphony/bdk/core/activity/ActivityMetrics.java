@@ -0,0 +1,189 @@
+package com.symphony.bdk.core.activity;
+
+import com.symphony.bdk.core.activity.model.ActivityInfo;
+
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Metrics recorded by an activity since its creation: number of processed events and match rate, time spent in the
+ * matcher, execution latency histogram, failures and concurrency.
+ * <p>
+ * Values are read from live counters, so that values read one after the other might not be consistent with each other.
+ *
+ * @see ActivityRegistry#getMetrics()
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public class ActivityMetrics {
+
+  private static final long[] LATENCY_BUCKETS_MILLIS =
+      {1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000, 10_000};
+
+  private final Supplier<ActivityInfo> info;
+
+  private final LongAdder events = new LongAdder();
+  private final LongAdder matches = new LongAdder();
+  private final LongAdder matchingNanos = new LongAdder();
+  private final LongAdder rejections = new LongAdder();
+  private final LongAdder executions = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder executionNanos = new LongAdder();
+  private final AtomicLong maxExecutionNanos = new AtomicLong();
+  private final AtomicLongArray latencyHistogram = new AtomicLongArray(LATENCY_BUCKETS_MILLIS.length + 1);
+  private final AtomicInteger running = new AtomicInteger();
+  private final AtomicInteger maxRunning = new AtomicInteger();
+
+  ActivityMetrics(Supplier<ActivityInfo> info) {
+    this.info = info;
+  }
+
+  /**
+   * @return the info of the activity.
+   */
+  public ActivityInfo getActivityInfo() {
+    return this.info.get();
+  }
+
+  /**
+   * @return the number of events the matcher of the activity has been evaluated for.
+   */
+  public long getEvents() {
+    return this.events.sum();
+  }
+
+  /**
+   * @return the number of events the activity has matched.
+   */
+  public long getMatches() {
+    return this.matches.sum();
+  }
+
+  /**
+   * @return the ratio of matched events, 0 if no event has been processed.
+   */
+  public double getMatchRate() {
+    final long processedEvents = this.getEvents();
+    return processedEvents == 0 ? 0 : (double) this.getMatches() / processedEvents;
+  }
+
+  /**
+   * @return the total time spent evaluating the matcher, including beforeMatcher.
+   */
+  public Duration getMatchingTime() {
+    return Duration.ofNanos(this.matchingNanos.sum());
+  }
+
+  /**
+   * @return the number of matched events whose execution has been rejected by the {@link ActivityRateLimiter}.
+   */
+  public long getRejections() {
+    return this.rejections.sum();
+  }
+
+  /**
+   * @return the number of completed executions of the activity business logic.
+   */
+  public long getExecutions() {
+    return this.executions.sum();
+  }
+
+  /**
+   * @return the number of executions that have thrown an exception.
+   */
+  public long getFailures() {
+    return this.failures.sum();
+  }
+
+  /**
+   * @return the mean execution latency, zero if the activity has not been executed.
+   */
+  public Duration getMeanLatency() {
+    final long completed = this.getExecutions();
+    return completed == 0 ? Duration.ZERO : Duration.ofNanos(this.executionNanos.sum() / completed);
+  }
+
+  /**
+   * @return the maximum execution latency.
+   */
+  public Duration getMaxLatency() {
+    return Duration.ofNanos(this.maxExecutionNanos.get());
+  }
+
+  /**
+   * @return the upper bounds in milliseconds of the latency histogram buckets, the last bucket being unbounded.
+   */
+  public static long[] getLatencyBucketsMillis() {
+    return LATENCY_BUCKETS_MILLIS.clone();
+  }
+
+  /**
+   * @return the number of executions per latency bucket, the last element counting the executions longer than the
+   *     last bucket bound.
+   * @see #getLatencyBucketsMillis()
+   */
+  public long[] getLatencyHistogram() {
+    final long[] histogram = new long[this.latencyHistogram.length()];
+    for (int i = 0; i < histogram.length; i++) {
+      histogram[i] = this.latencyHistogram.get(i);
+    }
+    return histogram;
+  }
+
+  /**
+   * @return the number of executions currently running.
+   */
+  public int getRunning() {
+    return this.running.get();
+  }
+
+  /**
+   * @return the maximum number of executions that have been running at the same time.
+   */
+  public int getMaxRunning() {
+    return this.maxRunning.get();
+  }
+
+  void recordMatching(boolean matched, long nanos) {
+    this.events.increment();
+    if (matched) {
+      this.matches.increment();
+    }
+    this.matchingNanos.add(nanos);
+  }
+
+  void recordRejection() {
+    this.rejections.increment();
+  }
+
+  void recordExecutionStart() {
+    final int current = this.running.incrementAndGet();
+    this.maxRunning.accumulateAndGet(current, Math::max);
+  }
+
+  void recordExecutionEnd(long nanos, boolean failed) {
+    this.running.decrementAndGet();
+    this.executions.increment();
+    if (failed) {
+      this.failures.increment();
+    }
+    this.executionNanos.add(nanos);
+    this.maxExecutionNanos.accumulateAndGet(nanos, Math::max);
+    this.latencyHistogram.incrementAndGet(bucket(TimeUnit.NANOSECONDS.toMillis(nanos)));
+  }
+
+  private static int bucket(long millis) {
+    for (int i = 0; i < LATENCY_BUCKETS_MILLIS.length; i++) {
+      if (millis <= LATENCY_BUCKETS_MILLIS[i]) {
+        return i;
+      }
+    }
+    return LATENCY_BUCKETS_MILLIS.length;
+  }
+}
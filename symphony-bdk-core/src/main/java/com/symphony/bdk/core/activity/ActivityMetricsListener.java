@@ -0,0 +1,51 @@
+package com.symphony.bdk.core.activity;
+
+import com.symphony.bdk.core.activity.model.ActivityInfo;
+
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+
+/**
+ * Interface definition for a callback to be invoked to monitor the activities registered in an
+ * {@link ActivityRegistry}: evaluation of their matcher and execution of their business logic.
+ * <p>
+ * Callbacks are invoked from the threads processing the activities: implementations must be thread-safe and must not
+ * block.
+ *
+ * @see ActivityRegistry#addMetricsListener(ActivityMetricsListener)
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface ActivityMetricsListener {
+
+  /**
+   * Called when the matcher of an activity has been evaluated for an event.
+   *
+   * @param activity     the activity info.
+   * @param matched      true if the activity is going to be executed, false if it did not match or if the matcher
+   *                     failed.
+   * @param matchingTime time taken by {@link AbstractActivity#beforeMatcher(ActivityContext)} and the matcher.
+   */
+  default void onMatched(ActivityInfo activity, boolean matched, Duration matchingTime) {
+  }
+
+  /**
+   * Called when the business logic of an activity has been executed.
+   *
+   * @param activity the activity info.
+   * @param latency  time taken by {@link AbstractActivity#onActivity(ActivityContext)}.
+   * @param failure  the exception thrown by the activity, null if it succeeded.
+   */
+  default void onExecuted(ActivityInfo activity, Duration latency, Throwable failure) {
+  }
+
+  /**
+   * Called after {@link #onExecuted(ActivityInfo, Duration, Throwable)} when the execution of an activity took longer
+   * than the threshold set by {@link ActivityRegistry#setSlowActivityThreshold(Duration)}.
+   *
+   * @param activity the activity info.
+   * @param latency  time taken by {@link AbstractActivity#onActivity(ActivityContext)}.
+   */
+  default void onSlowExecution(ActivityInfo activity, Duration latency) {
+  }
+}
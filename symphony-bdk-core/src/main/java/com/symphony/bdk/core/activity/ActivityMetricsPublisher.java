@@ -0,0 +1,47 @@
+package com.symphony.bdk.core.activity;
+
+import com.symphony.bdk.core.activity.model.ActivityInfo;
+import com.symphony.bdk.core.util.ListenerPublisher;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+
+/**
+ * Publishes the metrics of the activities to the {@link ActivityMetricsListener} registered in the
+ * {@link ActivityRegistry}. An execution taking longer than the slow threshold is logged and reported through
+ * {@link ActivityMetricsListener#onSlowExecution(ActivityInfo, Duration)}.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+class ActivityMetricsPublisher extends ListenerPublisher<ActivityMetricsListener> implements ActivityMetricsListener {
+
+  private volatile Duration slowThreshold;
+
+  public void setSlowThreshold(Duration slowThreshold) {
+    this.slowThreshold = slowThreshold;
+  }
+
+  @Override
+  public void onMatched(ActivityInfo activity, boolean matched, Duration matchingTime) {
+    this.publish(listener -> listener.onMatched(activity, matched, matchingTime));
+  }
+
+  @Override
+  public void onExecuted(ActivityInfo activity, Duration latency, Throwable failure) {
+    this.publish(listener -> listener.onExecuted(activity, latency, failure));
+
+    final Duration threshold = this.slowThreshold;
+    if (threshold != null && latency.compareTo(threshold) > 0) {
+      log.warn("Activity '{}' took {} ms to execute, more than the {} ms threshold", activity.name(),
+          latency.toMillis(), threshold.toMillis());
+      this.onSlowExecution(activity, latency);
+    }
+  }
+
+  @Override
+  public void onSlowExecution(ActivityInfo activity, Duration latency) {
+    this.publish(listener -> listener.onSlowExecution(activity, latency));
+  }
+}
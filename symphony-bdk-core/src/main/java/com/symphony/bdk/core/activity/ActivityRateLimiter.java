@@ -0,0 +1,227 @@
+package com.symphony.bdk.core.activity;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Limits the rate at which activities are executed, per user who triggered them and/or per stream they have been
+ * triggered from. It is set on the {@link ActivityRegistry}, the executions of all the registered activities sharing
+ * the same budget.
+ * <p>
+ * Each limit is a token bucket per key: a bucket holds up to {@code permits} tokens and is refilled by
+ * {@code permits} tokens per {@code period}, an execution taking one token. Buckets are lock-free: a bucket is a single
+ * atomic value, the time at which it will be full again, updated by compare-and-set. Full buckets are evicted each time
+ * the number of keys has doubled, a full bucket being equivalent to a missing one. The number of keys is capped: past
+ * the cap, arbitrary buckets are evicted too, which only makes the limit more lenient for their keys.
+ * <p>
+ * Only the activities whose matcher has matched are rate limited. A rejected execution is not performed and the
+ * rejection callback is called instead, on the thread processing the event.
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public class ActivityRateLimiter {
+
+  private static final int MIN_EVICTION_THRESHOLD = 10_000;
+  private static final int MAX_KEYS = 100_000;
+
+  private final List<Limit> limits;
+  private final Consumer<ActivityContext<?>> rejectionCallback;
+  private final LongSupplier nanoClock;
+
+  private ActivityRateLimiter(List<Limit> limits, Consumer<ActivityContext<?>> rejectionCallback,
+      LongSupplier nanoClock) {
+    this.limits = limits;
+    this.rejectionCallback = rejectionCallback;
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * @return a new {@link ActivityRateLimiterBuilder} instance.
+   */
+  public static ActivityRateLimiterBuilder builder() {
+    return new ActivityRateLimiterBuilder();
+  }
+
+  /**
+   * Takes a token from the buckets of the context keys, calling the rejection callback if one of them is empty.
+   *
+   * @param context the context of an activity about to be executed.
+   * @return true if the activity can be executed.
+   */
+  public boolean tryAcquire(ActivityContext<?> context) {
+    final long now = this.nanoClock.getAsLong();
+    for (Limit limit : this.limits) {
+      if (!limit.tryAcquire(context, now)) {
+        this.reject(context);
+        return false;
+      }
+    }
+    return true;
+  }
+
+  int getTrackedKeys() {
+    return this.limits.stream().mapToInt(limit -> limit.buckets.size()).sum();
+  }
+
+  private void reject(ActivityContext<?> context) {
+    try {
+      this.rejectionCallback.accept(context);
+    } catch (Exception e) {
+      log.warn("Rate limiter rejection callback failed", e);
+    }
+  }
+
+  /**
+   * {@link ActivityRateLimiter} class builder. Accessible via {@link ActivityRateLimiter#builder()}.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public static class ActivityRateLimiterBuilder {
+
+    private final List<Limit> limits = new ArrayList<>();
+    private Consumer<ActivityContext<?>> rejectionCallback = context ->
+        log.debug("Activity execution rejected by the rate limiter, initiator {}",
+            ActivityExecutionPolicy.byInitiator().apply(context));
+    private LongSupplier nanoClock = System::nanoTime;
+
+    /**
+     * Limits the executions triggered by each user.
+     *
+     * @param permits number of executions allowed per period, and maximum burst.
+     * @param period  the period over which the permits are refilled.
+     * @return the builder.
+     */
+    public ActivityRateLimiterBuilder perUser(int permits, @Nonnull Duration period) {
+      return this.limit(ActivityExecutionPolicy.byInitiator(), permits, period);
+    }
+
+    /**
+     * Limits the executions triggered from each stream.
+     *
+     * @param permits number of executions allowed per period, and maximum burst.
+     * @param period  the period over which the permits are refilled.
+     * @return the builder.
+     */
+    public ActivityRateLimiterBuilder perStream(int permits, @Nonnull Duration period) {
+      return this.limit(ActivityExecutionPolicy.byStream(), permits, period);
+    }
+
+    /**
+     * Limits the executions per key, contexts with a null key not being limited.
+     *
+     * @param key     returns the key of a context.
+     * @param permits number of executions allowed per period, and maximum burst.
+     * @param period  the period over which the permits are refilled.
+     * @return the builder.
+     * @throws IllegalArgumentException if the permits or the period are not positive.
+     */
+    public ActivityRateLimiterBuilder limit(@Nonnull Function<ActivityContext<?>, ?> key, int permits,
+        @Nonnull Duration period) {
+      if (permits <= 0 || period.isNegative() || period.isZero()) {
+        throw new IllegalArgumentException("Rate limit permits and period must be positive.");
+      }
+      this.limits.add(new Limit(key, permits, period.toNanos() / permits));
+      return this;
+    }
+
+    /**
+     * Sets the callback called when an execution is rejected, e.g. to warn the user. Logs at debug level by default.
+     *
+     * @param rejectionCallback the callback, receiving the context of the rejected activity.
+     * @return the builder.
+     */
+    public ActivityRateLimiterBuilder onRejected(@Nonnull Consumer<ActivityContext<?>> rejectionCallback) {
+      this.rejectionCallback = rejectionCallback;
+      return this;
+    }
+
+    ActivityRateLimiterBuilder nanoClock(LongSupplier nanoClock) {
+      this.nanoClock = nanoClock;
+      return this;
+    }
+
+    /**
+     * @return a new {@link ActivityRateLimiter} instance.
+     */
+    public ActivityRateLimiter build() {
+      return new ActivityRateLimiter(Collections.unmodifiableList(new ArrayList<>(this.limits)),
+          this.rejectionCallback, this.nanoClock);
+    }
+  }
+
+  @API(status = API.Status.INTERNAL)
+  private static class Limit {
+
+    private final Function<ActivityContext<?>, ?> key;
+    private final long burstNanos;
+    private final long intervalNanos;
+    // by key, the time at which the bucket will be full again
+    private final ConcurrentMap<Object, AtomicLong> buckets = new ConcurrentHashMap<>();
+    // updated under the lock of the limit, the number of keys triggering the next eviction
+    private volatile int evictionThreshold = MIN_EVICTION_THRESHOLD;
+
+    Limit(Function<ActivityContext<?>, ?> key, int permits, long intervalNanos) {
+      this.key = key;
+      this.intervalNanos = Math.max(1, intervalNanos);
+      this.burstNanos = this.intervalNanos * permits;
+    }
+
+    boolean tryAcquire(ActivityContext<?> context, long now) {
+      final Object bucketKey = this.key.apply(context);
+      if (bucketKey == null) {
+        return true;
+      }
+
+      AtomicLong bucket = this.buckets.get(bucketKey);
+      if (bucket == null) {
+        this.evictFullBuckets(now);
+        bucket = this.buckets.computeIfAbsent(bucketKey, k -> new AtomicLong(now));
+      }
+
+      while (true) {
+        final long fullAt = bucket.get();
+        // a bucket full before now holds no more than the burst, nanoTime values being compared by difference
+        final long next = (fullAt - now < 0 ? now : fullAt) + this.intervalNanos;
+        if (next - now > this.burstNanos) {
+          return false;
+        }
+        if (bucket.compareAndSet(fullAt, next)) {
+          return true;
+        }
+      }
+    }
+
+    private void evictFullBuckets(long now) {
+      if (this.buckets.size() < this.evictionThreshold) {
+        return;
+      }
+      synchronized (this) {
+        if (this.buckets.size() < this.evictionThreshold) {
+          return;
+        }
+        // a token taken concurrently from an evicted bucket might be lost, which only makes the limit more lenient
+        this.buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        final Iterator<AtomicLong> buckets = this.buckets.values().iterator();
+        while (this.buckets.size() > MAX_KEYS / 2 && buckets.hasNext()) {
+          buckets.next();
+          buckets.remove();
+        }
+        // the keys are scanned again once their number has doubled, so that the eviction cost is amortized
+        this.evictionThreshold = Math.max(MIN_EVICTION_THRESHOLD, 2 * this.buckets.size());
+      }
+    }
+  }
+}
@@ -3,15 +3,21 @@ package com.symphony.bdk.core.activity;
 import com.symphony.bdk.core.activity.command.CommandActivity;
 import com.symphony.bdk.core.activity.command.SlashCommand;
 import com.symphony.bdk.core.activity.command.HelpCommand;
+import com.symphony.bdk.core.activity.command.ParsedMessageCache;
+import com.symphony.bdk.core.activity.command.SlashCommandRouter;
+import com.symphony.bdk.core.activity.form.FormReplyActivity;
+import com.symphony.bdk.core.activity.form.FormReplyRouter;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
 import com.symphony.bdk.gen.api.model.UserV2;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * This class allows to bind an {@link AbstractActivity} to the Real Time Events source, or Datafeed.
@@ -20,6 +26,10 @@ import java.util.Optional;
  * If an activity to be registered is already existing in the registry, then the old one will be replaced.
  * In case of an activity of type {@link SlashCommand}, it will replace the old one if this latter has the same name and both require bot mention (or both don't).
  * If the activity has /help as name, then it will replace {@link HelpCommand} if it is already registered.
+ * <p>
+ * The {@link SlashCommand} are not subscribed individually to the datafeed: a single listener routes each message to at
+ * most one command, through an index of the command names. Likewise, the {@link FormReplyActivity} declaring a form id
+ * are routed the submissions of their form only, through an index of the form ids.
  */
 @Slf4j
 @API(status = API.Status.STABLE)
@@ -40,6 +50,37 @@ public class ActivityRegistry {
    */
   private final DatafeedLoop datafeedLoop;
 
+  /**
+   * The parsed messages, shared by the command activities so that a message is parsed only once
+   */
+  private final ParsedMessageCache parsedMessageCache = new ParsedMessageCache();
+
+  /**
+   * The router of the slash commands, created and subscribed to the datafeed with the first slash command
+   */
+  private SlashCommandRouter slashCommandRouter;
+
+  /**
+   * The router of the form reply activities declaring a form id, created and subscribed to the datafeed with the first
+   * of them
+   */
+  private FormReplyRouter formReplyRouter;
+
+  /**
+   * Publishes the metrics of the registered activities to the metrics listeners
+   */
+  private final ActivityMetricsPublisher metricsPublisher = new ActivityMetricsPublisher();
+
+  /**
+   * The rate limiter of the registered activities executions, null if not limited
+   */
+  private ActivityRateLimiter rateLimiter;
+
+  /**
+   * The state of the conversations, shared by the multi-step activities
+   */
+  private ConversationStore conversationStore = new InMemoryConversationStore();
+
   public ActivityRegistry(UserV2 botSession, DatafeedLoop datafeedLoop) {
     this.botSession = botSession;
     this.datafeedLoop = datafeedLoop;
@@ -51,6 +92,25 @@ public class ActivityRegistry {
    * @param activity An activity.
    */
   public void register(final AbstractActivity<?, ?> activity) {
+    this.register(activity, ActivityExecutionPolicy.inline());
+  }
+
+  /**
+   * Registers an activity within the registry, its business logic being executed according to the given policy.
+   * For instance, a long-running activity can be executed asynchronously so that it does not delay the other ones:
+   * <pre>
+   * registry.register(reportCommand, ActivityExecutionPolicy.bounded(executor, 4, byInitiator()));
+   * </pre>
+   *
+   * @param activity        An activity.
+   * @param executionPolicy The policy executing the activity once it has matched an event.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public void register(final AbstractActivity<?, ?> activity, final ActivityExecutionPolicy executionPolicy) {
+    activity.setExecutionPolicy(executionPolicy);
+    activity.setMetricsListener(this.metricsPublisher);
+    activity.setRateLimiter(this.rateLimiter);
+    activity.setConversationStore(this.conversationStore);
     this.preProcessActivity(activity);
     this.activityList.add(activity);
   }
@@ -59,6 +119,94 @@ public class ActivityRegistry {
     return new ArrayList<>(activityList);
   }
 
+  /**
+   * Limits the rate at which the registered activities are executed, for instance per user:
+   * <pre>
+   * registry.setRateLimiter(ActivityRateLimiter.builder().perUser(5, Duration.ofSeconds(10)).build());
+   * </pre>
+   * The limiter applies to the activities already registered and to the ones registered afterwards.
+   *
+   * @param rateLimiter the rate limiter, shared by all the activities, null to remove the limit.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public void setRateLimiter(final ActivityRateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+    this.activityList.forEach(activity -> activity.setRateLimiter(rateLimiter));
+  }
+
+  /**
+   * @return the store of the conversations, available to the activities from {@link ActivityContext#getConversation()}.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public ConversationStore getConversationStore() {
+    return this.conversationStore;
+  }
+
+  /**
+   * Replaces the store of the conversations, an {@link InMemoryConversationStore} by default. The store applies to the
+   * activities already registered and to the ones registered afterwards.
+   *
+   * @param conversationStore the conversation store, e.g. disk-backed.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public void setConversationStore(final ConversationStore conversationStore) {
+    this.conversationStore = conversationStore;
+    this.activityList.forEach(activity -> activity.setConversationStore(conversationStore));
+  }
+
+  /**
+   * Returns the metrics of the registered activities, in order of registration. For instance, the activities taking
+   * most of the datafeed events processing time can be found by comparing their matching time and execution latency.
+   *
+   * @return the metrics of each registered activity.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public List<ActivityMetrics> getMetrics() {
+    return this.activityList.stream().map(AbstractActivity::getMetrics).collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the metrics recorded by an activity.
+   *
+   * @param activity An activity.
+   * @return the metrics of the activity.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public ActivityMetrics getMetrics(final AbstractActivity<?, ?> activity) {
+    return activity.getMetrics();
+  }
+
+  /**
+   * Registers a listener notified of the matching and execution of the registered activities.
+   *
+   * @param listener the metrics listener, e.g. publishing them to a monitoring system.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public void addMetricsListener(final ActivityMetricsListener listener) {
+    this.metricsPublisher.add(listener);
+  }
+
+  /**
+   * Removes a metrics listener.
+   *
+   * @param listener the metrics listener to be removed.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public void removeMetricsListener(final ActivityMetricsListener listener) {
+    this.metricsPublisher.remove(listener);
+  }
+
+  /**
+   * Sets the latency above which the execution of an activity is logged as a warning and reported to the
+   * {@link ActivityMetricsListener#onSlowExecution(com.symphony.bdk.core.activity.model.ActivityInfo, Duration)}.
+   *
+   * @param threshold the slow execution threshold, null to disable the detection (default).
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public void setSlowActivityThreshold(final Duration threshold) {
+    this.metricsPublisher.setSlowThreshold(threshold);
+  }
+
   private void preProcessActivity(AbstractActivity<?, ?> activity) {
 
     Optional<AbstractActivity<?, ?>> act = this.activityList.stream()
@@ -66,20 +214,57 @@ public class ActivityRegistry {
         .findFirst();
 
     act.ifPresent(abstractActivity -> {
-      abstractActivity.bindToRealTimeEventsSource(this.datafeedLoop::unsubscribe);
+      if (abstractActivity instanceof SlashCommand) {
+        this.slashCommandRouter.remove((SlashCommand) abstractActivity);
+      } else if (!this.removeRoutedFormReply(abstractActivity)) {
+        abstractActivity.bindToRealTimeEventsSource(this.datafeedLoop::unsubscribe);
+      }
       this.activityList.remove(abstractActivity);
       log.debug("One activity '{}' has been removed/unsubscribed in order to be replaced",
           abstractActivity.getInfo().name());
     });
 
+    activity.initContextFactory();
+
     // a command activity (potentially) needs the bot display name in order to parse the message text content
     // this way of passing this information is not very clean though, we should find something
     if (activity instanceof CommandActivity) {
       ((CommandActivity<?>) activity).setBotDisplayName(this.botSession.getDisplayName());
+      ((CommandActivity<?>) activity).setParsedMessageCache(this.parsedMessageCache);
+    }
+
+    if (activity instanceof SlashCommand) {
+      this.getSlashCommandRouter().add((SlashCommand) activity);
+      return;
+    }
+
+    if (activity instanceof FormReplyActivity && FormReplyRouter.isRoutable((FormReplyActivity<?>) activity)) {
+      this.getFormReplyRouter().add((FormReplyActivity<?>) activity);
+      return;
     }
 
     // make the activity to subscribe to its expected real-time event
     activity.bindToRealTimeEventsSource(this.datafeedLoop::subscribe);
   }
-}
 
+  private SlashCommandRouter getSlashCommandRouter() {
+    if (this.slashCommandRouter == null) {
+      this.slashCommandRouter = new SlashCommandRouter(this.botSession.getDisplayName(), this.parsedMessageCache);
+      this.datafeedLoop.subscribe(this.slashCommandRouter.getListener());
+    }
+    return this.slashCommandRouter;
+  }
+
+  private boolean removeRoutedFormReply(AbstractActivity<?, ?> activity) {
+    return activity instanceof FormReplyActivity && this.formReplyRouter != null
+        && this.formReplyRouter.remove((FormReplyActivity<?>) activity);
+  }
+
+  private FormReplyRouter getFormReplyRouter() {
+    if (this.formReplyRouter == null) {
+      this.formReplyRouter = new FormReplyRouter();
+      this.datafeedLoop.subscribe(this.formReplyRouter.getListener());
+    }
+    return this.formReplyRouter;
+  }
+}
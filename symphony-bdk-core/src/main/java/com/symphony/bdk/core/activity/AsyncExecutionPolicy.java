@@ -0,0 +1,194 @@
+package com.symphony.bdk.core.activity;
+
+import com.symphony.bdk.core.util.DaemonExecutors;
+import com.symphony.bdk.http.api.tracing.MDCUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * Asynchronous {@link ActivityExecutionPolicy}, optionally bounded and serialized by key.
+ * <p>
+ * Executions are queued when the maximum concurrency is reached or when an execution with the same key is running.
+ * A completed execution hands its slot over to the next queued execution, so that the executor is never blocked.
+ * An execution rejected by the executor is logged and dropped, the next queued execution taking over its slot.
+ * <p>
+ * At most {@code maxQueued} executions are queued, further executions being logged and dropped as well. The shared
+ * executor also bounds the number of executions waiting for one of its threads.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+class AsyncExecutionPolicy implements ActivityExecutionPolicy {
+
+  static final int DEFAULT_MAX_QUEUED = 10_000;
+
+  private static final int SHARED_EXECUTOR_MAX_THREADS = Math.max(8, 2 * Runtime.getRuntime().availableProcessors());
+
+  private final Executor executor;
+  private final int maxConcurrency;
+  private final Function<ActivityContext<?>, ?> serializationKey;
+  private final int maxQueued;
+
+  // guarded by this, the executions waiting for a slot and, by key, the executions waiting for the previous one
+  private final Deque<Execution> ready = new ArrayDeque<>();
+  private final Map<Object, Deque<Execution>> waitingByKey = new HashMap<>();
+  private int running;
+  // total number of executions in the deques above
+  private int queued;
+
+  AsyncExecutionPolicy(Executor executor, int maxConcurrency, Function<ActivityContext<?>, ?> serializationKey) {
+    this(executor, maxConcurrency, serializationKey, DEFAULT_MAX_QUEUED);
+  }
+
+  AsyncExecutionPolicy(Executor executor, int maxConcurrency, Function<ActivityContext<?>, ?> serializationKey,
+      int maxQueued) {
+    if (maxConcurrency <= 0) {
+      throw new IllegalArgumentException("The maximum concurrency must be positive, got " + maxConcurrency);
+    }
+    if (maxQueued <= 0) {
+      throw new IllegalArgumentException("The maximum number of queued executions must be positive, got " + maxQueued);
+    }
+    this.executor = executor;
+    this.maxConcurrency = maxConcurrency;
+    this.serializationKey = serializationKey;
+    this.maxQueued = maxQueued;
+  }
+
+  @Override
+  public void execute(ActivityContext<?> context, Runnable activity) {
+    final Runnable task = MDCUtils.wrap(activity);
+    if (this.maxConcurrency == Integer.MAX_VALUE && this.serializationKey == null) {
+      this.dispatch(() -> run(task));
+      return;
+    }
+
+    final Object key = this.serializationKey != null ? this.serializationKey.apply(context) : null;
+    final Execution execution = new Execution(key, task);
+    synchronized (this) {
+      final Deque<Execution> waiting = execution.key != null ? this.waitingByKey.get(execution.key) : null;
+      final boolean mustWait = waiting != null || this.running >= this.maxConcurrency;
+      if (mustWait && this.queued >= this.maxQueued) {
+        log.warn("Activity execution dropped, {} executions are already queued", this.queued);
+        return;
+      }
+      if (waiting != null) {
+        waiting.add(execution);
+        this.queued++;
+        return;
+      }
+      if (execution.key != null) {
+        // the key is now busy until the execution and the ones queued after it complete
+        this.waitingByKey.put(execution.key, new ArrayDeque<>());
+      }
+      if (mustWait) {
+        this.ready.add(execution);
+        this.queued++;
+        return;
+      }
+      this.running++;
+    }
+    this.submit(execution);
+  }
+
+  synchronized int getRunning() {
+    return this.running;
+  }
+
+  synchronized int getQueued() {
+    return this.queued;
+  }
+
+  private void submit(Execution execution) {
+    Execution next = execution;
+    // a rejected execution releases its slot to the next queued one, iteratively not to recurse through the queue
+    while (next != null && !this.dispatch(this.task(next))) {
+      next = this.release(next);
+    }
+  }
+
+  private Runnable task(Execution execution) {
+    return () -> {
+      try {
+        run(execution.task);
+      } finally {
+        this.complete(execution);
+      }
+    };
+  }
+
+  private boolean dispatch(Runnable task) {
+    try {
+      this.executor.execute(task);
+      return true;
+    } catch (RejectedExecutionException e) {
+      log.warn("Activity execution rejected by the executor, it is dropped", e);
+      return false;
+    }
+  }
+
+  private void complete(Execution execution) {
+    final Execution next = this.release(execution);
+    if (next != null) {
+      this.submit(next);
+    }
+  }
+
+  /**
+   * Releases the slot and the key of a completed or dropped execution.
+   *
+   * @return the next execution taking over the slot, null if none is queued.
+   */
+  private Execution release(Execution execution) {
+    synchronized (this) {
+      if (execution.key != null) {
+        final Deque<Execution> waiting = this.waitingByKey.get(execution.key);
+        final Execution nextOfKey = waiting.poll();
+        if (nextOfKey == null) {
+          this.waitingByKey.remove(execution.key);
+        } else {
+          this.ready.add(nextOfKey);
+        }
+      }
+      final Execution next = this.ready.poll();
+      if (next == null) {
+        this.running--;
+      } else {
+        this.queued--;
+      }
+      return next;
+    }
+  }
+
+  private static void run(Runnable task) {
+    try {
+      task.run();
+    } catch (RuntimeException e) {
+      // events cannot be re-queued once the datafeed thread has moved on
+      log.warn("Asynchronous activity execution failed.", e);
+    }
+  }
+
+  static Executor sharedExecutor() {
+    return DaemonExecutors.sharedPool("SymphonyBdk_Activity", SHARED_EXECUTOR_MAX_THREADS, DEFAULT_MAX_QUEUED);
+  }
+
+  @API(status = API.Status.INTERNAL)
+  private static class Execution {
+
+    private final Object key;
+    private final Runnable task;
+
+    Execution(Object key, Runnable task) {
+      this.key = key;
+      this.task = task;
+    }
+  }
+}
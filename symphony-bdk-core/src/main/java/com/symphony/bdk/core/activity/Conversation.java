@@ -0,0 +1,69 @@
+package com.symphony.bdk.core.activity;
+
+import org.apiguardian.api.API;
+
+import java.util.Optional;
+
+/**
+ * The conversation between a user and the bot in a stream, whose state is kept in a {@link ConversationStore}.
+ * Obtained from {@link ActivityContext#getConversation()}.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public class Conversation {
+
+  private final ConversationStore store;
+  private final String streamId;
+  private final Long userId;
+
+  Conversation(ConversationStore store, String streamId, Long userId) {
+    this.store = store;
+    this.streamId = streamId;
+    this.userId = userId;
+  }
+
+  /**
+   * @return the stream of the conversation.
+   */
+  public String getStreamId() {
+    return this.streamId;
+  }
+
+  /**
+   * @return the user of the conversation.
+   */
+  public Long getUserId() {
+    return this.userId;
+  }
+
+  /**
+   * @return the state of the conversation, empty if the conversation has not been started or has expired.
+   */
+  public Optional<Object> getState() {
+    return this.store.get(this.streamId, this.userId);
+  }
+
+  /**
+   * @param type the expected type of the state.
+   * @param <T>  the type of the state.
+   * @return the state of the conversation, empty if there is none or if it is not of the expected type.
+   */
+  public <T> Optional<T> getState(Class<T> type) {
+    return this.getState().filter(type::isInstance).map(type::cast);
+  }
+
+  /**
+   * Sets the state of the conversation, starting it if needed.
+   *
+   * @param state the conversation state.
+   */
+  public void setState(Object state) {
+    this.store.put(this.streamId, this.userId, state);
+  }
+
+  /**
+   * Ends the conversation, removing its state.
+   */
+  public void end() {
+    this.store.remove(this.streamId, this.userId);
+  }
+}
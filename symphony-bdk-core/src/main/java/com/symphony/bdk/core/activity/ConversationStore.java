@@ -0,0 +1,41 @@
+package com.symphony.bdk.core.activity;
+
+import org.apiguardian.api.API;
+
+import java.util.Optional;
+
+/**
+ * Stores the state of the conversations between the users and the bot, keyed by stream and user. A conversation state
+ * is kept between the events processed by multi-step activities, see {@link ActivityContext#getConversation()}.
+ * <p>
+ * Implementations must be thread-safe and must bound the number of stored conversations, since users can abandon
+ * conversations at any step. The default implementation is the {@link InMemoryConversationStore}, other
+ * implementations (e.g. disk-backed, or shared by several bot instances) can be set on the {@link ActivityRegistry}.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface ConversationStore {
+
+  /**
+   * @param streamId the stream of the conversation.
+   * @param userId   the user of the conversation.
+   * @return the state of the conversation, empty if there is no conversation or if it has expired.
+   */
+  Optional<Object> get(String streamId, Long userId);
+
+  /**
+   * Sets the state of a conversation, starting it if needed.
+   *
+   * @param streamId the stream of the conversation.
+   * @param userId   the user of the conversation.
+   * @param state    the conversation state.
+   */
+  void put(String streamId, Long userId, Object state);
+
+  /**
+   * Ends a conversation, removing its state.
+   *
+   * @param streamId the stream of the conversation.
+   * @param userId   the user of the conversation.
+   */
+  void remove(String streamId, Long userId);
+}
@@ -0,0 +1,145 @@
+package com.symphony.bdk.core.activity;
+
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link ConversationStore} keeping the conversations in memory, bounded in time and size: a conversation expires when
+ * it has not been accessed for the time to live, and the least recently accessed conversations are evicted when the
+ * maximum number of conversations is reached.
+ * <p>
+ * Conversations are kept in access order, so that expired conversations are the oldest ones and are evicted in constant
+ * amortized time when conversations are stored.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public class InMemoryConversationStore implements ConversationStore {
+
+  private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(30);
+  private static final int DEFAULT_MAX_SIZE = 10_000;
+
+  private final long timeToLiveNanos;
+  private final LongSupplier nanoClock;
+
+  // guarded by this, access ordered
+  private final LinkedHashMap<Key, Entry> conversations;
+
+  /**
+   * Creates a store whose conversations expire after 30 minutes of inactivity, with at most 10000 conversations.
+   */
+  public InMemoryConversationStore() {
+    this(DEFAULT_TIME_TO_LIVE, DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * @param timeToLive time after which a conversation not accessed expires.
+   * @param maxSize    maximum number of conversations, the least recently accessed ones being evicted.
+   * @throws IllegalArgumentException if the time to live or the maximum size are not positive.
+   */
+  public InMemoryConversationStore(Duration timeToLive, int maxSize) {
+    this(timeToLive, maxSize, System::nanoTime);
+  }
+
+  InMemoryConversationStore(Duration timeToLive, int maxSize, LongSupplier nanoClock) {
+    if (timeToLive.isNegative() || timeToLive.isZero() || maxSize <= 0) {
+      throw new IllegalArgumentException("Conversation time to live and maximum size must be positive.");
+    }
+    this.timeToLiveNanos = timeToLive.toNanos();
+    this.nanoClock = nanoClock;
+    this.conversations = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+        return this.size() > maxSize;
+      }
+    };
+  }
+
+  @Override
+  public synchronized Optional<Object> get(String streamId, Long userId) {
+    final long now = this.nanoClock.getAsLong();
+    final Key key = new Key(streamId, userId);
+    final Entry entry = this.conversations.get(key);
+    if (entry == null) {
+      return Optional.empty();
+    }
+    if (entry.isExpired(now, this.timeToLiveNanos)) {
+      this.conversations.remove(key);
+      return Optional.empty();
+    }
+    entry.lastAccess = now;
+    return Optional.of(entry.state);
+  }
+
+  @Override
+  public synchronized void put(String streamId, Long userId, Object state) {
+    final long now = this.nanoClock.getAsLong();
+    this.evictExpired(now);
+    this.conversations.put(new Key(streamId, userId), new Entry(Objects.requireNonNull(state), now));
+  }
+
+  @Override
+  public synchronized void remove(String streamId, Long userId) {
+    this.conversations.remove(new Key(streamId, userId));
+  }
+
+  /**
+   * @return the number of stored conversations, including the expired ones not evicted yet.
+   */
+  public synchronized int size() {
+    return this.conversations.size();
+  }
+
+  private void evictExpired(long now) {
+    final Iterator<Entry> eldestFirst = this.conversations.values().iterator();
+    while (eldestFirst.hasNext() && eldestFirst.next().isExpired(now, this.timeToLiveNanos)) {
+      eldestFirst.remove();
+    }
+  }
+
+  @API(status = API.Status.INTERNAL)
+  private static class Key {
+
+    private final String streamId;
+    private final Long userId;
+
+    Key(String streamId, Long userId) {
+      this.streamId = streamId;
+      this.userId = userId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      Key that = (Key) o;
+      return Objects.equals(streamId, that.streamId) && Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(streamId, userId);
+    }
+  }
+
+  @API(status = API.Status.INTERNAL)
+  private static class Entry {
+
+    private final Object state;
+    private long lastAccess;
+
+    Entry(Object state, long lastAccess) {
+      this.state = state;
+      this.lastAccess = lastAccess;
+    }
+
+    boolean isExpired(long now, long timeToLiveNanos) {
+      return now - this.lastAccess > timeToLiveNanos;
+    }
+  }
+}
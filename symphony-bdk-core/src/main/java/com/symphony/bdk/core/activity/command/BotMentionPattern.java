@@ -0,0 +1,52 @@
+package com.symphony.bdk.core.activity.command;
+
+import org.apiguardian.api.API;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Pattern depending on the bot display name, compiled once and only compiled again when the display name changes.
+ */
+@API(status = API.Status.INTERNAL)
+class BotMentionPattern {
+
+  private final Function<String, Pattern> compiler;
+
+  // display name and pattern compiled for it, replaced together
+  private volatile Compiled compiled;
+
+  /**
+   * @param compiler compiles the pattern for a given bot display name.
+   */
+  BotMentionPattern(Function<String, Pattern> compiler) {
+    this.compiler = compiler;
+  }
+
+  /**
+   * @param botDisplayName the current bot display name.
+   * @return the pattern compiled for the display name.
+   */
+  Pattern get(String botDisplayName) {
+    final Compiled current = this.compiled;
+    if (current != null && Objects.equals(current.botDisplayName, botDisplayName)) {
+      return current.pattern;
+    }
+    final Compiled recompiled = new Compiled(botDisplayName, this.compiler.apply(botDisplayName));
+    this.compiled = recompiled;
+    return recompiled.pattern;
+  }
+
+  @API(status = API.Status.INTERNAL)
+  private static class Compiled {
+
+    private final String botDisplayName;
+    private final Pattern pattern;
+
+    Compiled(String botDisplayName, Pattern pattern) {
+      this.botDisplayName = botDisplayName;
+      this.pattern = pattern;
+    }
+  }
+}
@@ -6,7 +6,6 @@ import com.symphony.bdk.core.activity.AbstractActivity;
 import com.symphony.bdk.core.activity.exception.FatalActivityExecutionException;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
-import com.symphony.bdk.core.service.message.util.PresentationMLParser;
 import com.symphony.bdk.gen.api.model.V4Initiator;
 import com.symphony.bdk.gen.api.model.V4MessageSent;
 
@@ -29,6 +28,11 @@ public abstract class CommandActivity<C extends CommandContext> extends Abstract
    */
   @Getter @Setter private String botDisplayName;
 
+  /**
+   * The cache of the parsed messages, shared with the other command activities of the same registry
+   */
+  @Setter private ParsedMessageCache parsedMessageCache;
+
   /**
    * The dedicated {@link RealTimeEventListener} for the activity
    */
@@ -50,13 +54,24 @@ public abstract class CommandActivity<C extends CommandContext> extends Abstract
     bindRealTimeListener(realTimeEventsSource, listener);
   }
 
+  /**
+   * Processes an event routed by the {@link SlashCommandRouter}, the activity not being subscribed itself.
+   */
+  void processRoutedEvent(V4Initiator initiator, V4MessageSent event) {
+    this.processEvent(initiator, event);
+  }
+
   /**
    * {@inheritDoc}
    */
   protected void beforeMatcher(C context) {
+    // the message is only parsed once for all the activities of the registry
+    final ParsedMessage parsedMessage = this.parsedMessageCache != null
+        ? this.parsedMessageCache.get(context.getSourceEvent())
+        : new ParsedMessage(context.getSourceEvent());
+    context.setParsedMessage(parsedMessage);
     try {
-      context.setTextContent(
-          PresentationMLParser.getTextContent(context.getSourceEvent().getMessage().getMessage()));
+      context.setTextContent(parsedMessage.getTextContent());
     } catch (PresentationMLParserException e) {
       throw new FatalActivityExecutionException(this.getInfo(), "Unable to parse presentationML", e);
     }
@@ -4,10 +4,15 @@ import com.symphony.bdk.core.activity.ActivityContext;
 import com.symphony.bdk.gen.api.model.V4Initiator;
 import com.symphony.bdk.gen.api.model.V4MessageSent;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.apiguardian.api.API;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.regex.Pattern;
+
 /**
  * Default implementation of the {@link ActivityContext} handled by the {@link CommandActivity}.
  */
@@ -19,6 +24,17 @@ public class CommandContext extends ActivityContext<V4MessageSent> {
   /** Raw text content of the user command */
   private String textContent;
 
+  /** Parsed content of the user command, shared by all the command activities processing the same message */
+  private ParsedMessage parsedMessage;
+
+  /** Arguments of a parameterized slash command (e.g. '/gif {category}'), by name */
+  private Map<String, String> arguments = Collections.emptyMap();
+
+  /** Last pattern matched against the text content, so that the activity matcher does not match it again */
+  @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) private Pattern matchedPattern;
+  @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) private String matchedText;
+  @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) private boolean matches;
+
   /** Shortcut to the command streamId value issued form the {@link V4MessageSent} event source */
   private final String streamId;
 
@@ -30,4 +46,18 @@ public class CommandContext extends ActivityContext<V4MessageSent> {
     this.streamId = eventSource.getMessage().getStream().getStreamId();
     this.messageId = eventSource.getMessage().getMessageId();
   }
+
+  void setPatternMatch(Pattern pattern, boolean matches) {
+    this.matchedPattern = pattern;
+    this.matchedText = this.textContent;
+    this.matches = matches;
+  }
+
+  /**
+   * @return whether the text content matches the pattern, null if it has not been matched against it yet.
+   */
+  Boolean getPatternMatch(Pattern pattern) {
+    // the text content might have been changed since it has been matched
+    return pattern == this.matchedPattern && this.textContent == this.matchedText ? this.matches : null;
+  }
 }
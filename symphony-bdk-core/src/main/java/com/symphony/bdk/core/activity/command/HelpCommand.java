@@ -6,11 +6,14 @@ import com.symphony.bdk.core.activity.model.ActivityInfo;
 import com.symphony.bdk.core.activity.model.ActivityType;
 import com.symphony.bdk.core.service.message.MessageService;
 import com.symphony.bdk.core.service.message.model.Message;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
 
 import org.apiguardian.api.API;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -26,6 +29,7 @@ public class HelpCommand extends PatternCommandActivity<CommandContext> {
   private static final String DEFAULT_DESCRIPTION = "List available commands";
   private final ActivityRegistry activityRegistry;
   private final MessageService messageService;
+  private final BotMentionPattern pattern = new BotMentionPattern(HelpCommand::compilePattern);
 
   public HelpCommand(@Nonnull ActivityRegistry activityRegistry, @Nonnull MessageService messageService) {
     this.activityRegistry = activityRegistry;
@@ -37,7 +41,22 @@ public class HelpCommand extends PatternCommandActivity<CommandContext> {
    */
   @Override
   protected Pattern pattern() {
-    final String botMention = "@" + this.getBotDisplayName() + " ";
+    return this.pattern.get(this.getBotDisplayName());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The command pattern is compiled for the new display name.
+   */
+  @Override
+  public void setBotDisplayName(String botDisplayName) {
+    super.setBotDisplayName(botDisplayName);
+    this.pattern();
+  }
+
+  private static Pattern compilePattern(String botDisplayName) {
+    final String botMention = "@" + botDisplayName + " ";
     return Pattern.compile("^" + botMention + HELP_COMMAND + "$");
   }
 
@@ -73,6 +92,14 @@ public class HelpCommand extends PatternCommandActivity<CommandContext> {
         .description(DEFAULT_DESCRIPTION);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected BiFunction<V4Initiator, V4MessageSent, CommandContext> contextFactory() {
+    return CommandContext::new;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) { return true; }
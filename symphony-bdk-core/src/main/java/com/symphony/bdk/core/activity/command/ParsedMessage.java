@@ -0,0 +1,126 @@
+package com.symphony.bdk.core.activity.command;
+
+import com.symphony.bdk.core.service.message.exception.MessageParserException;
+import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
+import com.symphony.bdk.core.service.message.util.MessageParser;
+import com.symphony.bdk.core.service.message.util.PresentationMLParser;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+
+import org.apiguardian.api.API;
+
+import java.util.List;
+
+/**
+ * Content of a {@link V4MessageSent} event, parsed lazily and only once: the same instance is shared by all the
+ * {@link CommandActivity} processing the event.
+ * <p>
+ * Parsing failures are also kept, so that a message that cannot be parsed is not parsed again by each activity.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public class ParsedMessage {
+
+  private final V4MessageSent sourceEvent;
+
+  // guarded by this, the parsing result or failure of each content
+  private String textContent;
+  private PresentationMLParserException textContentFailure;
+  private List<Long> mentions;
+  private List<String> hashtags;
+  private List<String> cashtags;
+  private MessageParserException dataFailure;
+
+  public ParsedMessage(V4MessageSent sourceEvent) {
+    this.sourceEvent = sourceEvent;
+  }
+
+  /**
+   * @return the event the message content is extracted from.
+   */
+  public V4MessageSent getSourceEvent() {
+    return this.sourceEvent;
+  }
+
+  /**
+   * @return the trimmed text content of the message, parsed from its PresentationML.
+   * @throws PresentationMLParserException if the PresentationML of the message cannot be parsed.
+   * @see PresentationMLParser#getTextContent(String)
+   */
+  public synchronized String getTextContent() throws PresentationMLParserException {
+    if (this.textContent == null && this.textContentFailure == null) {
+      try {
+        this.textContent = PresentationMLParser.getTextContent(this.getMessage().getMessage());
+      } catch (PresentationMLParserException e) {
+        this.textContentFailure = e;
+      }
+    }
+    if (this.textContentFailure != null) {
+      throw this.textContentFailure;
+    }
+    return this.textContent;
+  }
+
+  /**
+   * @return the ids of the users mentioned in the message.
+   * @throws MessageParserException if the data of the message cannot be parsed.
+   * @see MessageParser#getMentions(V4Message)
+   */
+  public synchronized List<Long> getMentions() throws MessageParserException {
+    this.checkDataFailure();
+    if (this.mentions == null) {
+      try {
+        this.mentions = MessageParser.getMentions(this.getMessage());
+      } catch (MessageParserException e) {
+        this.dataFailure = e;
+        throw e;
+      }
+    }
+    return this.mentions;
+  }
+
+  /**
+   * @return the hashtags of the message.
+   * @throws MessageParserException if the data of the message cannot be parsed.
+   * @see MessageParser#getHashtags(V4Message)
+   */
+  public synchronized List<String> getHashtags() throws MessageParserException {
+    this.checkDataFailure();
+    if (this.hashtags == null) {
+      try {
+        this.hashtags = MessageParser.getHashtags(this.getMessage());
+      } catch (MessageParserException e) {
+        this.dataFailure = e;
+        throw e;
+      }
+    }
+    return this.hashtags;
+  }
+
+  /**
+   * @return the cashtags of the message.
+   * @throws MessageParserException if the data of the message cannot be parsed.
+   * @see MessageParser#getCashtags(V4Message)
+   */
+  public synchronized List<String> getCashtags() throws MessageParserException {
+    this.checkDataFailure();
+    if (this.cashtags == null) {
+      try {
+        this.cashtags = MessageParser.getCashtags(this.getMessage());
+      } catch (MessageParserException e) {
+        this.dataFailure = e;
+        throw e;
+      }
+    }
+    return this.cashtags;
+  }
+
+  private V4Message getMessage() {
+    return this.sourceEvent.getMessage();
+  }
+
+  private void checkDataFailure() throws MessageParserException {
+    if (this.dataFailure != null) {
+      throw this.dataFailure;
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.symphony.bdk.core.activity.command;
+
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+
+import org.apiguardian.api.API;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the {@link ParsedMessage} of the last received messages, so that the {@link CommandActivity} registered in
+ * the same {@link com.symphony.bdk.core.activity.ActivityRegistry} parse each message only once.
+ * <p>
+ * The cache is bounded, several messages being processed at the same time when the datafeed events are dispatched in
+ * parallel. The least recently used entries are evicted first.
+ */
+@API(status = API.Status.INTERNAL)
+public class ParsedMessageCache {
+
+  private static final int DEFAULT_MAX_SIZE = 256;
+
+  // guarded by this, access ordered
+  private final Map<String, ParsedMessage> parsedMessages;
+
+  public ParsedMessageCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  public ParsedMessageCache(int maxSize) {
+    this.parsedMessages = new LinkedHashMap<String, ParsedMessage>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, ParsedMessage> eldest) {
+        return this.size() > maxSize;
+      }
+    };
+  }
+
+  /**
+   * Returns the parsed content of a message, shared by all the activities processing the same event.
+   *
+   * @param event the message sent event.
+   * @return the cached {@link ParsedMessage}, or a new one if the message has not been received yet.
+   */
+  public synchronized ParsedMessage get(V4MessageSent event) {
+    final String messageId = event.getMessage() != null ? event.getMessage().getMessageId() : null;
+    if (messageId == null) {
+      return new ParsedMessage(event);
+    }
+    final ParsedMessage parsedMessage = this.parsedMessages.get(messageId);
+    // activities receive the same event instance, a re-delivered event is parsed again as it might have changed
+    if (parsedMessage != null && parsedMessage.getSourceEvent() == event) {
+      return parsedMessage;
+    }
+    final ParsedMessage newParsedMessage = new ParsedMessage(event);
+    this.parsedMessages.put(messageId, newParsedMessage);
+    return newParsedMessage;
+  }
+
+  synchronized int size() {
+    return this.parsedMessages.size();
+  }
+}
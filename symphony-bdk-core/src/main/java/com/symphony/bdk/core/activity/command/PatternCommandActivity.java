@@ -22,14 +22,22 @@ public abstract class PatternCommandActivity<C extends CommandContext> extends C
   @Override
   protected void beforeMatcher(C context) {
     super.beforeMatcher(context);
-    final Matcher matcher = this.pattern().matcher(context.getTextContent());
-    if (matcher.matches()) {
+    final Pattern pattern = this.pattern();
+    final Matcher matcher = pattern.matcher(context.getTextContent());
+    final boolean matches = matcher.matches();
+    // the activity matcher reuses this result instead of matching the text content again
+    context.setPatternMatch(pattern, matches);
+    if (matches) {
       this.prepareContext(context, matcher);
     }
   }
 
   @Override
   public ActivityMatcher<C> matcher() {
-    return c -> this.pattern().matcher(c.getTextContent()).matches();
+    return c -> {
+      final Pattern pattern = this.pattern();
+      final Boolean matches = c.getPatternMatch(pattern);
+      return matches != null ? matches : pattern.matcher(c.getTextContent()).matches();
+    };
   }
 }
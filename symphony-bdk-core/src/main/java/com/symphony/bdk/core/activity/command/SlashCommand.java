@@ -8,19 +8,34 @@ import com.symphony.bdk.gen.api.model.V4MessageSent;
 import org.apache.commons.lang3.StringUtils;
 import org.apiguardian.api.API;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import javax.annotation.Nonnull;
 
 /**
  * A "slash" command if the most basic action that can be performed by an end-user through the chat.
+ * <p>
+ * The command name can contain arguments, words between curly braces (ex: '/gif {category}'). An argument matches
+ * a single word of the message, its value being available from {@link CommandContext#getArguments()}.
  */
 @API(status = API.Status.EXPERIMENTAL)
 public class SlashCommand extends PatternCommandActivity<CommandContext> {
 
+  private static final String WORD_SEPARATOR = " ";
+  private static final Pattern ARGUMENT = Pattern.compile("\\{([a-zA-Z][a-zA-Z0-9]*)}");
+
   private final String slashCommandName;
+  private final List<String> argumentNames;
+  private final BotMentionPattern pattern = new BotMentionPattern(this::compilePattern);
   private final boolean requiresBotMention;
   private final Consumer<CommandContext> callback;
   private final String description;
@@ -41,7 +56,7 @@ public class SlashCommand extends PatternCommandActivity<CommandContext> {
    * @param slashCommandName   Identifier of the command (ex: '/gif' or 'gif').
    * @param requiresBotMention Indicates whether the bot has to be mentioned in order to trigger the command.
    * @param callback           Callback to be processed when command is detected.
-   * @throws IllegalArgumentException if command name if empty.
+   * @throws IllegalArgumentException if command name if empty or if an argument name is used twice.
    */
   public static SlashCommand slash(@Nonnull String slashCommandName, boolean requiresBotMention,
       @Nonnull Consumer<CommandContext> callback) {
@@ -86,6 +101,7 @@ public class SlashCommand extends PatternCommandActivity<CommandContext> {
     }
 
     this.slashCommandName = slashCommandName;
+    this.argumentNames = argumentNames(slashCommandName);
     this.requiresBotMention = requiresBotMention;
     this.callback = callback;
     this.description = description;
@@ -93,8 +109,73 @@ public class SlashCommand extends PatternCommandActivity<CommandContext> {
 
   @Override
   public Pattern pattern() {
-    final String botMention = this.requiresBotMention ? "@" + this.getBotDisplayName() + " " : "";
-    return Pattern.compile("^" + botMention + this.slashCommandName + "$");
+    return this.pattern.get(this.getBotDisplayName());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The command pattern is compiled for the new display name.
+   */
+  @Override
+  public void setBotDisplayName(String botDisplayName) {
+    super.setBotDisplayName(botDisplayName);
+    this.pattern();
+  }
+
+  @Override
+  protected void prepareContext(CommandContext context, Matcher matcher) {
+    if (!this.argumentNames.isEmpty()) {
+      final Map<String, String> arguments = new LinkedHashMap<>();
+      for (String argumentName : this.argumentNames) {
+        arguments.put(argumentName, matcher.group(argumentName));
+      }
+      context.setArguments(Collections.unmodifiableMap(arguments));
+    }
+  }
+
+  /**
+   * @param word a word of a command name.
+   * @return true if the word is an argument (ex: '{category}').
+   */
+  static boolean isArgument(String word) {
+    return ARGUMENT.matcher(word).matches();
+  }
+
+  private Pattern compilePattern(String botDisplayName) {
+    final String botMention = this.requiresBotMention ? "@" + botDisplayName + " " : "";
+    final StringBuilder regex = new StringBuilder("^").append(botMention);
+    final String[] words = StringUtils.splitPreserveAllTokens(this.slashCommandName, WORD_SEPARATOR);
+    for (int i = 0; i < words.length; i++) {
+      final Matcher argument = ARGUMENT.matcher(words[i]);
+      // other words are kept as they are, command names being allowed to be regular expressions
+      regex.append(i > 0 ? WORD_SEPARATOR : "")
+          .append(argument.matches() ? "(?<" + argument.group(1) + ">\\S+)" : words[i]);
+    }
+    return Pattern.compile(regex.append("$").toString());
+  }
+
+  private static List<String> argumentNames(String slashCommandName) {
+    final List<String> argumentNames = new ArrayList<>();
+    for (String word : StringUtils.splitPreserveAllTokens(slashCommandName, WORD_SEPARATOR)) {
+      final Matcher argument = ARGUMENT.matcher(word);
+      if (argument.matches()) {
+        if (argumentNames.contains(argument.group(1))) {
+          throw new IllegalArgumentException(
+              "The argument '" + argument.group(1) + "' is used twice in the slash command name.");
+        }
+        argumentNames.add(argument.group(1));
+      }
+    }
+    return argumentNames;
+  }
+
+  String getSlashCommandName() {
+    return this.slashCommandName;
+  }
+
+  boolean isRequiresBotMention() {
+    return this.requiresBotMention;
   }
 
   @Override
@@ -111,8 +192,8 @@ public class SlashCommand extends PatternCommandActivity<CommandContext> {
   }
 
   @Override
-  protected CommandContext createContextInstance(V4Initiator initiator, V4MessageSent event) {
-    return new CommandContext(initiator, event);
+  protected BiFunction<V4Initiator, V4MessageSent, CommandContext> contextFactory() {
+    return CommandContext::new;
   }
 
   private String buildCommandDescription() {
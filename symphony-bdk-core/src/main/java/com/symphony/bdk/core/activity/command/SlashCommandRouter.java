@@ -0,0 +1,196 @@
+package com.symphony.bdk.core.activity.command;
+
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes the messages to the registered {@link SlashCommand}, through a single datafeed listener.
+ * <p>
+ * Command names are indexed in a trie of words, one for the commands requiring the bot mention and one for the other
+ * commands, so that a message is routed to at most one command in a time proportional to its length, whatever the
+ * number of registered commands. Arguments of parameterized commands (ex: '/gif {category}') match any word, literal
+ * words being preferred. Commands whose name contains regular expression characters cannot be indexed: their pattern
+ * is evaluated for the messages not matching any indexed command.
+ * <p>
+ * The index is rebuilt when commands are added or removed, while routing is lock-free.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+public class SlashCommandRouter {
+
+  private static final char WORD_SEPARATOR = ' ';
+  private static final String REGEX_CHARACTERS = "\\.[]{}()*+?^$|";
+
+  private final String botMention;
+  private final ParsedMessageCache parsedMessageCache;
+  private final RealTimeEventListener listener;
+
+  // guarded by this, the commands the index is built from
+  private final List<SlashCommand> commands = new ArrayList<>();
+  private volatile Index index = new Index(Collections.emptyList());
+
+  public SlashCommandRouter(String botDisplayName, ParsedMessageCache parsedMessageCache) {
+    this.botMention = "@" + botDisplayName + " ";
+    this.parsedMessageCache = parsedMessageCache;
+    this.listener = new RealTimeEventListener() {
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        route(initiator, event);
+      }
+    };
+  }
+
+  /**
+   * @return the datafeed listener of the router, to be subscribed once.
+   */
+  public RealTimeEventListener getListener() {
+    return this.listener;
+  }
+
+  /**
+   * Adds a command to the router.
+   *
+   * @param command the command to be routed.
+   */
+  public synchronized void add(SlashCommand command) {
+    command.setParsedMessageCache(this.parsedMessageCache);
+    this.commands.add(command);
+    this.index = new Index(this.commands);
+  }
+
+  /**
+   * Removes a command from the router.
+   *
+   * @param command the command not to be routed anymore.
+   */
+  public synchronized void remove(SlashCommand command) {
+    this.commands.remove(command);
+    this.index = new Index(this.commands);
+  }
+
+  /**
+   * Finds the command matching a message text.
+   *
+   * @param textContent the text content of the message.
+   * @return the matching command, null if none.
+   */
+  SlashCommand find(String textContent) {
+    final Index currentIndex = this.index;
+    SlashCommand command = null;
+    if (textContent.startsWith(this.botMention)) {
+      command = currentIndex.withMention.find(textContent.substring(this.botMention.length()));
+    }
+    if (command == null) {
+      command = currentIndex.withoutMention.find(textContent);
+    }
+    if (command == null) {
+      for (SlashCommand notIndexed : currentIndex.notIndexed) {
+        if (notIndexed.pattern().matcher(textContent).matches()) {
+          return notIndexed;
+        }
+      }
+    }
+    return command;
+  }
+
+  private void route(V4Initiator initiator, V4MessageSent event) {
+    final String textContent;
+    try {
+      textContent = this.parsedMessageCache.get(event).getTextContent();
+    } catch (PresentationMLParserException e) {
+      log.warn("Unable to parse presentationML, message cannot be routed to a slash command", e);
+      return;
+    }
+
+    final SlashCommand command = this.find(textContent);
+    if (command != null) {
+      command.processRoutedEvent(initiator, event);
+    }
+  }
+
+  private static boolean isIndexable(String commandName) {
+    for (String word : words(commandName)) {
+      if (!SlashCommand.isArgument(word) && !StringUtils.containsNone(word, REGEX_CHARACTERS)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String[] words(String text) {
+    return StringUtils.splitPreserveAllTokens(text, WORD_SEPARATOR);
+  }
+
+  @API(status = API.Status.INTERNAL)
+  private static class Index {
+
+    private final Node withMention = new Node();
+    private final Node withoutMention = new Node();
+    private final List<SlashCommand> notIndexed = new ArrayList<>();
+
+    Index(List<SlashCommand> commands) {
+      for (SlashCommand command : commands) {
+        if (isIndexable(command.getSlashCommandName())) {
+          (command.isRequiresBotMention() ? this.withMention : this.withoutMention)
+              .add(words(command.getSlashCommandName()), command);
+        } else {
+          this.notIndexed.add(command);
+        }
+      }
+    }
+  }
+
+  @API(status = API.Status.INTERNAL)
+  private static class Node {
+
+    private final Map<String, Node> children = new HashMap<>();
+    // child matching any word, for command arguments
+    private Node argument;
+    private SlashCommand command;
+
+    void add(String[] words, SlashCommand command) {
+      Node node = this;
+      for (String word : words) {
+        if (SlashCommand.isArgument(word)) {
+          node = node.argument != null ? node.argument : (node.argument = new Node());
+        } else {
+          node = node.children.computeIfAbsent(word, w -> new Node());
+        }
+      }
+      node.command = command;
+    }
+
+    SlashCommand find(String text) {
+      return this.find(words(text), 0);
+    }
+
+    private SlashCommand find(String[] words, int index) {
+      if (index == words.length) {
+        return this.command;
+      }
+      final Node literal = this.children.get(words[index]);
+      final SlashCommand command = literal != null ? literal.find(words, index + 1) : null;
+      // an argument is a single non-empty word, as matched by \S+ in the command pattern
+      if (command == null && this.argument != null && isWord(words[index])) {
+        return this.argument.find(words, index + 1);
+      }
+      return command;
+    }
+
+    private static boolean isWord(String word) {
+      return !word.isEmpty() && StringUtils.containsNone(word, '\t', '\n', '\r', '\f', '\u000B');
+    }
+  }
+}
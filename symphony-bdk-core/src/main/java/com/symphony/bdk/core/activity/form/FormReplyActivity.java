@@ -4,10 +4,9 @@ import static com.symphony.bdk.core.service.datafeed.util.RealTimeEventsBinder.b
 
 import com.symphony.bdk.core.activity.AbstractActivity;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.model.V4Initiator;
 import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.json.JsonMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
@@ -21,21 +20,36 @@ import java.util.function.Consumer;
 public abstract class FormReplyActivity<C extends FormReplyContext>
     extends AbstractActivity<V4SymphonyElementsAction, C> {
 
-  private static final ObjectMapper MAPPER = new JsonMapper();
-
   /** {@inheritDoc} */
   @Override
   protected void bindToRealTimeEventsSource(Consumer<RealTimeEventListener> realTimeEventsSource) {
     bindOnSymphonyElementsAction(realTimeEventsSource, this::processEvent);
   }
 
+  /**
+   * Declares the id of the form this activity replies to. When it is not null, the
+   * {@link com.symphony.bdk.core.activity.ActivityRegistry} only routes the submissions of this form to the activity,
+   * looking their form id up instead of evaluating the matcher of every form activity. The matcher is still evaluated
+   * for the submissions of this form.
+   *
+   * @return the id of the form, null by default for the activity to receive all the form submissions.
+   */
+  protected String formId() {
+    return null;
+  }
+
   /** {@inheritDoc} */
   @Override
   protected void beforeMatcher(C context) {
     super.beforeMatcher(context);
-    // copy formId at context root level
+    // copy formId at context root level, formValues being converted to a JsonNode on first access
     context.setFormId(context.getSourceEvent().getFormId());
-    // setup formValues as a JsonNode
-    context.setFormValues(MAPPER.valueToTree(context.getSourceEvent().getFormValues()));
+  }
+
+  /**
+   * Processes an event routed by the {@link FormReplyRouter}, the activity not being subscribed itself.
+   */
+  void processRoutedEvent(V4Initiator initiator, V4SymphonyElementsAction event) {
+    this.processEvent(initiator, event);
   }
 }
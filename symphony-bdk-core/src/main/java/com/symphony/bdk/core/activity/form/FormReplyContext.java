@@ -5,6 +5,8 @@ import com.symphony.bdk.gen.api.model.V4Initiator;
 import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import lombok.Getter;
 import lombok.Setter;
 import org.apiguardian.api.API;
@@ -19,10 +21,12 @@ import javax.annotation.Nullable;
 @API(status = API.Status.STABLE)
 public class FormReplyContext extends ActivityContext<V4SymphonyElementsAction> {
 
+  private static final ObjectMapper MAPPER = new JsonMapper();
+
   /** The formId extracted from event source */
   private String formId;
 
-  /** Form values as a JsonNode */
+  /** Form values as a JsonNode, converted from the event source on first access */
   private JsonNode formValues;
 
   /**
@@ -35,6 +39,19 @@ public class FormReplyContext extends ActivityContext<V4SymphonyElementsAction>
     super(initiator, eventSource);
   }
 
+  /**
+   * Get the form values as a JsonNode. They are converted from the event source on first access only, so that the
+   * activities not accessing them do not pay for the conversion.
+   *
+   * @return the form values
+   */
+  public JsonNode getFormValues() {
+    if (this.formValues == null) {
+      this.formValues = MAPPER.valueToTree(this.getSourceEvent().getFormValues());
+    }
+    return this.formValues;
+  }
+
   /**
    * Get the value of specified form field
    *
@@ -44,7 +61,7 @@ public class FormReplyContext extends ActivityContext<V4SymphonyElementsAction>
   @API(status = API.Status.STABLE)
   @Nullable
   public String getFormValue(String fieldName) {
-    return this.formValues.has(fieldName) ?
-        this.formValues.get(fieldName).asText() : null;
+    final JsonNode values = this.getFormValues();
+    return values.has(fieldName) ? values.get(fieldName).asText() : null;
   }
 }
@@ -0,0 +1,109 @@
+package com.symphony.bdk.core.activity.form;
+
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
+
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes the form submissions to the registered {@link FormReplyActivity} declaring a form id, through a single
+ * datafeed listener.
+ * <p>
+ * Activities are indexed by form id, so that a submission is only processed by the activities of its form whatever
+ * the number of registered forms. The index is rebuilt when activities are added or removed, while routing is
+ * lock-free.
+ */
+@API(status = API.Status.INTERNAL)
+public class FormReplyRouter {
+
+  private final RealTimeEventListener listener;
+
+  // guarded by this, the activities the index is built from
+  private final Map<String, List<FormReplyActivity<?>>> activities = new HashMap<>();
+  private volatile Map<String, List<FormReplyActivity<?>>> index = Collections.emptyMap();
+
+  public FormReplyRouter() {
+    this.listener = new RealTimeEventListener() {
+      @Override
+      public void onSymphonyElementsAction(V4Initiator initiator, V4SymphonyElementsAction event) {
+        route(initiator, event);
+      }
+    };
+  }
+
+  /**
+   * @param activity a form reply activity.
+   * @return true if the activity declares a form id and can be routed.
+   */
+  public static boolean isRoutable(FormReplyActivity<?> activity) {
+    return activity.formId() != null;
+  }
+
+  /**
+   * @return the datafeed listener of the router, to be subscribed once.
+   */
+  public RealTimeEventListener getListener() {
+    return this.listener;
+  }
+
+  /**
+   * Adds an activity to the router.
+   *
+   * @param activity the activity to be routed, declaring a form id.
+   * @throws IllegalArgumentException if the activity does not declare a form id.
+   */
+  public synchronized void add(FormReplyActivity<?> activity) {
+    final String formId = activity.formId();
+    if (formId == null) {
+      throw new IllegalArgumentException("The activity does not declare a form id and cannot be routed.");
+    }
+    this.activities.computeIfAbsent(formId, id -> new ArrayList<>()).add(activity);
+    this.rebuildIndex();
+  }
+
+  /**
+   * Removes an activity from the router.
+   *
+   * @param activity the activity not to be routed anymore.
+   * @return true if the activity was routed.
+   */
+  public synchronized boolean remove(FormReplyActivity<?> activity) {
+    boolean removed = false;
+    for (List<FormReplyActivity<?>> formActivities : this.activities.values()) {
+      removed |= formActivities.remove(activity);
+    }
+    this.activities.values().removeIf(List::isEmpty);
+    this.rebuildIndex();
+    return removed;
+  }
+
+  /**
+   * Finds the activities replying to a form.
+   *
+   * @param formId the id of the submitted form.
+   * @return the activities of the form, empty if none.
+   */
+  List<FormReplyActivity<?>> find(String formId) {
+    return formId == null ? Collections.emptyList() : this.index.getOrDefault(formId, Collections.emptyList());
+  }
+
+  private void route(V4Initiator initiator, V4SymphonyElementsAction event) {
+    for (FormReplyActivity<?> activity : this.find(event.getFormId())) {
+      activity.processRoutedEvent(initiator, event);
+    }
+  }
+
+  private void rebuildIndex() {
+    final Map<String, List<FormReplyActivity<?>>> newIndex = new HashMap<>();
+    this.activities.forEach((formId, formActivities) ->
+        newIndex.put(formId, Collections.unmodifiableList(new ArrayList<>(formActivities))));
+    this.index = newIndex;
+  }
+}
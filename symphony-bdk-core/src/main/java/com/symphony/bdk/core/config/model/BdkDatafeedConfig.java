@@ -15,6 +15,52 @@ public class BdkDatafeedConfig {
     private String idFilePath;
     private BdkRetryConfig retry = new BdkRetryConfig(BdkRetryConfig.INFINITE_MAX_ATTEMPTS);
 
+    /**
+     * Number of threads used to dispatch the events of a datafeed batch. Events of a same stream are always processed
+     * sequentially, on the same thread. Default value 1 means that events are dispatched on the datafeed loop thread.
+     */
+    private int dispatchParallelism = 1;
+
+    /**
+     * DFv2 only: maximum number of read batches waiting to be dispatched. If strictly positive, the next datafeed read
+     * is issued while the current batch of events is being dispatched. Read-ahead is disabled by default.
+     */
+    private int readAheadBatches = 0;
+
+    /**
+     * DFv2 only: number of concurrent readers of the bot datafeed. The datafeed distributes the events batches between
+     * its readers, whether they belong to the same bot instance or not.
+     */
+    private int readers = 1;
+
+    /**
+     * DFv2 only: if true, events are filtered on their type and initiator while the datafeed response is parsed, and
+     * only the events that would be dispatched to at least one listener are deserialized.
+     */
+    private boolean earlyEventFiltering = false;
+
+    /**
+     * Time window during which the ids of the dispatched events are kept to skip re-delivered events. Events are not
+     * deduplicated by default.
+     */
+    private long deduplicationWindowMillis = 0;
+
+    /**
+     * Maximum number of event ids kept for deduplication, the oldest ones being evicted first.
+     */
+    private int deduplicationMaxSize = 10_000;
+
+    /**
+     * If true and if the JVM supports them (JDK 21+), the datafeed loop threads and the dispatch of the events run on
+     * virtual threads. Ignored if an executor is explicitly set to the datafeed loop.
+     * <p>
+     * Virtual threads only replace the threads of the loop and of the {@link #dispatchParallelism} dispatch lanes: the
+     * listeners are not invoked on a virtual thread each, so that the events of a stream are still processed in order,
+     * and the number of events processed concurrently remains bounded by {@link #dispatchParallelism}. With the default
+     * value 1, this option has almost no effect.
+     */
+    private boolean virtualThreads = false;
+
     public String getIdFilePath() {
         if (idFilePath == null || idFilePath.isEmpty()) {
             return "." + File.separator;
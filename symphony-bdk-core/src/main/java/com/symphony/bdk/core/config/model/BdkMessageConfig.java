@@ -0,0 +1,19 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkMessageConfig {
+
+  public static final int DEFAULT_ASYNC_MAX_THREADS = 16;
+
+  /**
+   * Maximum number of threads of the executor shared by the message services to run the calls of their asynchronous
+   * methods. Further calls wait for a thread to be available.
+   */
+  private int asyncMaxThreads = DEFAULT_ASYNC_MAX_THREADS;
+}
@@ -5,6 +5,7 @@ import com.symphony.bdk.core.client.ApiClientFactory;
 import com.symphony.bdk.core.util.function.SupplierWithApiException;
 import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.http.api.ApiRuntimeException;
+import com.symphony.bdk.http.api.tracing.MDCUtils;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
@@ -13,7 +14,12 @@ import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import javax.net.ssl.SSLHandshakeException;
 
@@ -60,13 +66,50 @@ public abstract class RetryWithRecovery<T> {
 
     try {
       return retry.execute();
-    } catch (ApiException e) {
-      throw new ApiRuntimeException(e);
     } catch (Throwable t) {
-      throw new RuntimeException(networkIssueMessageError(t, address), t);
+      throw toRuntimeException(t, address);
     }
   }
 
+  /**
+   * Asynchronous version of {@link #executeAndRetry(RetryWithRecoveryBuilder, String, String, SupplierWithApiException)}:
+   * each call to the supplier is run by the executor and the retries are scheduled after the backoff interval, no
+   * thread being blocked while waiting for the next attempt.
+   *
+   * @param baseRetryBuilder the {@link RetryWithRecoveryBuilder} containing the base settings for the retry mechanism.
+   * @param name             the name of the retry, can be any string but should specific to the function being retried.
+   * @param supplier         the supplier returning the desired object which may fail with an exception.
+   * @param executor         the executor running the calls to the supplier.
+   * @param <T>              the type of the object to be returned by the supplier.
+   * @return a future completed with the object returned by the supplier, or exceptionally with an
+   * {@link ApiRuntimeException} if a non-handled {@link ApiException} thrown or if the max number of retries has been
+   * reached, with a {@link RuntimeException} if any other exception thrown.
+   */
+  public static <T> CompletableFuture<T> executeAndRetryAsync(
+      final RetryWithRecoveryBuilder<?> baseRetryBuilder,
+      final String name,
+      final String address,
+      final SupplierWithApiException<T> supplier,
+      final Executor executor
+  ) {
+
+    final RetryWithRecovery<T> retry = RetryWithRecoveryBuilder.<T>from(baseRetryBuilder)
+        .name(name)
+        .supplier(supplier)
+        .basePath(address)
+        .build();
+
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    retry.executeAsync(executor).whenComplete((value, t) -> {
+      if (t != null) {
+        result.completeExceptionally(toRuntimeException(t, address));
+      } else {
+        result.complete(value);
+      }
+    });
+    return result;
+  }
+
   public RetryWithRecovery(
       SupplierWithApiException<T> supplier,
       Predicate<Exception> ignoreException,
@@ -90,6 +133,16 @@ public abstract class RetryWithRecovery<T> {
    */
   public abstract T execute() throws Throwable;
 
+  /**
+   * Asynchronous version of {@link #execute()}, which should call {@link #asyncAttempts(Executor)} to run the calls
+   * to the supplier and schedule the retries instead of waiting for them.
+   *
+   * @param executor the executor running the calls to the supplier.
+   * @return a future completed with the object returned by the supplier, or exceptionally in case the max number of
+   * retries exhausted or if any other exception thrown by the supplier or the recovery functions.
+   */
+  public abstract CompletableFuture<T> executeAsync(Executor executor);
+
   /**
    * This implements the logic corresponding to one retry:
    * calls the {@link #supplier}, catches the potential {@link Exception},
@@ -114,6 +167,36 @@ public abstract class RetryWithRecovery<T> {
     }
   }
 
+  /**
+   * Returns the attempts of an asynchronous execution: each call runs {@link #executeOnce()} in the executor and
+   * returns a future completed with its result or exception, attempts being made one after the other.
+   *
+   * @param executor the executor running the calls to the supplier.
+   * @return the supplier of attempts, to be called for the first attempt and for each retry.
+   */
+  protected Supplier<CompletableFuture<T>> asyncAttempts(Executor executor) {
+    final AtomicReference<CompletableFuture<T>> attempt = new AtomicReference<>();
+    // wrapped once, so that the retries scheduled from the timer thread keep the MDC of the caller
+    final Runnable executeOnce = MDCUtils.wrap(() -> {
+      final CompletableFuture<T> current = attempt.get();
+      try {
+        current.complete(this.executeOnce());
+      } catch (Throwable t) {
+        current.completeExceptionally(t);
+      }
+    });
+    return () -> {
+      final CompletableFuture<T> current = new CompletableFuture<>();
+      attempt.set(current);
+      try {
+        executor.execute(executeOnce);
+      } catch (RejectedExecutionException e) {
+        current.completeExceptionally(e);
+      }
+      return current;
+    };
+  }
+
   /**
    * This methods check the type of exception thrown in the retry and depending on that it created a clear
    * error message suggesting the possible cause of the issue.
@@ -149,6 +232,13 @@ public abstract class RetryWithRecovery<T> {
     return messageError;
   }
 
+  private static RuntimeException toRuntimeException(Throwable t, String address) {
+    if (t instanceof ApiException) {
+      return new ApiRuntimeException((ApiException) t);
+    }
+    return new RuntimeException(networkIssueMessageError(t, address), t);
+  }
+
   private void handleRecovery(Exception e) throws Throwable {
     boolean recoveryTriggered = false;
 
@@ -163,6 +163,18 @@ public class RetryWithRecoveryBuilder<T> {
     return this;
   }
 
+  /**
+   * Prevents the retry of the exceptions matching a condition, on top of the conditions already set.
+   *
+   * @param condition the condition when we should not retry the call
+   *                  when the {@link #supplier} throws an exception.
+   * @return the modified builder instance.
+   */
+  public RetryWithRecoveryBuilder<T> noRetryOnException(Predicate<Throwable> condition) {
+    this.retryOnExceptionPredicate = this.retryOnExceptionPredicate.and(condition.negate());
+    return this;
+  }
+
   /**
    * Sets the condition on which we should ignore an {@link ApiException} thrown by the {@link #supplier}
    * and return null in {@link RetryWithRecovery#execute()}.
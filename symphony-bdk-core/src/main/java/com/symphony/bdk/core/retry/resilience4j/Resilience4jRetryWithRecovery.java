@@ -4,6 +4,7 @@ import com.symphony.bdk.core.config.model.BdkRetryConfig;
 import com.symphony.bdk.core.retry.RecoveryStrategy;
 import com.symphony.bdk.core.retry.RetryWithRecovery;
 import com.symphony.bdk.core.util.BdkExponentialFunction;
+import com.symphony.bdk.core.util.DaemonExecutors;
 import com.symphony.bdk.core.util.function.SupplierWithApiException;
 import com.symphony.bdk.http.api.ApiException;
 
@@ -13,6 +14,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Predicate;
 
 /**
@@ -65,6 +69,18 @@ public class Resilience4jRetryWithRecovery<T> extends RetryWithRecovery<T> {
     return this.retry.executeCheckedSupplier(this::executeOnce);
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The retries are scheduled by a single timer thread shared by all the asynchronous executions, which only submits
+   * the next attempt to the executor.
+   */
+  @Override
+  public CompletableFuture<T> executeAsync(Executor executor) {
+    final ScheduledExecutorService scheduler = DaemonExecutors.sharedScheduler("SymphonyBdk_RetryScheduler");
+    return this.retry.executeCompletionStage(scheduler, this.asyncAttempts(executor)::get).toCompletableFuture();
+  }
+
   private Retry createRetry(
       final String name,
       final BdkRetryConfig bdkRetryConfig,
@@ -0,0 +1,232 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import com.symphony.bdk.gen.api.model.*;
+
+import org.apiguardian.api.API;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Asynchronous variant of {@link RealTimeEventListener}, to be used by listeners performing non-blocking I/O.
+ * <p>
+ * Callbacks are invoked from the datafeed loop thread and must not block: they return a {@link CompletionStage}
+ * completed once the event has been processed. The DFv2 loop only acknowledges a batch of events once all the stages
+ * returned for this batch are completed, a large number of events can therefore be processed concurrently without
+ * holding a thread per event.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface AsyncRealTimeEventListener {
+
+  /**
+   * Check if the event is accepted to be handled.
+   * By default, all the event that is created by the bot itself will not be accepted to be handled by the listener.
+   * If you want to handle the self-created events or you want to apply your own filters for the events, you should
+   * override this method.
+   *
+   * @param event    Event to be verified.
+   * @param username Username of the bot itself.
+   * @return The event is accepted or not.
+   * @throws EventException Throw this exception if this method should fail the current events processing
+   *                        and re-queue the events in datafeed. Other exceptions will be caught silently.
+   */
+  default boolean isAcceptingEvent(V4Event event, String username) throws EventException {
+    return event.getInitiator() != null && event.getInitiator().getUser() != null
+        && event.getInitiator().getUser().getUsername() != null
+        && !event.getInitiator().getUser().getUsername().equals(username);
+  }
+
+  /**
+   * Called when a MESSAGESENT event is received.
+   *
+   * @param initiator Event initiator.
+   * @param event     Message sent payload.
+   * @return a stage completed once the event has been processed. If it completes exceptionally with an
+   *     {@link EventException}, the current events will be re-queued in datafeed. Other exceptions are caught silently.
+   */
+  default CompletionStage<Void> onMessageSent(V4Initiator initiator, V4MessageSent event) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Called when a SHAREDPOST event is received.
+   *
+   * @param initiator Event initiator.
+   * @param event     Shared post payload.
+   * @return a stage completed once the event has been processed. If it completes exceptionally with an
+   *     {@link EventException}, the current events will be re-queued in datafeed. Other exceptions are caught silently.
+   */
+  default CompletionStage<Void> onSharedPost(V4Initiator initiator, V4SharedPost event) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Called when an INSTANTMESSAGECREATED event is received.
+   *
+   * @param initiator Event initiator.
+   * @param event     Instant Message Created payload.
+   * @return a stage completed once the event has been processed. If it completes exceptionally with an
+   *     {@link EventException}, the current events will be re-queued in datafeed. Other exceptions are caught silently.
+   */
+  default CompletionStage<Void> onInstantMessageCreated(V4Initiator initiator, V4InstantMessageCreated event) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Called when a ROOMCREATED event is received.
+   *
+   * @param initiator Event initiator.
+   * @param event     Room Created payload.
+   * @return a stage completed once the event has been processed. If it completes exceptionally with an
+   *     {@link EventException}, the current events will be re-queued in datafeed. Other exceptions are caught silently.
+   */
+  default CompletionStage<Void> onRoomCreated(V4Initiator initiator, V4RoomCreated event) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Called when a ROOMUPDATED event is received.
+   *
+   * @param initiator Event initiator.
+   * @param event     Room Updated payload.
+   * @return a stage completed once the event has been processed. If it completes exceptionally with an
+   *     {@link EventException}, the current events will be re-queued in datafeed. Other exceptions are caught silently.
+   */
+  default CompletionStage<Void> onRoomUpdated(V4Initiator initiator, V4RoomUpdated event) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Called when a ROOMDEACTIVATED event is received.
+   *
+   * @param initiator Event initiator.
+   * @param event     Room Deactivated payload.
+   * @return a stage completed once the event has been processed. If it completes exceptionally with an
+   *     {@link EventException}, the current events will be re-queued in datafeed. Other exceptions are caught silently.
+   */
+  default CompletionStage<Void> onRoomDeactivated(V4Initiator initiator, V4RoomDeactivated event) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Called when a ROOMREACTIVATED event is received.
+   *
+   * @param initiator Event initiator.
+   * @param event     Room Reactivated payload.
+   * @return a stage completed once the event has been processed. If it completes exceptionally with an
+   *     {@link EventException}, the current events will be re-queued in datafeed. Other exceptions are caught silently.
+   */
+  default CompletionStage<Void> onRoomReactivated(V4Initiator initiator, V4RoomReactivated event) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Called when an USERREQUESTEDTOJOINROOM event is received.
+   *
+   * @param initiator Event initiator.
+   * @param event     User Requested To Join Room payload.
+   * @return a stage completed once the event has been processed. If it completes exceptionally with an
+   *     {@link EventException}, the current events will be re-queued in datafeed. Other exceptions are caught silently.
+   */
+  default CompletionStage<Void> onUserRequestedToJoinRoom(V4Initiator initiator, V4UserRequestedToJoinRoom event) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Called when an USERJOINEDROOM event is received.
+   *
+   * @param initiator Event initiator.
+   * @param event     User Joined Room payload.
+   * @return a stage completed once the event has been processed. If it completes exceptionally with an
+   *     {@link EventException}, the current events will be re-queued in datafeed. Other exceptions are caught silently.
+   */
+  default CompletionStage<Void> onUserJoinedRoom(V4Initiator initiator, V4UserJoinedRoom event) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Called when an USERLEFTROOM event is received.
+   *
+   * @param initiator Event initiator.
+   * @param event     User Left Room payload.
+   * @return a stage completed once the event has been processed. If it completes exceptionally with an
+   *     {@link EventException}, the current events will be re-queued in datafeed. Other exceptions are caught silently.
+   */
+  default CompletionStage<Void> onUserLeftRoom(V4Initiator initiator, V4UserLeftRoom event) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Called when a ROOMMEMBERPROMOTEDTOOWNER event is received.
+   *
+   * @param initiator Event initiator.
+   * @param event     Room Member Promoted To Owner payload.
+   * @return a stage completed once the event has been processed. If it completes exceptionally with an
+   *     {@link EventException}, the current events will be re-queued in datafeed. Other exceptions are caught silently.
+   */
+  default CompletionStage<Void> onRoomMemberPromotedToOwner(V4Initiator initiator,
+      V4RoomMemberPromotedToOwner event) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Called when a ROOMMEMBERDEMOTEDFROMOWNER event is received.
+   *
+   * @param initiator Event initiator.
+   * @param event     Room Member Demoted From Owner payload.
+   * @return a stage completed once the event has been processed. If it completes exceptionally with an
+   *     {@link EventException}, the current events will be re-queued in datafeed. Other exceptions are caught silently.
+   */
+  default CompletionStage<Void> onRoomMemberDemotedFromOwner(V4Initiator initiator,
+      V4RoomMemberDemotedFromOwner event) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Called when a CONNECTIONREQUESTED event is received.
+   *
+   * @param initiator Event initiator.
+   * @param event     Connection Requested payload.
+   * @return a stage completed once the event has been processed. If it completes exceptionally with an
+   *     {@link EventException}, the current events will be re-queued in datafeed. Other exceptions are caught silently.
+   */
+  default CompletionStage<Void> onConnectionRequested(V4Initiator initiator, V4ConnectionRequested event) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Called when a CONNECTIONACCEPTED event is received.
+   *
+   * @param initiator Event initiator.
+   * @param event     Connection Accepted payload.
+   * @return a stage completed once the event has been processed. If it completes exceptionally with an
+   *     {@link EventException}, the current events will be re-queued in datafeed. Other exceptions are caught silently.
+   */
+  default CompletionStage<Void> onConnectionAccepted(V4Initiator initiator, V4ConnectionAccepted event) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Called when a MESSAGESUPPRESSED event is received.
+   *
+   * @param initiator Event initiator.
+   * @param event     Message Suppressed payload.
+   * @return a stage completed once the event has been processed. If it completes exceptionally with an
+   *     {@link EventException}, the current events will be re-queued in datafeed. Other exceptions are caught silently.
+   */
+  default CompletionStage<Void> onMessageSuppressed(V4Initiator initiator, V4MessageSuppressed event) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Called when a SYMPHONYELEMENTSACTION event is received.
+   *
+   * @param initiator Event initiator.
+   * @param event     Symphony Elements Action payload.
+   * @return a stage completed once the event has been processed. If it completes exceptionally with an
+   *     {@link EventException}, the current events will be re-queued in datafeed. Other exceptions are caught silently.
+   */
+  default CompletionStage<Void> onSymphonyElementsAction(V4Initiator initiator, V4SymphonyElementsAction event) {
+    return CompletableFuture.completedFuture(null);
+  }
+}
@@ -0,0 +1,148 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import com.symphony.bdk.core.util.CompletableFutures;
+import com.symphony.bdk.gen.api.model.*;
+
+import org.apiguardian.api.API;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Wraps an {@link AsyncRealTimeEventListener} so that it can be registered along with the {@link RealTimeEventListener}.
+ * <p>
+ * The datafeed loops of the BDK recognize the adapter and dispatch the events to the asynchronous callbacks of the
+ * wrapped listener. Other loops dispatch the events through the {@link RealTimeEventListener} callbacks of the adapter,
+ * which wait for the asynchronous callbacks to complete.
+ */
+@API(status = API.Status.INTERNAL)
+public class AsyncRealTimeEventListenerAdapter implements RealTimeEventListener {
+
+  private final AsyncRealTimeEventListener delegate;
+
+  public AsyncRealTimeEventListenerAdapter(AsyncRealTimeEventListener delegate) {
+    this.delegate = delegate;
+  }
+
+  public AsyncRealTimeEventListener getDelegate() {
+    return this.delegate;
+  }
+
+  @Override
+  public boolean isAcceptingEvent(V4Event event, String username) {
+    return this.delegate.isAcceptingEvent(event, username);
+  }
+
+  @Override
+  public void onMessageSent(V4Initiator initiator, V4MessageSent event) throws EventException {
+    await(this.delegate.onMessageSent(initiator, event));
+  }
+
+  @Override
+  public void onSharedPost(V4Initiator initiator, V4SharedPost event) throws EventException {
+    await(this.delegate.onSharedPost(initiator, event));
+  }
+
+  @Override
+  public void onInstantMessageCreated(V4Initiator initiator, V4InstantMessageCreated event) throws EventException {
+    await(this.delegate.onInstantMessageCreated(initiator, event));
+  }
+
+  @Override
+  public void onRoomCreated(V4Initiator initiator, V4RoomCreated event) throws EventException {
+    await(this.delegate.onRoomCreated(initiator, event));
+  }
+
+  @Override
+  public void onRoomUpdated(V4Initiator initiator, V4RoomUpdated event) throws EventException {
+    await(this.delegate.onRoomUpdated(initiator, event));
+  }
+
+  @Override
+  public void onRoomDeactivated(V4Initiator initiator, V4RoomDeactivated event) throws EventException {
+    await(this.delegate.onRoomDeactivated(initiator, event));
+  }
+
+  @Override
+  public void onRoomReactivated(V4Initiator initiator, V4RoomReactivated event) throws EventException {
+    await(this.delegate.onRoomReactivated(initiator, event));
+  }
+
+  @Override
+  public void onUserRequestedToJoinRoom(V4Initiator initiator, V4UserRequestedToJoinRoom event) throws EventException {
+    await(this.delegate.onUserRequestedToJoinRoom(initiator, event));
+  }
+
+  @Override
+  public void onUserJoinedRoom(V4Initiator initiator, V4UserJoinedRoom event) throws EventException {
+    await(this.delegate.onUserJoinedRoom(initiator, event));
+  }
+
+  @Override
+  public void onUserLeftRoom(V4Initiator initiator, V4UserLeftRoom event) throws EventException {
+    await(this.delegate.onUserLeftRoom(initiator, event));
+  }
+
+  @Override
+  public void onRoomMemberPromotedToOwner(V4Initiator initiator, V4RoomMemberPromotedToOwner event)
+      throws EventException {
+    await(this.delegate.onRoomMemberPromotedToOwner(initiator, event));
+  }
+
+  @Override
+  public void onRoomMemberDemotedFromOwner(V4Initiator initiator, V4RoomMemberDemotedFromOwner event)
+      throws EventException {
+    await(this.delegate.onRoomMemberDemotedFromOwner(initiator, event));
+  }
+
+  @Override
+  public void onConnectionRequested(V4Initiator initiator, V4ConnectionRequested event) throws EventException {
+    await(this.delegate.onConnectionRequested(initiator, event));
+  }
+
+  @Override
+  public void onConnectionAccepted(V4Initiator initiator, V4ConnectionAccepted event) throws EventException {
+    await(this.delegate.onConnectionAccepted(initiator, event));
+  }
+
+  @Override
+  public void onMessageSuppressed(V4Initiator initiator, V4MessageSuppressed event) throws EventException {
+    await(this.delegate.onMessageSuppressed(initiator, event));
+  }
+
+  @Override
+  public void onSymphonyElementsAction(V4Initiator initiator, V4SymphonyElementsAction event) throws EventException {
+    await(this.delegate.onSymphonyElementsAction(initiator, event));
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof AsyncRealTimeEventListenerAdapter
+        && this.delegate.equals(((AsyncRealTimeEventListenerAdapter) o).delegate);
+  }
+
+  @Override
+  public int hashCode() {
+    return this.delegate.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return this.delegate.toString();
+  }
+
+  private static void await(CompletionStage<Void> stage) throws EventException {
+    if (stage == null) {
+      return;
+    }
+    try {
+      stage.toCompletableFuture().join();
+    } catch (CompletionException e) {
+      final Throwable cause = CompletableFutures.unwrap(e);
+      if (cause instanceof EventException) {
+        throw (EventException) cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -4,6 +4,11 @@ import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
 
 import org.apiguardian.api.API;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Interface definition for a loop service to be used for handling the datafeed API.
@@ -24,6 +29,22 @@ public interface DatafeedLoop {
      */
     void stop();
 
+    /**
+     * Stop the datafeed events service without waiting for the current read datafeed call to return: the events being
+     * processed by the listeners are given some time to complete, while the events read after the stop request are not
+     * dispatched. With datafeed v2, these events are re-queued and delivered to the other instances of the bot.
+     *
+     * @param drainTimeout maximum time to wait for the events being processed.
+     * @return a future completed once the events being processed have been handled by the listeners, or completed
+     *     exceptionally with a {@link java.util.concurrent.TimeoutException} if they have not within the drain timeout.
+     *     By default, the loop is stopped with {@link #stop()} and the returned future is already completed.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default CompletableFuture<Void> stop(Duration drainTimeout) {
+        this.stop();
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * The bot subscribes to a {@link RealTimeEventListener}
      *
@@ -37,4 +58,65 @@ public interface DatafeedLoop {
      * @param listener a Datafeed event listener to be unsubscribed
      */
     void unsubscribe(RealTimeEventListener listener);
+
+    /**
+     * The bot subscribes to an {@link AsyncRealTimeEventListener}
+     *
+     * @param listener an asynchronous Datafeed event listener to be subscribed
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default void subscribe(AsyncRealTimeEventListener listener) {
+        this.subscribe(new AsyncRealTimeEventListenerAdapter(listener));
+    }
+
+    /**
+     * The bot unsubscribes to an {@link AsyncRealTimeEventListener}
+     *
+     * @param listener an asynchronous Datafeed event listener to be unsubscribed
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default void unsubscribe(AsyncRealTimeEventListener listener) {
+        this.unsubscribe(new AsyncRealTimeEventListenerAdapter(listener));
+    }
+
+    /**
+     * Registers a {@link DatafeedMetricsListener} to monitor the datafeed loop.
+     * By default, metrics are not supported and the listener is ignored.
+     *
+     * @param listener a Datafeed metrics listener to be registered
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default void addMetricsListener(DatafeedMetricsListener listener) {
+        LoggerFactory.getLogger(DatafeedLoop.class)
+            .warn("Metrics are not supported by datafeed loop {}, listener {} is ignored", this, listener);
+    }
+
+    /**
+     * Un-registers a {@link DatafeedMetricsListener}.
+     * By default, metrics are not supported and nothing is done.
+     *
+     * @param listener a Datafeed metrics listener to be un-registered
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default void removeMetricsListener(DatafeedMetricsListener listener) {
+        // metrics are not supported by default, no listener has been registered
+    }
+
+    /**
+     * Sets the {@link Executor} running the datafeed loop threads and the parallel dispatch of the events, instead of
+     * the threads created by the loop. It must be set before the loop is started.
+     * <p>
+     * The executor must be able to run the loop tasks concurrently: an unbounded pool or a virtual thread per task
+     * executor is recommended. It is not shut down by the datafeed loop.
+     *
+     * <p>
+     * By default, custom executors are not supported and the executor is ignored.
+     *
+     * @param executor the executor to be used by the datafeed loop
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default void setExecutor(Executor executor) {
+        LoggerFactory.getLogger(DatafeedLoop.class)
+            .warn("Custom executors are not supported by datafeed loop {}, executor {} is ignored", this, executor);
+    }
 }
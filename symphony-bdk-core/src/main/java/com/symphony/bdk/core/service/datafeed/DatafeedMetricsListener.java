@@ -0,0 +1,63 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+
+/**
+ * Interface definition for a callback to be invoked to monitor a {@link DatafeedLoop}: read calls, received events and
+ * their processing by the listeners.
+ * <p>
+ * Callbacks are invoked from the datafeed loop threads: implementations must be thread-safe and must not block.
+ *
+ * @see DatafeedLoop#addMetricsListener(DatafeedMetricsListener)
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface DatafeedMetricsListener {
+
+  /**
+   * Called when a datafeed read call has returned.
+   *
+   * @param roundTrip duration of the read call.
+   * @param batchSize number of events returned by the read call.
+   */
+  default void onRead(Duration roundTrip, int batchSize) {
+  }
+
+  /**
+   * Called when an event is about to be dispatched to the listeners.
+   *
+   * @param eventType type of the event, e.g. MESSAGESENT.
+   * @param age       time elapsed since the event has been created, null if the event has no timestamp.
+   */
+  default void onEventReceived(String eventType, Duration age) {
+  }
+
+  /**
+   * Called when a listener has processed an event.
+   *
+   * @param eventType type of the event, e.g. MESSAGESENT.
+   * @param listener  class name of the listener.
+   * @param latency   time taken by the listener to process the event, including the completion of the returned stage
+   *                  for an {@link AsyncRealTimeEventListener}.
+   */
+  default void onEventProcessed(String eventType, String listener, Duration latency) {
+  }
+
+  /**
+   * Called when all the events of a batch have been successfully processed. With datafeed v2, the batch is then
+   * acknowledged by the next read call.
+   *
+   * @param batchSize number of events of the batch.
+   */
+  default void onBatchProcessed(int batchSize) {
+  }
+
+  /**
+   * Called when the processing of a batch has failed, its events being re-queued in datafeed v2.
+   *
+   * @param batchSize number of events of the batch.
+   */
+  default void onBatchRequeued(int batchSize) {
+  }
+}
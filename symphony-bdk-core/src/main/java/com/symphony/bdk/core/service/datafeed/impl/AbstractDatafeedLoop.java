@@ -5,23 +5,41 @@ import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
 import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.config.model.BdkLoadBalancingConfig;
 import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
+import com.symphony.bdk.core.service.datafeed.AsyncRealTimeEventListener;
+import com.symphony.bdk.core.service.datafeed.AsyncRealTimeEventListenerAdapter;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetricsListener;
 import com.symphony.bdk.core.service.datafeed.EventException;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.core.util.CompletableFutures;
+import com.symphony.bdk.core.util.DaemonExecutors;
+import com.symphony.bdk.core.util.VirtualThreads;
 import com.symphony.bdk.gen.api.DatafeedApi;
 import com.symphony.bdk.gen.api.model.V4Event;
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiException;
 
 import com.symphony.bdk.http.api.tracing.DistributedTracingContext;
+import com.symphony.bdk.http.api.tracing.MDCUtils;
 
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Base class for implementing the datafeed services. A datafeed services can help a bot subscribe or unsubscribe
@@ -31,6 +49,10 @@ import java.util.Optional;
 @API(status = API.Status.INTERNAL)
 abstract class AbstractDatafeedLoop implements DatafeedLoop {
 
+  // only used to time out the graceful stops
+  private static final ScheduledExecutorService DRAIN_TIMEOUT_SCHEDULER =
+      DaemonExecutors.newScheduler("SymphonyBdk_DatafeedDrainTimeout");
+
   protected final AuthSession authSession;
   protected final BdkConfig bdkConfig;
   protected final RetryWithRecoveryBuilder retryWithRecoveryBuilder;
@@ -38,15 +60,49 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
   protected DatafeedApi datafeedApi;
   protected ApiClient apiClient;
 
-  // access needs to be thread safe (DF loop is usually running on its own thread)
-  private final List<RealTimeEventListener> listeners;
+  // lock-free for reads, the DF loop is usually running on its own thread
+  private final RealTimeEventListenerRegistry listeners;
+
+  // null if the datafeed loop creates its own threads
+  private volatile Executor executor;
+
+  // guarded by this, the virtual thread executor created by the loop and whether it is shut down once stopped
+  private ExecutorService ownedExecutor;
+  private boolean ownedExecutorReleased;
+
+  // null if events are dispatched sequentially, on the datafeed loop thread
+  private volatile StreamPartitionedDispatcher parallelDispatcher;
+
+  // null if events are not deduplicated
+  private final EventDeduplicationCache deduplicationCache;
+
+  protected final DatafeedMetricsPublisher metrics = new DatafeedMetricsPublisher();
 
   public AbstractDatafeedLoop(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config) {
     this.datafeedApi = datafeedApi;
-    this.listeners = new ArrayList<>();
+    this.listeners = new RealTimeEventListenerRegistry();
     this.authSession = authSession;
     this.bdkConfig = config;
     this.apiClient = datafeedApi.getApiClient();
+    if (config.getDatafeed().isVirtualThreads()) {
+      this.ownedExecutor = VirtualThreads.newVirtualThreadPerTaskExecutor().orElse(null);
+      this.executor = this.ownedExecutor;
+      if (this.executor == null) {
+        log.warn("Virtual threads are not supported by this JVM, the datafeed loop will use platform threads");
+      } else if (config.getDatafeed().getDispatchParallelism() <= 1) {
+        log.info("Virtual threads enabled without dispatch parallelism, events will still be processed one at a time");
+      }
+    }
+    final int dispatchParallelism = config.getDatafeed().getDispatchParallelism();
+    if (dispatchParallelism > 1) {
+      this.parallelDispatcher = this.executor != null
+          ? new StreamPartitionedDispatcher(dispatchParallelism, this.executor)
+          : new StreamPartitionedDispatcher(dispatchParallelism);
+    }
+    final long deduplicationWindow = config.getDatafeed().getDeduplicationWindowMillis();
+    this.deduplicationCache = deduplicationWindow > 0
+        ? new EventDeduplicationCache(deduplicationWindow, config.getDatafeed().getDeduplicationMaxSize())
+        : null;
     this.retryWithRecoveryBuilder = new RetryWithRecoveryBuilder<>()
         .retryConfig(config.getDatafeedRetryConfig())
         .recoveryStrategy(Exception.class, () -> this.apiClient.rotate())  //always rotate in case of any error
@@ -63,9 +119,7 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
    */
   @Override
   public void subscribe(RealTimeEventListener listener) {
-    synchronized (this.listeners) {
-      this.listeners.add(listener);
-    }
+    this.listeners.add(listener);
   }
 
   /**
@@ -73,49 +127,340 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
    */
   @Override
   public void unsubscribe(RealTimeEventListener listener) {
-    synchronized (this.listeners) {
-      this.listeners.remove(listener);
+    this.listeners.remove(listener);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void addMetricsListener(DatafeedMetricsListener listener) {
+    this.metrics.add(listener);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void removeMetricsListener(DatafeedMetricsListener listener) {
+    this.metrics.remove(listener);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized void setExecutor(Executor executor) {
+    if (this.ownedExecutor != null && !this.ownedExecutorReleased) {
+      this.ownedExecutor.shutdown();
     }
+    this.ownedExecutor = null;
+    this.useExecutor(executor);
+  }
+
+  /**
+   * Shuts the executor created by the loop down once the loop has stopped. An executor set to the loop is not shut
+   * down.
+   *
+   * @param stopped completed once the loop tasks have completed.
+   */
+  protected synchronized void releaseOwnedExecutor(CompletableFuture<Void> stopped) {
+    if (this.ownedExecutor != null && !this.ownedExecutorReleased) {
+      this.ownedExecutorReleased = true;
+      final ExecutorService released = this.ownedExecutor;
+      stopped.whenComplete((r, e) -> released.shutdown());
+    }
+  }
+
+  /**
+   * Creates a new executor when the loop is started again, the one created by the loop being shut down once stopped.
+   */
+  protected synchronized void renewOwnedExecutor() {
+    if (this.ownedExecutor != null && this.ownedExecutorReleased) {
+      this.ownedExecutorReleased = false;
+      this.ownedExecutor = VirtualThreads.newVirtualThreadPerTaskExecutor().orElse(null);
+      this.useExecutor(this.ownedExecutor);
+    }
+  }
+
+  private void useExecutor(Executor executor) {
+    this.executor = executor;
+    final StreamPartitionedDispatcher previousDispatcher = this.parallelDispatcher;
+    if (previousDispatcher != null) {
+      final int dispatchParallelism = this.bdkConfig.getDatafeed().getDispatchParallelism();
+      this.parallelDispatcher = executor != null
+          ? new StreamPartitionedDispatcher(dispatchParallelism, executor)
+          : new StreamPartitionedDispatcher(dispatchParallelism);
+      previousDispatcher.shutdown();
+    }
+  }
+
+  /**
+   * Runs a task of the datafeed loop on the executor set to the loop, or on a new thread otherwise.
+   *
+   * @param threadName the name of the thread, if the task runs on a new thread.
+   * @param task       the task to run.
+   * @return a future completed once the task has run, even if it has failed.
+   */
+  protected CompletableFuture<Void> runAsync(String threadName, Runnable task) {
+    final CompletableFuture<Void> done = new CompletableFuture<>();
+    final Runnable wrapped = MDCUtils.wrap(() -> {
+      try {
+        task.run();
+      } catch (RuntimeException | Error e) {
+        log.error("An uncaught exception has occurred in datafeed loop task {}", threadName, e);
+      } finally {
+        done.complete(null);
+      }
+    });
+
+    final Executor loopExecutor = this.executor;
+    if (loopExecutor != null) {
+      loopExecutor.execute(wrapped);
+    } else {
+      new Thread(wrapped, threadName).start();
+    }
+    return done;
+  }
+
+  /**
+   * Bounds the time to wait for a datafeed loop to be drained.
+   *
+   * @param drained completed once the loop has been drained.
+   * @param timeout the maximum time to wait.
+   * @return a future completed with the drained one, or completed exceptionally with a {@link TimeoutException}.
+   */
+  protected static CompletableFuture<Void> completeWithin(CompletableFuture<Void> drained, Duration timeout) {
+    final CompletableFuture<Void> result = new CompletableFuture<>();
+    final ScheduledFuture<?> timeoutTask = DRAIN_TIMEOUT_SCHEDULER.schedule(
+        () -> result.completeExceptionally(new TimeoutException("Datafeed loop not drained within " + timeout)),
+        timeout.toMillis(), TimeUnit.MILLISECONDS);
+    drained.whenComplete((r, e) -> {
+      timeoutTask.cancel(false);
+      result.complete(null);
+    });
+    return result;
+  }
+
+  /**
+   * Publishes the metrics of a datafeed read call.
+   *
+   * @param startNanos {@link System#nanoTime()} before the read call.
+   * @param events     the read events, can be null.
+   */
+  protected void publishRead(long startNanos, List<V4Event> events) {
+    if (this.metrics.isEnabled()) {
+      this.metrics.onRead(Duration.ofNanos(System.nanoTime() - startNanos), events == null ? 0 : events.size());
+    }
+  }
+
+  /**
+   * Checks, from its type and its initiator only, whether an event would be dispatched to at least one listener.
+   * Events for which this method returns false can be discarded without being deserialized.
+   *
+   * @param eventType         the type of the event.
+   * @param initiatorUsername the username of the event initiator, null if not present.
+   * @return false if no listener would process the event.
+   */
+  protected boolean isDispatchable(String eventType, String initiatorUsername) {
+    final Optional<RealTimeEventType> type = RealTimeEventType.fromType(eventType);
+    if (!type.isPresent() || this.listeners.getListeners(type.get()).isEmpty()) {
+      return false;
+    }
+    if (this.listeners.hasCustomEventFilter(type.get())) {
+      return true;
+    }
+    // same check as the default RealTimeEventListener#isAcceptingEvent, typically filtering out the bot own messages
+    return initiatorUsername != null && !initiatorUsername.equals(this.bdkConfig.getBot().getUsername());
   }
 
   /**
    * Handle a received listener by using the subscribed {@link RealTimeEventListener}.
+   * <p>
+   * If {@link com.symphony.bdk.core.config.model.BdkDatafeedConfig#getDispatchParallelism()} is greater than 1, events
+   * are dispatched in parallel while preserving the ordering of the events of a same stream. In both cases, this method
+   * returns once all the events have been processed, including the stages returned by the
+   * {@link AsyncRealTimeEventListener}.
    *
    * @param events List of Datafeed events to be handled
    * @throws RequeueEventException Raised if a listener fails and the developer wants to explicitly not update the ack id.
    */
   protected void handleV4EventList(List<V4Event> events) throws RequeueEventException {
-    for (V4Event event : events) {
+    // completed once the asynchronous listeners have processed the events, batch is only processed at that time
+    final List<CompletableFuture<Void>> pending = Collections.synchronizedList(new ArrayList<>());
 
-      final Optional<RealTimeEventType> eventType = RealTimeEventType.fromV4Event(event);
+    RequeueEventException requeueException = null;
+    try {
+      if (this.parallelDispatcher == null) {
+        for (V4Event event : events) {
+          this.dispatchEvent(event, pending);
+        }
+      } else {
+        this.parallelDispatcher.dispatch(events, event -> this.dispatchEvent(event, pending));
+      }
+    } catch (RequeueEventException e) {
+      requeueException = e;
+    }
 
-      if (!eventType.isPresent()) {
-        log.info("Unsupported event received: {}", event);
-        continue;
+    try {
+      // also awaited if a listener failed, for the batch not to be re-delivered while asynchronous listeners still run
+      awaitCompletion(pending);
+    } catch (RequeueEventException e) {
+      if (requeueException == null) {
+        requeueException = e;
       }
+    }
+
+    if (requeueException != null) {
+      this.metrics.onBatchRequeued(events.size());
+      throw requeueException;
+    }
+    this.metrics.onBatchProcessed(events.size());
+  }
+
+  private void dispatchEvent(V4Event event, List<CompletableFuture<Void>> pending) throws RequeueEventException {
+    final Optional<RealTimeEventType> eventType = RealTimeEventType.fromV4Event(event);
+
+    if (!eventType.isPresent()) {
+      log.info("Unsupported event received: {}", event);
+      return;
+    }
 
+    if (this.metrics.isEnabled()) {
+      final Duration age = event.getTimestamp() != null
+          ? Duration.ofMillis(System.currentTimeMillis() - event.getTimestamp())
+          : null;
+      this.metrics.onEventReceived(event.getType(), age);
+    }
+
+    // only the listeners handling this type of event, snapshot not affected by concurrent (un)subscriptions
+    final List<RealTimeEventListener> listeners = this.listeners.getListeners(eventType.get());
+    if (listeners.isEmpty()) {
+      return;
+    }
+
+    if (this.deduplicationCache != null && this.deduplicationCache.isProcessed(event.getId())) {
+      log.debug("Event {} has already been dispatched, skipping it", event.getId());
+      return;
+    }
+
+    final List<CompletableFuture<Void>> asyncProcessing = new ArrayList<>();
+    try {
       // dispatch single event using event's ID as traceId. Tested for DatafeedLoopV2 as well, and working.
       DistributedTracingContext.doWithTraceId(event.getId(), () -> {
 
-        synchronized (this.listeners) {
-          for (RealTimeEventListener listener : this.listeners) {
-
-            if (listener.isAcceptingEvent(event, this.bdkConfig.getBot().getUsername())) {
-              try {
-                log.debug("Before dispatching '{}' event to listener {}", event.getType(), listener);
-                eventType.get().dispatch(listener, event);
-                log.debug("'{}' event successfully dispatched to listener {}", event.getType(), listener);
-              } catch (EventException e) {
-                // rethrow this explicit exception to not update the ack id in the DFv2 loop
-                throw new RequeueEventException(event, listener, e);
-              } catch (Exception t) {
-                log.debug("An uncaught exception has occurred while dispatching event {} to listener {}",
-                    event.getType(), listener, t);
-              }
+        for (RealTimeEventListener listener : listeners) {
+
+          if (listener.isAcceptingEvent(event, this.bdkConfig.getBot().getUsername())) {
+            final long start = System.nanoTime();
+            if (listener instanceof AsyncRealTimeEventListenerAdapter) {
+              asyncProcessing.add(dispatchAsync(eventType.get(), (AsyncRealTimeEventListenerAdapter) listener, event)
+                  .whenComplete((r, e) -> this.publishProcessed(event, listener, start)));
+              continue;
+            }
+            try {
+              log.debug("Before dispatching '{}' event to listener {}", event.getType(), listener);
+              eventType.get().dispatch(listener, event);
+              log.debug("'{}' event successfully dispatched to listener {}", event.getType(), listener);
+            } catch (EventException e) {
+              // rethrow this explicit exception to not update the ack id in the DFv2 loop
+              throw new RequeueEventException(event, listener, e);
+            } catch (Exception t) {
+              log.debug("An uncaught exception has occurred while dispatching event {} to listener {}",
+                  event.getType(), listener, t);
+            } finally {
+              this.publishProcessed(event, listener, start);
             }
           }
         }
       });
+    } catch (RequeueEventException e) {
+      // the asynchronous listeners already dispatched the event are awaited, for it not to be re-delivered meanwhile
+      if (!asyncProcessing.isEmpty()) {
+        pending.add(allOf(asyncProcessing));
+      }
+      throw e;
+    }
+
+    if (asyncProcessing.isEmpty()) {
+      this.markProcessed(event);
+      return;
+    }
+
+    final CompletableFuture<Void> processed = allOf(asyncProcessing);
+    processed.thenRun(() -> this.markProcessed(event));
+    pending.add(processed);
+  }
+
+  private static CompletableFuture<Void> allOf(List<CompletableFuture<Void>> futures) {
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+  }
+
+  private void publishProcessed(V4Event event, RealTimeEventListener listener, long startNanos) {
+    if (this.metrics.isEnabled()) {
+      final Class<?> listenerClass = listener instanceof AsyncRealTimeEventListenerAdapter
+          ? ((AsyncRealTimeEventListenerAdapter) listener).getDelegate().getClass()
+          : listener.getClass();
+      this.metrics.onEventProcessed(event.getType(), listenerClass.getName(),
+          Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+  }
+
+  // only events successfully dispatched to all the listeners, the other ones have to be dispatched again if re-queued
+  private void markProcessed(V4Event event) {
+    if (this.deduplicationCache != null) {
+      this.deduplicationCache.markProcessed(event.getId());
+    }
+  }
+
+  private static CompletableFuture<Void> dispatchAsync(RealTimeEventType eventType,
+      AsyncRealTimeEventListenerAdapter listener, V4Event event) {
+    log.debug("Dispatching '{}' event to asynchronous listener {}", event.getType(), listener);
+
+    CompletionStage<Void> stage;
+    try {
+      stage = eventType.dispatch(listener.getDelegate(), event);
+    } catch (Exception e) {
+      stage = CompletableFutures.failedFuture(e);
+    }
+
+    final CompletableFuture<Void> result = new CompletableFuture<>();
+    if (stage == null) {
+      result.complete(null);
+      return result;
+    }
+    stage.whenComplete((r, error) -> {
+      final Throwable cause = CompletableFutures.unwrap(error);
+      if (cause instanceof EventException) {
+        // same as for synchronous listeners, the ack id will not be updated in the DFv2 loop
+        result.completeExceptionally(new RequeueEventException(event, listener, (EventException) cause));
+      } else {
+        if (cause != null) {
+          log.debug("An uncaught exception has occurred while processing event {} by asynchronous listener {}",
+              event.getType(), listener, cause);
+        }
+        result.complete(null);
+      }
+    });
+    return result;
+  }
+
+  private static void awaitCompletion(List<CompletableFuture<Void>> pending) throws RequeueEventException {
+    RequeueEventException requeueException = null;
+    synchronized (pending) {
+      for (CompletableFuture<Void> processed : pending) {
+        try {
+          processed.join();
+        } catch (CompletionException e) {
+          final Throwable cause = CompletableFutures.unwrap(e);
+          if (requeueException == null && cause instanceof RequeueEventException) {
+            requeueException = (RequeueEventException) cause;
+          }
+        }
+      }
+    }
+    if (requeueException != null) {
+      throw requeueException;
     }
   }
 
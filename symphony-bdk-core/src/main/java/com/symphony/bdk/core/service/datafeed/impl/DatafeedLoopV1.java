@@ -19,8 +19,10 @@ import com.symphony.bdk.http.api.tracing.DistributedTracingContext;
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -41,7 +43,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * This service will be stopped by calling {@link DatafeedLoopV1#stop()}
  * <p>
  * If the datafeed service is stopped during a read datafeed call, it has to wait until the last read finish to be
- * really stopped
+ * really stopped. As the events are consumed by the read calls, {@link DatafeedLoopV1#stop(Duration)} also waits for
+ * the events of the last read to be dispatched.
  */
 @Slf4j
 @API(status = API.Status.INTERNAL)
@@ -50,6 +53,8 @@ public class DatafeedLoopV1 extends AbstractDatafeedLoop {
   private final AtomicBoolean started = new AtomicBoolean();
   private final DatafeedIdRepository datafeedRepository;
   private String datafeedId;
+  // completed once the loop has exited
+  private volatile CompletableFuture<Void> terminated = CompletableFuture.completedFuture(null);
 
   public DatafeedLoopV1(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config) {
     this(datafeedApi, authSession, config, new OnDiskDatafeedIdRepository(config));
@@ -80,10 +85,13 @@ public class DatafeedLoopV1 extends AbstractDatafeedLoop {
       throw new IllegalStateException("The datafeed service is already started");
     }
 
+    this.renewOwnedExecutor();
     if (!DistributedTracingContext.hasTraceId()) {
       DistributedTracingContext.setTraceId();
     }
 
+    final CompletableFuture<Void> loopTerminated = new CompletableFuture<>();
+    this.terminated = loopTerminated;
     try {
       this.datafeedId = this.datafeedId == null ? this.createDatafeed() : this.datafeedId;
       log.debug("Start reading events from datafeed {}", datafeedId);
@@ -97,6 +105,7 @@ public class DatafeedLoopV1 extends AbstractDatafeedLoop {
       log.error(networkIssueMessageError(throwable, datafeedApi.getApiClient().getBasePath()) + "\n" + throwable);
     } finally {
       DistributedTracingContext.clear();
+      loopTerminated.complete(null);
     }
   }
 
@@ -107,12 +116,27 @@ public class DatafeedLoopV1 extends AbstractDatafeedLoop {
   public void stop() {
     log.info("Stop the datafeed service");
     this.started.set(false);
+    this.releaseOwnedExecutor(this.terminated);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Datafeed v1 events are consumed by the read calls, the current read call cannot be abandoned without losing its
+   * events: the returned future completes once the last read events have been dispatched and the loop has exited.
+   */
+  @Override
+  public CompletableFuture<Void> stop(Duration drainTimeout) {
+    this.stop();
+    return completeWithin(this.terminated, drainTimeout);
   }
 
   private Void readAndHandleEvents() throws ApiException {
+    final long start = System.nanoTime();
     List<V4Event> events =
         datafeedApi.v4DatafeedIdReadGet(datafeedId, authSession.getSessionToken(), authSession.getKeyManagerToken(),
             null);
+    this.publishRead(start, events);
     if (events != null && !events.isEmpty()) {
       try {
         handleV4EventList(events);
@@ -8,6 +8,7 @@ import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.retry.RetryWithRecovery;
 import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 import com.symphony.bdk.core.service.datafeed.exception.NestedRetryException;
+import com.symphony.bdk.core.util.function.SupplierWithApiException;
 import com.symphony.bdk.gen.api.DatafeedApi;
 import com.symphony.bdk.gen.api.model.AckId;
 import com.symphony.bdk.gen.api.model.V4Event;
@@ -22,9 +23,17 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.time.StopWatch;
 import org.apiguardian.api.API;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * A class for implementing the datafeed v2 loop service.
@@ -39,10 +48,24 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * <p>
  * If this datafeed becomes stale or faulty, the BDK bot will create the new one for listening.
  * <p>
+ * If {@link com.symphony.bdk.core.config.model.BdkDatafeedConfig#getReadAheadBatches()} is strictly positive, the
+ * next batch of events is read while the current one is being dispatched, the read batches waiting to be dispatched
+ * being kept in a bounded queue. The ack id of a batch is only sent with the first read issued after the batch has been
+ * successfully processed, and the next batch is only dispatched once this read has been issued: each read call carrying
+ * a single ack id, the ack id of a batch would otherwise be overwritten by the one of the next batch and never sent.
+ * <p>
+ * If {@link com.symphony.bdk.core.config.model.BdkDatafeedConfig#getReaders()} is greater than 1, the datafeed is read
+ * by as many concurrent readers, each of them acknowledging the batches it has read. As for bot instances sharing the
+ * same datafeed, the events batches are distributed between the readers.
+ * <p>
  * This service will be stopped by calling {@link DatafeedLoopV2#stop()}
  * <p>
  * If the datafeed service is stopped during a read datafeed call, it has to wait until the last read finish to be
  * really stopped
+ * <p>
+ * {@link DatafeedLoopV2#stop(Duration)} does not wait for the read datafeed calls: they are interrupted when the http
+ * client supports it, otherwise abandoned, and the events they return are not dispatched. Not being acknowledged, these
+ * events are re-queued by the datafeed.
  */
 @Slf4j
 @API(status = API.Status.INTERNAL)
@@ -59,15 +82,39 @@ public class DatafeedLoopV2 extends AbstractDatafeedLoop {
   private static final int EVENT_PROCESSING_MAX_DURATION_SECONDS = 30;
 
   private final AtomicBoolean started = new AtomicBoolean();
-  private AckId ackId;
   private final String tag;
+  private final int readAheadBatches;
+  private final int readers;
+  private final DatafeedReader mainReader;
+  // null if events are fully deserialized by the generated datafeed api
+  private final EventFilteringReader eventFilteringReader;
+
+  // shared by the readers, replaced when the datafeed is re-created
+  private volatile V5Datafeed datafeed;
 
-  private V5Datafeed datafeed;
+  // readers currently running, interrupted when the loop is drained
+  private final Set<DatafeedReader> runningReaders = ConcurrentHashMap.newKeySet();
+
+  // guards the batches dispatching state below
+  private final Object dispatchLock = new Object();
+  private boolean draining;
+  // set by a stop request, for start() not to undo a stop received while the datafeed was being retrieved
+  private boolean stopRequested;
+  private int batchesInProgress;
+  private final List<CompletableFuture<Void>> drainedFutures = new ArrayList<>();
+
+  // completed once the readers have exited
+  private volatile CompletableFuture<Void> terminated = CompletableFuture.completedFuture(null);
 
   public DatafeedLoopV2(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config) {
     super(datafeedApi, authSession, config);
-    this.ackId = new AckId().ackId("");
     this.tag = StringUtils.truncate(bdkConfig.getBot().getUsername(), DATAFEED_TAG_MAX_LENGTH);
+    this.readAheadBatches = config.getDatafeed().getReadAheadBatches();
+    this.readers = Math.max(1, config.getDatafeed().getReaders());
+    this.mainReader = new DatafeedReader(0);
+    this.eventFilteringReader = config.getDatafeed().isEarlyEventFiltering()
+        ? new EventFilteringReader(this.apiClient, this::isDispatchable)
+        : null;
   }
 
   /**
@@ -79,31 +126,53 @@ public class DatafeedLoopV2 extends AbstractDatafeedLoop {
       throw new IllegalStateException("The datafeed service is already started");
     }
 
+    this.renewOwnedExecutor();
     if (!DistributedTracingContext.hasTraceId()) {
       DistributedTracingContext.setTraceId();
     }
 
+    final CompletableFuture<Void> loopTerminated = new CompletableFuture<>();
+    this.terminated = loopTerminated;
+    synchronized (this.dispatchLock) {
+      this.stopRequested = false;
+    }
     try {
       this.datafeed = this.retrieveDatafeed();
       if (this.datafeed == null) {
         this.datafeed = this.createDatafeed();
       }
+      synchronized (this.dispatchLock) {
+        if (this.stopRequested) {
+          log.info("Datafeed loop stopped while starting, events will not be read");
+          return;
+        }
+        this.draining = false;
+        this.started.set(true);
+      }
       log.debug("Start reading datafeed events");
-      this.started.set(true);
-      do {
-        this.readDatafeed();
-      } while (this.started.get());
+      if (this.readers > 1) {
+        this.readConcurrently();
+      } else {
+        this.mainReader.run();
+      }
     } catch (AuthUnauthorizedException | ApiException | NestedRetryException exception) {
       throw exception;
     } catch (Throwable throwable) {
       log.error("{}\n{}", networkIssueMessageError(throwable, datafeedApi.getApiClient().getBasePath()), throwable);
     } finally {
       DistributedTracingContext.clear();
+      loopTerminated.complete(null);
+    }
+  }
+
+  private boolean isDraining() {
+    synchronized (this.dispatchLock) {
+      return this.draining;
     }
   }
 
   protected AckId getAckId() {
-    return this.ackId;
+    return this.mainReader.ackId;
   }
 
   /**
@@ -111,7 +180,76 @@ public class DatafeedLoopV2 extends AbstractDatafeedLoop {
    */
   @Override
   public void stop() {
-    this.started.set(false);
+    synchronized (this.dispatchLock) {
+      this.stopRequested = true;
+      this.started.set(false);
+    }
+    this.releaseOwnedExecutor(this.terminated.thenCompose(t -> this.batchesDispatched()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Void> stop(Duration drainTimeout) {
+    log.info("Stop the datafeed service, waiting at most {} for the events being processed", drainTimeout);
+    final CompletableFuture<Void> drained;
+    synchronized (this.dispatchLock) {
+      this.draining = true;
+      this.stop();
+      drained = this.batchesDispatched();
+    }
+    this.runningReaders.forEach(DatafeedReader::abortRead);
+    return completeWithin(drained, drainTimeout);
+  }
+
+  /**
+   * @return a future completed once no batch of events is being dispatched.
+   */
+  private CompletableFuture<Void> batchesDispatched() {
+    final CompletableFuture<Void> dispatched = new CompletableFuture<>();
+    synchronized (this.dispatchLock) {
+      if (this.batchesInProgress == 0) {
+        dispatched.complete(null);
+      } else {
+        this.drainedFutures.add(dispatched);
+      }
+    }
+    return dispatched;
+  }
+
+  /**
+   * Reads the datafeed with several concurrent readers, the current thread being one of them. The datafeed distributes
+   * the events batches between the readers, each of them acknowledging the batches it has read.
+   * <p>
+   * If one of the readers fails, the other ones are stopped and the failure is rethrown.
+   */
+  private void readConcurrently() throws Throwable {
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    final List<CompletableFuture<Void>> otherReaders = new ArrayList<>(this.readers - 1);
+    for (int i = 1; i < this.readers; i++) {
+      final DatafeedReader reader = new DatafeedReader(i);
+      otherReaders.add(this.runAsync("SymphonyBdk_DatafeedReader-" + i, () -> {
+        try {
+          reader.run();
+        } catch (Throwable throwable) {
+          failure.compareAndSet(null, throwable);
+          this.stop();
+        }
+      }));
+    }
+
+    try {
+      this.mainReader.run();
+    } catch (Throwable throwable) {
+      failure.compareAndSet(null, throwable);
+      this.stop();
+    }
+
+    CompletableFuture.allOf(otherReaders.toArray(new CompletableFuture<?>[0])).join();
+    if (failure.get() != null) {
+      throw failure.get();
+    }
   }
 
   private V5Datafeed createDatafeed() throws Throwable {
@@ -152,25 +290,14 @@ public class DatafeedLoopV2 extends AbstractDatafeedLoop {
     return null;
   }
 
-  private void readDatafeed() throws Throwable {
-    log.debug("Reading datafeed events from datafeed {}", datafeed.getId());
-
-    final RetryWithRecovery<Void> retry = RetryWithRecoveryBuilder.<Void>from(retryWithRecoveryBuilder)
-        .name("Read Datafeed V2")
-        .supplier(this::readAndHandleEvents)
-        .retryOnException(RetryWithRecoveryBuilder::isNetworkOrMinorErrorOrClientError)
-        .recoveryStrategy(ApiException::isClientError, this::recreateDatafeed)
-        .build();
-
-    retry.execute();
-  }
-
-  private Void readAndHandleEvents() throws ApiException {
-    V5EventList v5EventList = this.datafeedApi.readDatafeed(
-        datafeed.getId(),
-        authSession.getSessionToken(),
-        authSession.getKeyManagerToken(),
-        ackId);
+  private void handleEvents(V5EventList v5EventList, DatafeedReader reader) {
+    synchronized (this.dispatchLock) {
+      if (this.draining) {
+        log.debug("Datafeed loop is stopping, batch will be re-queued");
+        return;
+      }
+      this.batchesInProgress++;
+    }
     try {
       List<V4Event> events = v5EventList.getEvents();
       StopWatch stopWatch = StopWatch.createStarted();
@@ -187,15 +314,41 @@ public class DatafeedLoopV2 extends AbstractDatafeedLoop {
       }
 
       // updates ack id so that on next call DFv2 knows that events have been processed
-      this.ackId = new AckId();
-      this.ackId.setAckId(v5EventList.getAckId());
+      reader.acknowledge(new AckId().ackId(v5EventList.getAckId()));
 
     } catch (Exception e) {
       // can happen if developer explicitly raised a NoAckIdUpdateException in handleV4EventList
       // we also catch all exceptions just to be extra careful and never break the DF loop
       log.warn("Failed to process events, will not update ack id, events will be re-queued", e);
+    } finally {
+      this.endBatch();
     }
-    return null;
+  }
+
+  private void endBatch() {
+    final List<CompletableFuture<Void>> drained;
+    synchronized (this.dispatchLock) {
+      this.batchesInProgress--;
+      if (this.batchesInProgress > 0 || this.drainedFutures.isEmpty()) {
+        return;
+      }
+      drained = new ArrayList<>(this.drainedFutures);
+      this.drainedFutures.clear();
+    }
+    drained.forEach(future -> future.complete(null));
+  }
+
+  /**
+   * Re-creates the datafeed, unless another reader already did it.
+   *
+   * @param faultyDatafeed the datafeed that the reader failed to read.
+   */
+  private synchronized void recreateDatafeed(V5Datafeed faultyDatafeed) {
+    if (faultyDatafeed != this.datafeed) {
+      log.debug("Datafeed has already been re-created");
+      return;
+    }
+    this.recreateDatafeed();
   }
 
   private void recreateDatafeed() {
@@ -223,7 +376,247 @@ public class DatafeedLoopV2 extends AbstractDatafeedLoop {
 
   private Void tryDeleteDatafeed() throws ApiException {
     this.datafeedApi.deleteDatafeed(datafeed.getId(), authSession.getSessionToken(), authSession.getKeyManagerToken());
-    this.datafeed = null;
     return null;
   }
+
+  /**
+   * Reads the datafeed in a loop, holding its own ack id so that it only acknowledges the batches it has read.
+   * <p>
+   * If {@link com.symphony.bdk.core.config.model.BdkDatafeedConfig#getReadAheadBatches()} is strictly positive, the
+   * datafeed is read on the current thread while the read batches are dispatched on a separate thread.
+   */
+  @API(status = API.Status.INTERNAL)
+  private class DatafeedReader {
+
+    // updated by the dispatching thread, read by the reading thread in read-ahead mode
+    private volatile AckId ackId = new AckId().ackId("");
+    private final int index;
+    private V5Datafeed readDatafeed;
+
+    // guards the read-ahead state below
+    private final Object readAheadLock = new Object();
+    private final Deque<V5EventList> readAheadBatchesQueue = new ArrayDeque<>();
+    // whether the ack id of the last dispatched batch has not been sent with a read call yet
+    private boolean ackPending;
+    private boolean readAheadEnded;
+
+    // thread blocked in a read datafeed call, guarded by this
+    private Thread readingThread;
+
+    DatafeedReader(int index) {
+      this.index = index;
+    }
+
+    void run() throws Throwable {
+      runningReaders.add(this);
+      try {
+        if (readAheadBatches > 0) {
+          this.readAheadDatafeed();
+        } else {
+          do {
+            this.readDatafeed(this::readAndHandleEvents);
+          } while (started.get());
+        }
+      } finally {
+        runningReaders.remove(this);
+      }
+    }
+
+    /**
+     * Interrupts the current read datafeed call if any, the thread is never interrupted while dispatching events.
+     */
+    synchronized void abortRead() {
+      if (this.readingThread != null) {
+        this.readingThread.interrupt();
+      }
+    }
+
+    private void readDatafeed(SupplierWithApiException<Void> readAndHandle) throws Throwable {
+      log.debug("Reading datafeed events from datafeed {}", datafeed.getId());
+
+      final RetryWithRecovery<Void> retry = RetryWithRecoveryBuilder.<Void>from(retryWithRecoveryBuilder)
+          .name("Read Datafeed V2")
+          .supplier(readAndHandle)
+          .retryOnException(RetryWithRecoveryBuilder::isNetworkOrMinorErrorOrClientError)
+          .recoveryStrategy(ApiException::isClientError, () -> recreateDatafeed(this.readDatafeed))
+          .build();
+
+      retry.execute();
+    }
+
+    /**
+     * Reads the datafeed on the current thread and dispatches the read events on a separate thread, so that the next
+     * read call is issued while the events of the previous one are being processed.
+     */
+    private void readAheadDatafeed() throws Throwable {
+      synchronized (this.readAheadLock) {
+        this.readAheadBatchesQueue.clear();
+        this.ackPending = false;
+        this.readAheadEnded = false;
+      }
+      final CompletableFuture<Void> dispatching =
+          runAsync("SymphonyBdk_DatafeedBatchDispatcher-" + this.index, this::dispatchReadAheadBatches);
+
+      try {
+        do {
+          this.readDatafeed(this::readAndEnqueueEvents);
+        } while (started.get());
+      } finally {
+        // batches not dispatched yet will be re-queued in datafeed as their ack id will not be sent
+        synchronized (this.readAheadLock) {
+          this.readAheadBatchesQueue.clear();
+          this.readAheadEnded = true;
+          this.readAheadLock.notifyAll();
+        }
+        dispatching.join();
+      }
+    }
+
+    private Void readAndEnqueueEvents() throws ApiException {
+      try {
+        this.awaitReadAheadCapacity();
+      } catch (InterruptedException e) {
+        log.warn("Datafeed reading has been interrupted, stopping");
+        stop();
+        Thread.currentThread().interrupt();
+        return null;
+      }
+      if (!started.get()) {
+        return null;
+      }
+      final V5EventList v5EventList = this.readEvents();
+      if (!started.get()) {
+        return null;
+      }
+      if (v5EventList == null) {
+        log.warn("Empty response received while reading datafeed {}", this.readDatafeed.getId());
+        return null;
+      }
+      synchronized (this.readAheadLock) {
+        this.readAheadBatchesQueue.addLast(v5EventList);
+        this.readAheadLock.notifyAll();
+      }
+      return null;
+    }
+
+    /**
+     * Waits until the number of batches waiting to be dispatched is below the read-ahead limit. A read is still issued
+     * above the limit when the ack id of a dispatched batch has to be sent, the dispatching thread waiting for it.
+     */
+    private void awaitReadAheadCapacity() throws InterruptedException {
+      synchronized (this.readAheadLock) {
+        while (started.get() && !this.ackPending && this.readAheadBatchesQueue.size() >= readAheadBatches) {
+          this.readAheadLock.wait();
+        }
+      }
+    }
+
+    private void dispatchReadAheadBatches() {
+      try {
+        V5EventList v5EventList = this.nextReadAheadBatch();
+        while (v5EventList != null) {
+          handleEvents(v5EventList, this);
+          v5EventList = this.nextReadAheadBatch();
+        }
+      } catch (InterruptedException e) {
+        log.warn("Datafeed events dispatching has been interrupted");
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    /**
+     * Waits for the ack id of the previously dispatched batch to be sent, then for the next batch to dispatch.
+     *
+     * @return the next batch to dispatch, null once the reader has exited.
+     */
+    private V5EventList nextReadAheadBatch() throws InterruptedException {
+      synchronized (this.readAheadLock) {
+        while (!this.readAheadEnded && (this.ackPending || this.readAheadBatchesQueue.isEmpty())) {
+          this.readAheadLock.wait();
+        }
+        return this.readAheadEnded ? null : this.readAheadBatchesQueue.pollFirst();
+      }
+    }
+
+    /**
+     * Sets the ack id to be sent with the next read call.
+     *
+     * @param processedAckId the ack id of the batch that has been processed.
+     */
+    private void acknowledge(AckId processedAckId) {
+      synchronized (this.readAheadLock) {
+        this.ackId = processedAckId;
+        this.ackPending = true;
+        this.readAheadLock.notifyAll();
+      }
+    }
+
+    /**
+     * @return the ack id to be sent with a read call, the dispatching thread being released if it was waiting for it.
+     */
+    private AckId ackIdToSend() {
+      synchronized (this.readAheadLock) {
+        if (this.ackPending) {
+          this.ackPending = false;
+          this.readAheadLock.notifyAll();
+        }
+        return this.ackId;
+      }
+    }
+
+    private Void readAndHandleEvents() throws ApiException {
+      final V5EventList v5EventList = this.readEvents();
+      if (v5EventList != null) {
+        handleEvents(v5EventList, this);
+      } else if (started.get()) {
+        log.warn("Empty response received while reading datafeed {}", this.readDatafeed.getId());
+      }
+      return null;
+    }
+
+    private V5EventList readEvents() throws ApiException {
+      this.readDatafeed = datafeed;
+      final AckId sentAckId = this.ackIdToSend();
+      final long start = System.nanoTime();
+      final V5EventList v5EventList;
+      this.beginRead();
+      try {
+        if (eventFilteringReader != null) {
+          v5EventList = eventFilteringReader.readDatafeed(
+              this.readDatafeed.getId(),
+              authSession.getSessionToken(),
+              authSession.getKeyManagerToken(),
+              sentAckId);
+        } else {
+          v5EventList = datafeedApi.readDatafeed(
+              this.readDatafeed.getId(),
+              authSession.getSessionToken(),
+              authSession.getKeyManagerToken(),
+              sentAckId);
+        }
+      } catch (ApiException | RuntimeException e) {
+        if (isDraining()) {
+          log.debug("Read datafeed call aborted as the datafeed loop is stopping", e);
+          return null;
+        }
+        throw e;
+      } finally {
+        this.endRead();
+      }
+      publishRead(start, v5EventList != null ? v5EventList.getEvents() : null);
+      return v5EventList;
+    }
+
+    private synchronized void beginRead() {
+      this.readingThread = Thread.currentThread();
+    }
+
+    private synchronized void endRead() {
+      this.readingThread = null;
+      if (isDraining()) {
+        // clears a pending interruption, meant for the read call only
+        Thread.interrupted();
+      }
+    }
+  }
 }
@@ -0,0 +1,41 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.service.datafeed.DatafeedMetricsListener;
+import com.symphony.bdk.core.util.ListenerPublisher;
+
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+
+/**
+ * Publishes the metrics of the datafeed loop to the {@link DatafeedMetricsListener} registered through
+ * {@link com.symphony.bdk.core.service.datafeed.DatafeedLoop#addMetricsListener(DatafeedMetricsListener)}.
+ */
+@API(status = API.Status.INTERNAL)
+class DatafeedMetricsPublisher extends ListenerPublisher<DatafeedMetricsListener> implements DatafeedMetricsListener {
+
+  @Override
+  public void onRead(Duration roundTrip, int batchSize) {
+    this.publish(listener -> listener.onRead(roundTrip, batchSize));
+  }
+
+  @Override
+  public void onEventReceived(String eventType, Duration age) {
+    this.publish(listener -> listener.onEventReceived(eventType, age));
+  }
+
+  @Override
+  public void onEventProcessed(String eventType, String listener, Duration latency) {
+    this.publish(metricsListener -> metricsListener.onEventProcessed(eventType, listener, latency));
+  }
+
+  @Override
+  public void onBatchProcessed(int batchSize) {
+    this.publish(listener -> listener.onBatchProcessed(batchSize));
+  }
+
+  @Override
+  public void onBatchRequeued(int batchSize) {
+    this.publish(listener -> listener.onBatchRequeued(batchSize));
+  }
+}
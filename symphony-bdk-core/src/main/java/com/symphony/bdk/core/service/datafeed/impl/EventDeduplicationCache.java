@@ -0,0 +1,82 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import org.apiguardian.api.API;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of the ids of the events that have already been dispatched, used to skip the events re-delivered by the
+ * datafeed, typically when a batch has not been acknowledged.
+ * <p>
+ * An id is kept for a given time window, and at most for a given number of ids: the oldest ids are evicted first.
+ */
+@API(status = API.Status.INTERNAL)
+class EventDeduplicationCache {
+
+  private final long windowMillis;
+  private final int maxSize;
+  private final Clock clock;
+
+  // insertion ordered, oldest ids first, guarded by this
+  private final Map<String, Long> processedAt = new LinkedHashMap<>();
+
+  public EventDeduplicationCache(long windowMillis, int maxSize) {
+    this(windowMillis, maxSize, Clock.systemUTC());
+  }
+
+  EventDeduplicationCache(long windowMillis, int maxSize, Clock clock) {
+    if (windowMillis <= 0 || maxSize <= 0) {
+      throw new IllegalArgumentException("Deduplication window and size must be strictly positive.");
+    }
+    this.windowMillis = windowMillis;
+    this.maxSize = maxSize;
+    this.clock = clock;
+  }
+
+  /**
+   * Checks whether an event has already been dispatched within the deduplication window.
+   *
+   * @param eventId the event id, can be null.
+   * @return true if the event has already been dispatched.
+   */
+  public synchronized boolean isProcessed(String eventId) {
+    if (eventId == null) {
+      return false;
+    }
+    this.evictExpired();
+    return this.processedAt.containsKey(eventId);
+  }
+
+  /**
+   * Records an event as dispatched.
+   *
+   * @param eventId the event id, ignored if null.
+   */
+  public synchronized void markProcessed(String eventId) {
+    if (eventId == null) {
+      return;
+    }
+    this.processedAt.remove(eventId);
+    this.processedAt.put(eventId, this.clock.millis());
+    this.evictExpired();
+  }
+
+  synchronized int size() {
+    return this.processedAt.size();
+  }
+
+  private void evictExpired() {
+    final long expiredBefore = this.clock.millis() - this.windowMillis;
+    final Iterator<Map.Entry<String, Long>> iterator = this.processedAt.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final Map.Entry<String, Long> oldest = iterator.next();
+      if (oldest.getValue() > expiredBefore && this.processedAt.size() <= this.maxSize) {
+        break;
+      }
+      iterator.remove();
+    }
+  }
+}
@@ -0,0 +1,280 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.util.GeneratedModelMapper;
+import com.symphony.bdk.gen.api.DatafeedApi;
+import com.symphony.bdk.gen.api.model.AckId;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V5EventList;
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
+import com.symphony.bdk.http.api.Pair;
+import com.symphony.bdk.http.api.util.TypeReference;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+/**
+ * Reads the DFv2 events with a streaming parser, only deserializing the events that would be dispatched.
+ * <p>
+ * The request is sent by the generated {@link DatafeedApi}, through an api client returning the response body as an
+ * {@link InputStream} instead of a {@link V5EventList}. The body is parsed token by token: the tokens of an event are
+ * buffered until its type and initiator username have been read, the rest of the event being skipped if the filter
+ * rejects it. Accepted events are deserialized as {@link V4Event} from their buffered tokens, with the configuration of
+ * the generated models, so that events no listener is interested in are never materialized.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+class EventFilteringReader {
+
+  private static final ObjectMapper MAPPER = GeneratedModelMapper.newObjectMapper();
+  private static final JsonFactory JSON_FACTORY = MAPPER.getFactory();
+  private static final ObjectReader EVENT_READER = MAPPER.readerFor(V4Event.class);
+
+  private final DatafeedApi datafeedApi;
+  private final BiPredicate<String, String> filter;
+
+  /**
+   * @param apiClient the agent api client.
+   * @param filter    tests the type and the initiator username of an event, the event being discarded if false.
+   */
+  public EventFilteringReader(ApiClient apiClient, BiPredicate<String, String> filter) {
+    this.datafeedApi = new DatafeedApi(new EventFilteringApiClient(apiClient));
+    this.filter = filter;
+  }
+
+  /**
+   * Same as {@link DatafeedApi#readDatafeed(String, String, String, AckId)}, the returned list only containing the
+   * events accepted by the filter.
+   */
+  public V5EventList readDatafeed(String datafeedId, String sessionToken, String keyManagerToken, AckId ackId)
+      throws ApiException {
+    return this.datafeedApi.readDatafeed(datafeedId, sessionToken, keyManagerToken, ackId);
+  }
+
+  V5EventList parseEventList(InputStream json) throws IOException {
+    final V5EventList eventList = new V5EventList().events(new ArrayList<>());
+    if (json == null) {
+      return eventList;
+    }
+
+    // closes the response body once parsed
+    try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+      final JsonToken firstToken = parser.nextToken();
+      if (firstToken == null) {
+        return eventList;
+      }
+      if (firstToken != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, "Datafeed events list is expected to be an object");
+      }
+      for (String field = nextField(parser); field != null; field = nextField(parser)) {
+        if ("ackId".equals(field)) {
+          eventList.setAckId(parser.getValueAsString());
+        } else if ("events".equals(field) && parser.currentToken() == JsonToken.START_ARRAY) {
+          this.readEvents(parser, eventList.getEvents());
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+    return eventList;
+  }
+
+  private void readEvents(JsonParser parser, List<V4Event> events) throws IOException {
+    for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+      if (token != JsonToken.START_OBJECT) {
+        parser.skipChildren();
+        continue;
+      }
+      final V4Event event = this.readEvent(parser);
+      if (event != null) {
+        events.add(event);
+      }
+    }
+  }
+
+  /**
+   * Reads the event the parser is at the start of, up to its end.
+   *
+   * @return the deserialized event, null if the filter rejected it.
+   */
+  private V4Event readEvent(JsonParser parser) throws IOException {
+    final TokenBuffer tokens = new TokenBuffer(parser);
+    tokens.writeStartObject();
+    String type = null;
+    String initiatorUsername = null;
+    boolean typeRead = false;
+    boolean initiatorRead = false;
+    Boolean accepted = null;
+    for (String field = nextField(parser); field != null; field = nextField(parser)) {
+      if (Boolean.FALSE.equals(accepted)) {
+        parser.skipChildren();
+        continue;
+      }
+      tokens.writeFieldName(field);
+      if ("type".equals(field)) {
+        type = parser.getValueAsString();
+        typeRead = true;
+        tokens.copyCurrentStructure(parser);
+      } else if ("initiator".equals(field)) {
+        final TokenBuffer initiatorTokens = new TokenBuffer(parser);
+        initiatorTokens.copyCurrentStructure(parser);
+        try (JsonParser initiatorParser = initiatorTokens.asParser()) {
+          initiatorParser.nextToken();
+          initiatorUsername = readInitiatorUsername(initiatorParser);
+        }
+        initiatorRead = true;
+        initiatorTokens.serialize(tokens);
+      } else {
+        tokens.copyCurrentStructure(parser);
+      }
+      if (accepted == null && typeRead && initiatorRead) {
+        accepted = this.filter.test(type, initiatorUsername);
+      }
+    }
+    if (accepted == null) {
+      accepted = this.filter.test(type, initiatorUsername);
+    }
+
+    if (!accepted) {
+      log.debug("Event of type {} discarded before deserialization", type);
+      return null;
+    }
+    tokens.writeEndObject();
+    try (JsonParser eventParser = tokens.asParser()) {
+      return EVENT_READER.readValue(eventParser);
+    }
+  }
+
+  private static String readInitiatorUsername(JsonParser parser) throws IOException {
+    String username = null;
+    for (String field = firstField(parser); field != null; field = nextField(parser)) {
+      if ("user".equals(field)) {
+        username = readUsername(parser);
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return username;
+  }
+
+  private static String readUsername(JsonParser parser) throws IOException {
+    String username = null;
+    for (String field = firstField(parser); field != null; field = nextField(parser)) {
+      if ("username".equals(field)) {
+        username = parser.getValueAsString();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return username;
+  }
+
+  /**
+   * Moves to the value of the first field of the current object, skips the current value if it is not an object.
+   *
+   * @return the name of the first field, null if the current value is not an object or is empty.
+   */
+  private static String firstField(JsonParser parser) throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return null;
+    }
+    return nextField(parser);
+  }
+
+  /**
+   * Moves to the value of the next field of the current object.
+   *
+   * @return the name of the field, null if the end of the object has been reached.
+   */
+  private static String nextField(JsonParser parser) throws IOException {
+    if (parser.nextToken() != JsonToken.FIELD_NAME) {
+      return null;
+    }
+    final String field = parser.getCurrentName();
+    parser.nextToken();
+    return field;
+  }
+
+  /**
+   * Api client reading the {@link V5EventList} responses as a stream to be filtered, other calls being delegated.
+   */
+  @API(status = API.Status.INTERNAL)
+  private class EventFilteringApiClient implements ApiClient {
+
+    private final ApiClient delegate;
+
+    EventFilteringApiClient(ApiClient delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ApiResponse<T> invokeAPI(String path, String method, List<Pair> queryParams, Object body,
+        Map<String, String> headerParams, Map<String, String> cookieParams, Map<String, Object> formParams,
+        String accept, String contentType, String[] authNames, TypeReference<T> returnType) throws ApiException {
+      if (returnType == null || returnType.getType() != V5EventList.class) {
+        return this.delegate.invokeAPI(path, method, queryParams, body, headerParams, cookieParams, formParams,
+            accept, contentType, authNames, returnType);
+      }
+      final ApiResponse<InputStream> response = this.delegate.invokeAPI(path, method, queryParams, body, headerParams,
+          cookieParams, formParams, accept, contentType, authNames, new TypeReference<InputStream>() {});
+      try {
+        return (ApiResponse<T>) new ApiResponse<>(response.getStatusCode(), response.getHeaders(),
+            parseEventList(response.getData()));
+      } catch (IOException e) {
+        throw new ApiException("Failed to parse datafeed events", e);
+      }
+    }
+
+    @Override
+    public String getBasePath() {
+      return this.delegate.getBasePath();
+    }
+
+    @Override
+    public String parameterToString(Object param) {
+      return this.delegate.parameterToString(param);
+    }
+
+    @Override
+    public List<Pair> parameterToPairs(String collectionFormat, String name, Object value) {
+      return this.delegate.parameterToPairs(collectionFormat, name, value);
+    }
+
+    @Override
+    public String selectHeaderAccept(String... accepts) {
+      return this.delegate.selectHeaderAccept(accepts);
+    }
+
+    @Override
+    public String selectHeaderContentType(String... contentTypes) {
+      return this.delegate.selectHeaderContentType(contentTypes);
+    }
+
+    @Override
+    public String escapeString(String str) {
+      return this.delegate.escapeString(str);
+    }
+
+    @Override
+    public void rotate() {
+      this.delegate.rotate();
+    }
+  }
+}
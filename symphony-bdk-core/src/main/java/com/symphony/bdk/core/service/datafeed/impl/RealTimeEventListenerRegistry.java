@@ -0,0 +1,176 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.service.datafeed.AsyncRealTimeEventListener;
+import com.symphony.bdk.core.service.datafeed.AsyncRealTimeEventListenerAdapter;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registry of the {@link RealTimeEventListener} subscribed to a datafeed loop, indexed by the {@link RealTimeEventType}
+ * they handle.
+ * <p>
+ * The handled event types are detected at subscription time: a listener handles an event type if it overrides the
+ * corresponding callback method (e.g. {@link RealTimeEventListener#onMessageSent}). A listener that does not override
+ * any callback method is registered for all the event types. {@link AsyncRealTimeEventListener} are registered through an
+ * {@link AsyncRealTimeEventListenerAdapter}, their handled event types being detected the same way.
+ * <p>
+ * The registry also keeps track of the event types for which at least one listener overrides
+ * {@link RealTimeEventListener#isAcceptingEvent}, so that events can be filtered out before being deserialized.
+ * <p>
+ * The registry is copy-on-write: reads are lock-free and always return an immutable snapshot, subscriptions and
+ * un-subscriptions (that are expected to be rare) copy the index.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+class RealTimeEventListenerRegistry {
+
+  private static final String CALLBACK_PREFIX = "on";
+  private static final Map<RealTimeEventType, Method> CALLBACKS = callbacks();
+  private static final Method EVENT_FILTER = eventFilter();
+
+  private final Object writeLock = new Object();
+  private volatile Map<RealTimeEventType, List<RealTimeEventListener>> listenersByType;
+  private volatile Set<RealTimeEventType> typesWithCustomFilter = EnumSet.noneOf(RealTimeEventType.class);
+
+  public RealTimeEventListenerRegistry() {
+    final Map<RealTimeEventType, List<RealTimeEventListener>> empty = new EnumMap<>(RealTimeEventType.class);
+    for (RealTimeEventType type : RealTimeEventType.values()) {
+      empty.put(type, Collections.emptyList());
+    }
+    this.listenersByType = empty;
+  }
+
+  /**
+   * Registers a listener for the event types it handles.
+   *
+   * @param listener the listener to be registered.
+   */
+  public void add(RealTimeEventListener listener) {
+    final Set<RealTimeEventType> handledTypes = handledTypes(listener);
+    log.debug("Listener {} subscribed to events {}", listener, handledTypes);
+
+    synchronized (this.writeLock) {
+      final Map<RealTimeEventType, List<RealTimeEventListener>> copy = new EnumMap<>(this.listenersByType);
+      for (RealTimeEventType type : handledTypes) {
+        final List<RealTimeEventListener> listeners = new ArrayList<>(copy.get(type));
+        listeners.add(listener);
+        copy.put(type, Collections.unmodifiableList(listeners));
+      }
+      this.update(copy);
+    }
+  }
+
+  /**
+   * Un-registers a listener.
+   *
+   * @param listener the listener to be removed.
+   */
+  public void remove(RealTimeEventListener listener) {
+    synchronized (this.writeLock) {
+      final Map<RealTimeEventType, List<RealTimeEventListener>> copy = new EnumMap<>(this.listenersByType);
+      for (Map.Entry<RealTimeEventType, List<RealTimeEventListener>> entry : copy.entrySet()) {
+        if (entry.getValue().contains(listener)) {
+          final List<RealTimeEventListener> listeners = new ArrayList<>(entry.getValue());
+          listeners.remove(listener);
+          entry.setValue(Collections.unmodifiableList(listeners));
+        }
+      }
+      this.update(copy);
+    }
+  }
+
+  private void update(Map<RealTimeEventType, List<RealTimeEventListener>> listenersByType) {
+    final Set<RealTimeEventType> customFilters = EnumSet.noneOf(RealTimeEventType.class);
+    for (Map.Entry<RealTimeEventType, List<RealTimeEventListener>> entry : listenersByType.entrySet()) {
+      if (entry.getValue().stream().anyMatch(listener -> overrides(listener, EVENT_FILTER))) {
+        customFilters.add(entry.getKey());
+      }
+    }
+    this.listenersByType = listenersByType;
+    this.typesWithCustomFilter = customFilters;
+  }
+
+  /**
+   * Returns the listeners handling a given event type.
+   *
+   * @param type the event type.
+   * @return an immutable snapshot of the listeners handling the event type.
+   */
+  public List<RealTimeEventListener> getListeners(RealTimeEventType type) {
+    return this.listenersByType.get(type);
+  }
+
+  /**
+   * Checks whether at least one of the listeners handling a given event type overrides
+   * {@link RealTimeEventListener#isAcceptingEvent}.
+   *
+   * @param type the event type.
+   * @return true if the events of this type cannot be filtered with the default event filter only.
+   */
+  public boolean hasCustomEventFilter(RealTimeEventType type) {
+    return this.typesWithCustomFilter.contains(type);
+  }
+
+  /**
+   * Detects the event types handled by a listener, i.e. the ones for which it overrides the callback method.
+   *
+   * @param listener the listener to be checked.
+   * @return the handled event types, all of them if the listener does not override any callback method.
+   */
+  static Set<RealTimeEventType> handledTypes(RealTimeEventListener listener) {
+    final Set<RealTimeEventType> types = EnumSet.noneOf(RealTimeEventType.class);
+    for (Map.Entry<RealTimeEventType, Method> callback : CALLBACKS.entrySet()) {
+      if (overrides(listener, callback.getValue())) {
+        types.add(callback.getKey());
+      }
+    }
+    return types.isEmpty() ? EnumSet.allOf(RealTimeEventType.class) : types;
+  }
+
+  private static boolean overrides(RealTimeEventListener listener, Method callback) {
+    // async callbacks have the same names and parameters as the synchronous ones
+    final boolean async = listener instanceof AsyncRealTimeEventListenerAdapter;
+    final Class<?> listenerClass =
+        async ? ((AsyncRealTimeEventListenerAdapter) listener).getDelegate().getClass() : listener.getClass();
+    final Class<?> listenerInterface = async ? AsyncRealTimeEventListener.class : RealTimeEventListener.class;
+    try {
+      return listenerClass.getMethod(callback.getName(), callback.getParameterTypes()).getDeclaringClass()
+          != listenerInterface;
+    } catch (NoSuchMethodException e) {
+      return true; // cannot happen as the listener implements the interface, keep the listener subscribed anyway
+    }
+  }
+
+  private static Method eventFilter() {
+    try {
+      return RealTimeEventListener.class.getMethod("isAcceptingEvent", V4Event.class, String.class);
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Map<RealTimeEventType, Method> callbacks() {
+    final Map<RealTimeEventType, Method> callbacks = new EnumMap<>(RealTimeEventType.class);
+    for (Method method : RealTimeEventListener.class.getMethods()) {
+      if (method.getName().startsWith(CALLBACK_PREFIX)) {
+        // callbacks are named after the event types, e.g. onMessageSent for MESSAGESENT
+        final String type = method.getName().substring(CALLBACK_PREFIX.length()).toUpperCase(Locale.ROOT);
+        callbacks.put(RealTimeEventType.valueOf(type), method);
+      }
+    }
+    return callbacks;
+  }
+}
@@ -1,12 +1,30 @@
 package com.symphony.bdk.core.service.datafeed.impl;
 
+import com.symphony.bdk.core.service.datafeed.AsyncRealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4InstantMessageCreated;
+import com.symphony.bdk.gen.api.model.V4MessageSuppressed;
+import com.symphony.bdk.gen.api.model.V4Payload;
+import com.symphony.bdk.gen.api.model.V4RoomCreated;
+import com.symphony.bdk.gen.api.model.V4RoomDeactivated;
+import com.symphony.bdk.gen.api.model.V4RoomMemberDemotedFromOwner;
+import com.symphony.bdk.gen.api.model.V4RoomMemberPromotedToOwner;
+import com.symphony.bdk.gen.api.model.V4RoomReactivated;
+import com.symphony.bdk.gen.api.model.V4RoomUpdated;
+import com.symphony.bdk.gen.api.model.V4Stream;
+import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
+import com.symphony.bdk.gen.api.model.V4UserJoinedRoom;
+import com.symphony.bdk.gen.api.model.V4UserLeftRoom;
+import com.symphony.bdk.gen.api.model.V4UserRequestedToJoinRoom;
 
 import org.apiguardian.api.API;
 
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * Enumeration of possible types of Real Time Events that can be retrieved from the DataFeed.
@@ -17,67 +35,122 @@ enum RealTimeEventType {
 
   MESSAGESENT((listener, event) -> {
     listener.onMessageSent(event.getInitiator(), event.getPayload().getMessageSent());
-  }),
+  }, (listener, event) -> {
+    return listener.onMessageSent(event.getInitiator(), event.getPayload().getMessageSent());
+  }, stream(V4Payload::getMessageSent, e -> e.getMessage() != null ? e.getMessage().getStream() : null)),
   MESSAGESUPPRESSED((listener, event) -> {
     listener.onMessageSuppressed(event.getInitiator(), event.getPayload().getMessageSuppressed());
-  }),
+  }, (listener, event) -> {
+    return listener.onMessageSuppressed(event.getInitiator(), event.getPayload().getMessageSuppressed());
+  }, stream(V4Payload::getMessageSuppressed, V4MessageSuppressed::getStream)),
   SYMPHONYELEMENTSACTION((listener, event) -> {
     listener.onSymphonyElementsAction(event.getInitiator(), event.getPayload().getSymphonyElementsAction());
-  }),
+  }, (listener, event) -> {
+    return listener.onSymphonyElementsAction(event.getInitiator(), event.getPayload().getSymphonyElementsAction());
+  }, stream(V4Payload::getSymphonyElementsAction, V4SymphonyElementsAction::getStream)),
   SHAREDPOST((listener, event) -> {
     listener.onSharedPost(event.getInitiator(), event.getPayload().getSharedPost());
-  }),
+  }, (listener, event) -> {
+    return listener.onSharedPost(event.getInitiator(), event.getPayload().getSharedPost());
+  }, payload -> null),
   INSTANTMESSAGECREATED((listener, event) -> {
     listener.onInstantMessageCreated(event.getInitiator(), event.getPayload().getInstantMessageCreated());
-  }),
+  }, (listener, event) -> {
+    return listener.onInstantMessageCreated(event.getInitiator(), event.getPayload().getInstantMessageCreated());
+  }, stream(V4Payload::getInstantMessageCreated, V4InstantMessageCreated::getStream)),
   ROOMCREATED((listener, event) -> {
     listener.onRoomCreated(event.getInitiator(), event.getPayload().getRoomCreated());
-  }),
+  }, (listener, event) -> {
+    return listener.onRoomCreated(event.getInitiator(), event.getPayload().getRoomCreated());
+  }, stream(V4Payload::getRoomCreated, V4RoomCreated::getStream)),
   ROOMUPDATED((listener, event) -> {
     listener.onRoomUpdated(event.getInitiator(), event.getPayload().getRoomUpdated());
-  }),
+  }, (listener, event) -> {
+    return listener.onRoomUpdated(event.getInitiator(), event.getPayload().getRoomUpdated());
+  }, stream(V4Payload::getRoomUpdated, V4RoomUpdated::getStream)),
   ROOMDEACTIVATED((listener, event) -> {
     listener.onRoomDeactivated(event.getInitiator(), event.getPayload().getRoomDeactivated());
-  }),
+  }, (listener, event) -> {
+    return listener.onRoomDeactivated(event.getInitiator(), event.getPayload().getRoomDeactivated());
+  }, stream(V4Payload::getRoomDeactivated, V4RoomDeactivated::getStream)),
   ROOMREACTIVATED((listener, event) -> {
     listener.onRoomReactivated(event.getInitiator(), event.getPayload().getRoomReactivated());
-  }),
+  }, (listener, event) -> {
+    return listener.onRoomReactivated(event.getInitiator(), event.getPayload().getRoomReactivated());
+  }, stream(V4Payload::getRoomReactivated, V4RoomReactivated::getStream)),
   USERJOINEDROOM((listener, event) -> {
     listener.onUserJoinedRoom(event.getInitiator(), event.getPayload().getUserJoinedRoom());
-  }),
+  }, (listener, event) -> {
+    return listener.onUserJoinedRoom(event.getInitiator(), event.getPayload().getUserJoinedRoom());
+  }, stream(V4Payload::getUserJoinedRoom, V4UserJoinedRoom::getStream)),
   USERLEFTROOM((listener, event) -> {
     listener.onUserLeftRoom(event.getInitiator(), event.getPayload().getUserLeftRoom());
-  }),
+  }, (listener, event) -> {
+    return listener.onUserLeftRoom(event.getInitiator(), event.getPayload().getUserLeftRoom());
+  }, stream(V4Payload::getUserLeftRoom, V4UserLeftRoom::getStream)),
   USERREQUESTEDTOJOINROOM((listener, event) -> {
     listener.onUserRequestedToJoinRoom(event.getInitiator(), event.getPayload().getUserRequestedToJoinRoom());
-  }),
+  }, (listener, event) -> {
+    return listener.onUserRequestedToJoinRoom(event.getInitiator(), event.getPayload().getUserRequestedToJoinRoom());
+  }, stream(V4Payload::getUserRequestedToJoinRoom, V4UserRequestedToJoinRoom::getStream)),
   ROOMMEMBERPROMOTEDTOOWNER((listener, event) -> {
     listener.onRoomMemberPromotedToOwner(event.getInitiator(), event.getPayload().getRoomMemberPromotedToOwner());
-  }),
+  }, (listener, event) -> {
+    return listener.onRoomMemberPromotedToOwner(event.getInitiator(),
+        event.getPayload().getRoomMemberPromotedToOwner());
+  }, stream(V4Payload::getRoomMemberPromotedToOwner, V4RoomMemberPromotedToOwner::getStream)),
   ROOMMEMBERDEMOTEDFROMOWNER((listener, event) -> {
     listener.onRoomMemberDemotedFromOwner(event.getInitiator(), event.getPayload().getRoomMemberDemotedFromOwner());
-  }),
+  }, (listener, event) -> {
+    return listener.onRoomMemberDemotedFromOwner(event.getInitiator(),
+        event.getPayload().getRoomMemberDemotedFromOwner());
+  }, stream(V4Payload::getRoomMemberDemotedFromOwner, V4RoomMemberDemotedFromOwner::getStream)),
   CONNECTIONACCEPTED((listener, event) -> {
     listener.onConnectionAccepted(event.getInitiator(), event.getPayload().getConnectionAccepted());
-  }),
+  }, (listener, event) -> {
+    return listener.onConnectionAccepted(event.getInitiator(), event.getPayload().getConnectionAccepted());
+  }, payload -> null),
   CONNECTIONREQUESTED((listener, event) -> {
     listener.onConnectionRequested(event.getInitiator(), event.getPayload().getConnectionRequested());
-  });
+  }, (listener, event) -> {
+    return listener.onConnectionRequested(event.getInitiator(), event.getPayload().getConnectionRequested());
+  }, payload -> null);
 
   private final BiConsumer<RealTimeEventListener, V4Event> execConsumer;
+  private final BiFunction<AsyncRealTimeEventListener, V4Event, CompletionStage<Void>> asyncExecFunction;
+  private final Function<V4Payload, V4Stream> streamExtractor;
 
-  RealTimeEventType(BiConsumer<RealTimeEventListener, V4Event> consumer) {
+  RealTimeEventType(BiConsumer<RealTimeEventListener, V4Event> consumer,
+      BiFunction<AsyncRealTimeEventListener, V4Event, CompletionStage<Void>> asyncFunction,
+      Function<V4Payload, V4Stream> streamExtractor) {
     this.execConsumer = consumer;
+    this.asyncExecFunction = asyncFunction;
+    this.streamExtractor = streamExtractor;
   }
 
   public static Optional<RealTimeEventType> fromV4Event(V4Event event) {
 
-    if (event == null || event.getType() == null) {
+    if (event == null) {
+      return Optional.empty();
+    }
+
+    return fromType(event.getType());
+  }
+
+  /**
+   * Returns the event type corresponding to the type field of a datafeed event.
+   *
+   * @param type the type field of the event.
+   * @return the corresponding event type, empty if the type is not supported.
+   */
+  public static Optional<RealTimeEventType> fromType(String type) {
+
+    if (type == null) {
       return Optional.empty();
     }
 
     try {
-      return Optional.of(RealTimeEventType.valueOf(event.getType()));
+      return Optional.of(RealTimeEventType.valueOf(type));
     } catch (IllegalArgumentException e) {
       return Optional.empty();
     }
@@ -86,4 +159,24 @@ enum RealTimeEventType {
   public void dispatch(RealTimeEventListener listener, V4Event event) {
     this.execConsumer.accept(listener, event);
   }
+
+  public CompletionStage<Void> dispatch(AsyncRealTimeEventListener listener, V4Event event) {
+    return this.asyncExecFunction.apply(listener, event);
+  }
+
+  /**
+   * Retrieve the id of the stream in which the event occurred.
+   *
+   * @param event the event to be checked.
+   * @return the stream id, null if the event is not related to a stream (e.g. connection events).
+   */
+  public String getStreamId(V4Event event) {
+    final V4Stream stream = event.getPayload() != null ? this.streamExtractor.apply(event.getPayload()) : null;
+    return stream != null ? stream.getStreamId() : null;
+  }
+
+  private static <T> Function<V4Payload, V4Stream> stream(Function<V4Payload, T> payload,
+      Function<T, V4Stream> stream) {
+    return p -> Optional.ofNullable(payload.apply(p)).map(stream).orElse(null);
+  }
 }
@@ -0,0 +1,140 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.util.DaemonExecutors;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.http.api.tracing.MDCUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+/**
+ * Dispatches a batch of datafeed events over a fixed number of lanes running in parallel.
+ * <p>
+ * Events are assigned to a lane based on the hash of their stream id (or of the initiator id for events that are not
+ * related to a stream), so that the events of a given stream are always processed sequentially and in the order they
+ * have been received. Events of different streams can be processed concurrently.
+ * <p>
+ * {@link #dispatch(List, Consumer)} only returns once all the events of the batch have been processed, which allows
+ * the DFv2 loop to update the ack id safely.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+class StreamPartitionedDispatcher {
+
+  private final int lanes;
+  private final Executor executor;
+  // true if the executor is the default pool, created by the dispatcher
+  private final boolean ownsExecutor;
+
+  public StreamPartitionedDispatcher(int lanes) {
+    // lanes are checked by the constructor
+    this(lanes, DaemonExecutors.newBoundedPool("SymphonyBdk_DatafeedDispatcher", Math.max(1, lanes)), true);
+  }
+
+  /**
+   * @param lanes    the number of lanes.
+   * @param executor the executor running the lanes, it must be able to run them concurrently.
+   */
+  public StreamPartitionedDispatcher(int lanes, Executor executor) {
+    this(lanes, executor, false);
+  }
+
+  private StreamPartitionedDispatcher(int lanes, Executor executor, boolean ownsExecutor) {
+    if (lanes < 1) {
+      throw new IllegalArgumentException("The number of dispatch lanes must be strictly positive.");
+    }
+    this.lanes = lanes;
+    this.executor = executor;
+    this.ownsExecutor = ownsExecutor;
+  }
+
+  /**
+   * Dispatches the events of a batch, preserving the ordering of the events of a same stream.
+   *
+   * @param events  the events to be dispatched.
+   * @param handler the handler processing a single event.
+   * @throws RequeueEventException if the handler failed for at least one event with a {@link RequeueEventException}.
+   */
+  public void dispatch(List<V4Event> events, Consumer<V4Event> handler) throws RequeueEventException {
+    final List<List<V4Event>> partitions = this.partition(events);
+
+    if (partitions.stream().filter(p -> !p.isEmpty()).count() <= 1) {
+      // no need to hand events over to another thread if they all belong to the same lane
+      events.forEach(handler);
+      return;
+    }
+
+    final List<CompletableFuture<Void>> futures = new ArrayList<>(partitions.size());
+    for (List<V4Event> partition : partitions) {
+      if (!partition.isEmpty()) {
+        futures.add(CompletableFuture.runAsync(MDCUtils.wrap(() -> partition.forEach(handler)), this.executor));
+      }
+    }
+
+    RequeueEventException requeueException = null;
+    for (CompletableFuture<Void> future : futures) {
+      try {
+        future.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RequeueEventException) {
+          requeueException = requeueException == null ? (RequeueEventException) e.getCause() : requeueException;
+        } else {
+          log.debug("An uncaught exception has occurred while dispatching events", e.getCause());
+        }
+      }
+    }
+
+    if (requeueException != null) {
+      throw requeueException;
+    }
+  }
+
+  private List<List<V4Event>> partition(List<V4Event> events) {
+    final List<List<V4Event>> partitions = new ArrayList<>(this.lanes);
+    for (int i = 0; i < this.lanes; i++) {
+      partitions.add(new ArrayList<>());
+    }
+    for (V4Event event : events) {
+      partitions.get(this.laneOf(event)).add(event);
+    }
+    return partitions;
+  }
+
+  /**
+   * Releases the threads of the default pool, an executor given to the dispatcher is left untouched.
+   */
+  public void shutdown() {
+    if (this.ownsExecutor) {
+      ((ExecutorService) this.executor).shutdown();
+    }
+  }
+
+  int laneOf(V4Event event) {
+    final Object key = partitionKey(event);
+    return key == null ? 0 : Math.floorMod(key.hashCode(), this.lanes);
+  }
+
+  private static Object partitionKey(V4Event event) {
+    final String streamId = RealTimeEventType.fromV4Event(event)
+        .map(type -> type.getStreamId(event))
+        .orElse(null);
+
+    if (streamId != null) {
+      return streamId;
+    }
+
+    if (event.getInitiator() != null && event.getInitiator().getUser() != null) {
+      return event.getInitiator().getUser().getUserId();
+    }
+
+    return null;
+  }
+}
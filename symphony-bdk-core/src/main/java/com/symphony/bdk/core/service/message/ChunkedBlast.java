@@ -0,0 +1,119 @@
+package com.symphony.bdk.core.service.message;
+
+import com.symphony.bdk.core.util.CompletableFutures;
+import com.symphony.bdk.gen.api.model.Error;
+import com.symphony.bdk.gen.api.model.V4MessageBlastResponse;
+import com.symphony.bdk.http.api.ApiRuntimeException;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Message blast split into chunks of stream ids, each chunk being sent (and retried) on its own. A new chunk is sent
+ * each time one completes, so that a bounded number of chunks is in flight, without any thread waiting for them.
+ * <p>
+ * The responses of the chunks are merged. A chunk still failing once its retries are exhausted does not fail the
+ * blast: each of its streams is reported in the errors of the merged response.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+class ChunkedBlast {
+
+  private final List<List<String>> chunks;
+  private final Function<List<String>, CompletableFuture<V4MessageBlastResponse>> chunkSender;
+  private final AtomicInteger nextChunk = new AtomicInteger();
+  private final AtomicInteger remainingChunks;
+  private final CompletableFuture<V4MessageBlastResponse> result = new CompletableFuture<>();
+
+  // guarded by this
+  private final V4MessageBlastResponse response = new V4MessageBlastResponse();
+
+  /**
+   * @param streamIds   the stream ids the message is sent to.
+   * @param chunkSize   the maximum number of stream ids per chunk.
+   * @param chunkSender sends the message to a chunk of stream ids.
+   */
+  ChunkedBlast(List<String> streamIds, int chunkSize,
+      Function<List<String>, CompletableFuture<V4MessageBlastResponse>> chunkSender) {
+    this.chunks = new ArrayList<>();
+    for (int from = 0; from < streamIds.size(); from += chunkSize) {
+      this.chunks.add(new ArrayList<>(streamIds.subList(from, Math.min(from + chunkSize, streamIds.size()))));
+    }
+    this.chunkSender = chunkSender;
+    this.remainingChunks = new AtomicInteger(this.chunks.size());
+  }
+
+  /**
+   * Starts sending the chunks.
+   *
+   * @param maxChunksInFlight the maximum number of chunks being sent at the same time.
+   * @return a future completed with the merged response once all the chunks have been sent.
+   */
+  CompletableFuture<V4MessageBlastResponse> send(int maxChunksInFlight) {
+    if (this.chunks.isEmpty()) {
+      this.result.complete(this.response);
+    }
+    for (int i = 0; i < Math.min(maxChunksInFlight, this.chunks.size()); i++) {
+      this.sendNextChunks();
+    }
+    return this.result;
+  }
+
+  private void sendNextChunks() {
+    int index;
+    while ((index = this.nextChunk.getAndIncrement()) < this.chunks.size()) {
+      final List<String> chunk = this.chunks.get(index);
+      CompletableFuture<V4MessageBlastResponse> sent;
+      try {
+        sent = this.chunkSender.apply(chunk);
+      } catch (RuntimeException e) {
+        sent = CompletableFutures.failedFuture(e);
+      }
+      if (!sent.isDone()) {
+        // the completing thread takes over sending the next chunks
+        sent.whenComplete((chunkResponse, failure) -> {
+          this.chunkSent(chunk, chunkResponse, failure);
+          this.sendNextChunks();
+        });
+        return;
+      }
+      // already completed: the next chunk is sent by this loop, not to recurse through the chunks
+      sent.whenComplete((chunkResponse, failure) -> this.chunkSent(chunk, chunkResponse, failure));
+    }
+  }
+
+  private void chunkSent(List<String> chunk, V4MessageBlastResponse chunkResponse, Throwable failure) {
+    this.merge(chunk, chunkResponse, failure);
+    if (this.remainingChunks.decrementAndGet() == 0) {
+      this.result.complete(this.response);
+    }
+  }
+
+  private synchronized void merge(List<String> chunk, V4MessageBlastResponse chunkResponse, Throwable failure) {
+    if (failure != null) {
+      final Throwable cause = CompletableFutures.unwrap(failure);
+      log.warn("Failed to blast the message to {} streams", chunk.size(), cause);
+      final Error error = new Error().message(cause.getMessage());
+      if (cause instanceof ApiRuntimeException) {
+        error.code(((ApiRuntimeException) cause).getCode());
+      }
+      chunk.forEach(streamId -> this.response.putErrorsItem(streamId, error));
+      return;
+    }
+    if (chunkResponse == null) {
+      return;
+    }
+    if (chunkResponse.getMessages() != null) {
+      chunkResponse.getMessages().forEach(this.response::addMessagesItem);
+    }
+    if (chunkResponse.getErrors() != null) {
+      chunkResponse.getErrors().forEach(this.response::putErrorsItem);
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package com.symphony.bdk.core.service.message;
+
+import com.symphony.bdk.core.service.message.model.Message;
+import com.symphony.bdk.core.service.message.model.OutboxRecord;
+import com.symphony.bdk.core.util.CompletableFutures;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.http.api.ApiRuntimeException;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Durable outbox in front of the {@link MessageService}: a message is persisted in an {@link OutboxRepository} before
+ * being sent asynchronously, and marked as completed once the agent has accepted it. The messages still pending when
+ * the process stopped are sent again by {@link #replay()}, giving at-least-once delivery.
+ * <p>
+ * A message failing once its retries are exhausted stays pending, to be sent again at the next replay, unless the
+ * agent rejected it as invalid (4xx error other than 401 and 429), sending it again being pointless.
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public class MessageOutbox {
+
+  // sends a record, a new message being built from it for each attempt when retried by the message service
+  private final Function<OutboxRecord, CompletableFuture<V4Message>> sender;
+  private final OutboxRepository repository;
+  // the records being sent by this outbox, not to be replayed
+  private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+  /**
+   * @param messageService the service sending the messages.
+   * @param repository     the repository persisting the messages until they are sent.
+   */
+  public MessageOutbox(@Nonnull MessageService messageService, @Nonnull OutboxRepository repository) {
+    this.sender = record -> messageService.sendAsync(record.getStreamId(), record::toMessage);
+    this.repository = repository;
+  }
+
+  /**
+   * @param sender     sends a message asynchronously, e.g. {@link MessageSendQueue#send(String, Message)}, a new
+   *                   message being built from the outbox record each time it is called.
+   * @param repository the repository persisting the messages until they are sent.
+   */
+  public MessageOutbox(@Nonnull BiFunction<String, Message, CompletableFuture<V4Message>> sender,
+      @Nonnull OutboxRepository repository) {
+    this.sender = record -> sender.apply(record.getStreamId(), record.toMessage());
+    this.repository = repository;
+  }
+
+  /**
+   * Persists a message, then sends it asynchronously.
+   *
+   * @param streamId the ID of the stream to send the message to
+   * @param message  the message to be sent, its attachments being read before this method returns
+   * @return a future completed with a {@link V4Message} object containing the details of the sent message, or
+   * exceptionally if the message cannot be persisted or sent
+   */
+  public CompletableFuture<V4Message> send(@Nonnull String streamId, @Nonnull Message message) {
+    final OutboxRecord record;
+    try {
+      record = OutboxRecord.of(streamId, message);
+    } catch (RuntimeException e) {
+      return CompletableFutures.failedFuture(e);
+    }
+    // in flight before being persisted, so that a concurrent replay does not send it too
+    this.inFlight.add(record.getId());
+    try {
+      this.repository.add(record);
+    } catch (RuntimeException e) {
+      this.inFlight.remove(record.getId());
+      return CompletableFutures.failedFuture(e);
+    }
+    return this.send(record);
+  }
+
+  /**
+   * Sends again the pending messages, typically when the bot starts.
+   *
+   * @return a future completed once all the pending messages have been sent or have failed.
+   */
+  public CompletableFuture<Void> replay() {
+    final List<OutboxRecord> pending = this.repository.pending();
+    log.info("Replaying {} pending messages of the outbox", pending.size());
+    return CompletableFuture.allOf(pending.stream()
+        .filter(record -> this.inFlight.add(record.getId()))
+        .map(record -> this.send(record).handle((sent, failure) -> null))
+        .toArray(CompletableFuture[]::new));
+  }
+
+  // the record must have been marked in flight by the caller
+  private CompletableFuture<V4Message> send(OutboxRecord record) {
+    CompletableFuture<V4Message> sent;
+    try {
+      sent = this.sender.apply(record);
+    } catch (RuntimeException e) {
+      sent = CompletableFutures.failedFuture(e);
+    }
+    return sent.whenComplete((message, failure) -> {
+      try {
+        if (failure == null) {
+          this.repository.complete(record.getId());
+        } else if (isRejected(failure)) {
+          log.warn("Message {} to stream {} rejected by the agent, removed from the outbox", record.getId(),
+              record.getStreamId(), failure);
+          this.repository.complete(record.getId());
+        } else {
+          log.warn("Message {} to stream {} not sent, kept in the outbox", record.getId(), record.getStreamId(),
+              failure);
+        }
+      } finally {
+        // only once completed, for a concurrent replay not to send it again meanwhile
+        this.inFlight.remove(record.getId());
+      }
+    });
+  }
+
+  private static boolean isRejected(Throwable failure) {
+    final Throwable cause = CompletableFutures.unwrap(failure);
+    if (!(cause instanceof ApiRuntimeException)) {
+      return false;
+    }
+    final int code = ((ApiRuntimeException) cause).getCode();
+    return code >= 400 && code < 500 && code != 401 && code != 429;
+  }
+}
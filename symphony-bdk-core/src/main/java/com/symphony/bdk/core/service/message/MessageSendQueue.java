@@ -0,0 +1,484 @@
+package com.symphony.bdk.core.service.message;
+
+import com.symphony.bdk.core.service.message.model.Attachment;
+import com.symphony.bdk.core.service.message.model.Message;
+import com.symphony.bdk.core.util.CompletableFutures;
+import com.symphony.bdk.core.util.DaemonExecutors;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiRuntimeException;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Outbound queue in front of the {@link MessageService}, sending the messages at the rate the agent accepts instead of
+ * as fast as they are submitted.
+ * <p>
+ * A message is sent when a token is available both in the global bucket and in the bucket of its stream, the streams
+ * having messages waiting being served in turn. The global rate adapts to the agent (AIMD): it is halved (by default)
+ * when the agent answers 429 Too Many Requests, the throttled message being queued again, and increased by a constant
+ * number of permits per second while messages are accepted, up to the configured rate. Other errors are retried as
+ * configured for the {@link MessageService}.
+ * <p>
+ * Messages are dispatched by a single thread per queue, which only waits for the next token: the sending itself is
+ * asynchronous.
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public class MessageSendQueue implements AutoCloseable {
+
+  private static final int MAX_IDLE_STREAMS = 10_000;
+  private static final int MAX_THROTTLED_ATTEMPTS = 10;
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final BiFunction<String, Message, CompletableFuture<V4Message>> sender;
+  private final double maxRate;
+  private final double minRate;
+  private final double additiveIncrease;
+  private final double multiplicativeDecrease;
+  private final int burst;
+  private final long streamIntervalNanos;
+  private final long streamBurstNanos;
+  private final int maxQueueDepth;
+  private final LongSupplier nanoClock;
+  private final ScheduledExecutorService scheduler;
+
+  // guarded by this
+  private double rate;
+  private long globalFullAt;
+  private long lastDecreaseAt;
+  private boolean decreased;
+  private int queueDepth;
+  private boolean closed;
+  private ScheduledFuture<?> scheduledDispatch;
+  private long scheduledDispatchAt;
+  private final Map<String, StreamQueue> streams = new HashMap<>();
+  private final Deque<StreamQueue> readyStreams = new ArrayDeque<>();
+
+  private MessageSendQueue(MessageSendQueueBuilder builder) {
+    this.sender = builder.sender;
+    this.maxRate = builder.rate;
+    this.minRate = Math.min(builder.minRate, builder.rate);
+    this.additiveIncrease = builder.additiveIncrease;
+    this.multiplicativeDecrease = builder.multiplicativeDecrease;
+    this.burst = builder.burst;
+    this.streamIntervalNanos = builder.streamRate > 0 ? (long) (NANOS_PER_SECOND / builder.streamRate) : 0;
+    this.streamBurstNanos = this.streamIntervalNanos * builder.streamBurst;
+    this.maxQueueDepth = builder.maxQueueDepth;
+    this.nanoClock = builder.nanoClock;
+    this.scheduler = builder.scheduler != null ? builder.scheduler
+        : DaemonExecutors.newScheduler("SymphonyBdk_MessageSendQueue");
+    this.rate = this.maxRate;
+    this.globalFullAt = this.nanoClock.getAsLong();
+  }
+
+  /**
+   * Returns a new {@link MessageSendQueueBuilder} instance.
+   *
+   * @param messageService the service sending the messages.
+   * @return new queue builder.
+   */
+  public static MessageSendQueueBuilder builder(@Nonnull MessageService messageService) {
+    return builder(messageService::sendAsyncWithoutRetryOnTooManyRequests);
+  }
+
+  static MessageSendQueueBuilder builder(BiFunction<String, Message, CompletableFuture<V4Message>> sender) {
+    return new MessageSendQueueBuilder(sender);
+  }
+
+  /**
+   * Queues a message to be sent.
+   *
+   * @param streamId the ID of the stream to send the message to
+   * @param message  the message to be sent
+   * @return a future completed with a {@link V4Message} object containing the details of the sent message, or
+   * exceptionally with a {@link RejectedExecutionException} if the queue is full or closed
+   * @throws com.symphony.bdk.core.service.message.exception.MessageCreationException if an attachment cannot be read.
+   */
+  public CompletableFuture<V4Message> send(@Nonnull String streamId, @Nonnull Message message) {
+    final Request request = new Request(streamId, message);
+    synchronized (this) {
+      if (this.closed || this.queueDepth >= this.maxQueueDepth) {
+        request.result.completeExceptionally(new RejectedExecutionException(
+            this.closed ? "The message send queue is closed." : "The message send queue is full."));
+        return request.result;
+      }
+      this.enqueue(request, false);
+    }
+    return request.result;
+  }
+
+  /**
+   * @return the number of messages waiting to be sent.
+   */
+  public synchronized int getQueueDepth() {
+    return this.queueDepth;
+  }
+
+  /**
+   * @param streamId the ID of a stream.
+   * @return the number of messages waiting to be sent to the stream.
+   */
+  public synchronized int getQueueDepth(@Nonnull String streamId) {
+    final StreamQueue stream = this.streams.get(streamId);
+    return stream != null ? stream.requests.size() : 0;
+  }
+
+  /**
+   * @return the current global rate, in messages per second.
+   */
+  public synchronized double getRate() {
+    return this.rate;
+  }
+
+  /**
+   * Stops the dispatch: the messages still waiting fail with a {@link RejectedExecutionException}, the ones being sent
+   * complete normally.
+   */
+  @Override
+  public void close() {
+    final List<Request> pending = new ArrayList<>();
+    synchronized (this) {
+      this.closed = true;
+      this.streams.values().forEach(stream -> pending.addAll(stream.requests));
+      this.streams.clear();
+      this.readyStreams.clear();
+      this.queueDepth = 0;
+    }
+    this.scheduler.shutdownNow();
+    pending.forEach(request -> request.result.completeExceptionally(
+        new RejectedExecutionException("The message send queue is closed.")));
+  }
+
+  /**
+   * Sends the messages for which tokens are available, then schedules the next dispatch when tokens are missing.
+   */
+  void dispatch() {
+    final List<Request> toSend = new ArrayList<>();
+    synchronized (this) {
+      this.scheduledDispatch = null;
+      final long now = this.nanoClock.getAsLong();
+      long wait = 0;
+      while (!this.closed && !this.readyStreams.isEmpty()) {
+        final long globalInterval = this.globalIntervalNanos();
+        final long globalWait = waitNanos(this.globalFullAt, globalInterval, globalInterval * this.burst, now);
+        if (globalWait > 0) {
+          wait = globalWait;
+          break;
+        }
+        final StreamQueue stream = this.nextReadyStream(now);
+        if (stream == null) {
+          wait = this.minStreamWaitNanos(now);
+          break;
+        }
+        this.globalFullAt = Math.max(this.globalFullAt - now, 0) + now + globalInterval;
+        stream.fullAt = Math.max(stream.fullAt - now, 0) + now + this.streamIntervalNanos;
+        toSend.add(stream.requests.pollFirst());
+        this.queueDepth--;
+        if (!stream.requests.isEmpty()) {
+          this.readyStreams.addLast(stream);
+        }
+      }
+      if (wait > 0) {
+        this.scheduleDispatch(wait);
+      }
+    }
+    toSend.forEach(this::doSend);
+  }
+
+  private void enqueue(Request request, boolean first) {
+    final long now = this.nanoClock.getAsLong();
+    StreamQueue stream = this.streams.get(request.streamId);
+    if (stream == null) {
+      this.evictIdleStreams(now);
+      stream = new StreamQueue(now);
+      this.streams.put(request.streamId, stream);
+    }
+    if (stream.requests.isEmpty()) {
+      this.readyStreams.addLast(stream);
+    }
+    if (first) {
+      stream.requests.addFirst(request);
+    } else {
+      stream.requests.addLast(request);
+    }
+    this.queueDepth++;
+    // no need to dispatch before the next global token, a dispatch being already scheduled for it if needed
+    final long globalInterval = this.globalIntervalNanos();
+    this.scheduleDispatch(Math.max(waitNanos(this.globalFullAt, globalInterval, globalInterval * this.burst, now), 0));
+  }
+
+  private void doSend(Request request) {
+    request.attempts++;
+    CompletableFuture<V4Message> sent;
+    try {
+      sent = this.sender.apply(request.streamId, request.toMessage());
+    } catch (RuntimeException e) {
+      sent = CompletableFutures.failedFuture(e);
+    }
+    sent.whenComplete((message, failure) -> {
+      if (failure == null) {
+        this.increaseRate();
+        request.result.complete(message);
+        return;
+      }
+      final Throwable cause = CompletableFutures.unwrap(failure);
+      if (isTooManyRequests(cause)) {
+        this.decreaseRate();
+        if (request.attempts < MAX_THROTTLED_ATTEMPTS && this.requeue(request)) {
+          return;
+        }
+      }
+      request.result.completeExceptionally(cause);
+    });
+  }
+
+  private synchronized boolean requeue(Request request) {
+    if (this.closed) {
+      return false;
+    }
+    log.debug("Message to stream {} throttled by the agent, sent again at {} messages/s", request.streamId, this.rate);
+    // sent again before the next messages of the stream
+    this.enqueue(request, true);
+    return true;
+  }
+
+  private synchronized void increaseRate() {
+    // each of the 'rate' messages sent per second adds its share, i.e. 'additiveIncrease' permits per second
+    this.rate = Math.min(this.maxRate, this.rate + this.additiveIncrease / this.rate);
+  }
+
+  private synchronized void decreaseRate() {
+    final long now = this.nanoClock.getAsLong();
+    // the messages in flight when the agent starts throttling all fail, the rate is decreased once for all of them
+    if (!this.decreased || now - this.lastDecreaseAt >= NANOS_PER_SECOND) {
+      this.rate = Math.max(this.minRate, this.rate * this.multiplicativeDecrease);
+      this.lastDecreaseAt = now;
+      this.decreased = true;
+      log.info("Agent throttling messages, send rate decreased to {} messages/s", this.rate);
+    }
+  }
+
+  private StreamQueue nextReadyStream(long now) {
+    for (int i = 0; i < this.readyStreams.size(); i++) {
+      final StreamQueue stream = this.readyStreams.pollFirst();
+      if (waitNanos(stream.fullAt, this.streamIntervalNanos, this.streamBurstNanos, now) <= 0) {
+        return stream;
+      }
+      this.readyStreams.addLast(stream);
+    }
+    return null;
+  }
+
+  private long minStreamWaitNanos(long now) {
+    long wait = Long.MAX_VALUE;
+    for (StreamQueue stream : this.readyStreams) {
+      wait = Math.min(wait, waitNanos(stream.fullAt, this.streamIntervalNanos, this.streamBurstNanos, now));
+    }
+    return Math.max(wait, 1);
+  }
+
+  private void scheduleDispatch(long delayNanos) {
+    final long at = this.nanoClock.getAsLong() + delayNanos;
+    if (this.scheduledDispatch != null) {
+      if (this.scheduledDispatchAt - at <= 0) {
+        return;
+      }
+      this.scheduledDispatch.cancel(false);
+    }
+    try {
+      this.scheduledDispatch = this.scheduler.schedule(this::dispatch, delayNanos, TimeUnit.NANOSECONDS);
+      this.scheduledDispatchAt = at;
+    } catch (RejectedExecutionException e) {
+      // the queue is being closed
+      this.scheduledDispatch = null;
+    }
+  }
+
+  private void evictIdleStreams(long now) {
+    if (this.streams.size() >= MAX_IDLE_STREAMS) {
+      // an idle stream whose bucket is full again is equivalent to a missing one
+      this.streams.values().removeIf(stream -> stream.requests.isEmpty() && stream.fullAt - now <= 0);
+    }
+  }
+
+  private long globalIntervalNanos() {
+    return (long) (NANOS_PER_SECOND / this.rate);
+  }
+
+  // time to wait for a token, for a bucket full at 'fullAt' holding at most 'burstNanos / intervalNanos' tokens
+  private static long waitNanos(long fullAt, long intervalNanos, long burstNanos, long now) {
+    return Math.max(fullAt - now, 0) + intervalNanos - burstNanos;
+  }
+
+  private static boolean isTooManyRequests(Throwable t) {
+    return (t instanceof ApiRuntimeException && ((ApiRuntimeException) t).getCode() == 429)
+        || (t instanceof ApiException && ((ApiException) t).isTooManyRequestsError());
+  }
+
+  /**
+   * {@link MessageSendQueue} class builder. Accessible via {@link MessageSendQueue#builder(MessageService)}.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public static class MessageSendQueueBuilder {
+
+    private final BiFunction<String, Message, CompletableFuture<V4Message>> sender;
+    private double rate = 10;
+    private int burst = 10;
+    private double minRate = 1;
+    private double additiveIncrease = 1;
+    private double multiplicativeDecrease = 0.5;
+    private double streamRate = 0;
+    private int streamBurst = 1;
+    private int maxQueueDepth = Integer.MAX_VALUE;
+    private LongSupplier nanoClock = System::nanoTime;
+    private ScheduledExecutorService scheduler;
+
+    MessageSendQueueBuilder(BiFunction<String, Message, CompletableFuture<V4Message>> sender) {
+      this.sender = sender;
+    }
+
+    /**
+     * Sets the maximum global rate, 10 messages per second by default.
+     *
+     * @param messagesPerSecond the rate.
+     * @param burst             the number of messages that can be sent at once after an idle period.
+     * @return the builder.
+     * @throws IllegalArgumentException if a value is not positive.
+     */
+    public MessageSendQueueBuilder rate(double messagesPerSecond, int burst) {
+      checkPositive(messagesPerSecond, "rate");
+      checkPositive(burst, "burst");
+      this.rate = messagesPerSecond;
+      this.burst = burst;
+      return this;
+    }
+
+    /**
+     * Limits the rate per stream, not limited by default.
+     *
+     * @param messagesPerSecond the rate.
+     * @param burst             the number of messages that can be sent at once to an idle stream.
+     * @return the builder.
+     * @throws IllegalArgumentException if a value is not positive.
+     */
+    public MessageSendQueueBuilder perStreamRate(double messagesPerSecond, int burst) {
+      checkPositive(messagesPerSecond, "rate");
+      checkPositive(burst, "burst");
+      this.streamRate = messagesPerSecond;
+      this.streamBurst = burst;
+      return this;
+    }
+
+    /**
+     * Sets the rate adaptation, by default halved on throttling, with a minimum of 1 message per second, and increased
+     * by 1 message per second every second.
+     *
+     * @param minRate                the rate under which the global rate is never decreased.
+     * @param additiveIncrease       the rate added every second, while messages are accepted.
+     * @param multiplicativeDecrease the factor applied to the rate when the agent throttles messages, below 1.
+     * @return the builder.
+     * @throws IllegalArgumentException if a value is not positive or if the decrease factor is not below 1.
+     */
+    public MessageSendQueueBuilder adaptation(double minRate, double additiveIncrease, double multiplicativeDecrease) {
+      checkPositive(minRate, "minimum rate");
+      checkPositive(additiveIncrease, "additive increase");
+      checkPositive(multiplicativeDecrease, "multiplicative decrease");
+      if (multiplicativeDecrease >= 1) {
+        throw new IllegalArgumentException("The multiplicative decrease must be below 1.");
+      }
+      this.minRate = minRate;
+      this.additiveIncrease = additiveIncrease;
+      this.multiplicativeDecrease = multiplicativeDecrease;
+      return this;
+    }
+
+    /**
+     * Limits the number of messages waiting to be sent, not limited by default.
+     *
+     * @param maxQueueDepth the number of messages above which new ones are rejected.
+     * @return the builder.
+     * @throws IllegalArgumentException if the value is not positive.
+     */
+    public MessageSendQueueBuilder maxQueueDepth(int maxQueueDepth) {
+      checkPositive(maxQueueDepth, "maximum queue depth");
+      this.maxQueueDepth = maxQueueDepth;
+      return this;
+    }
+
+    MessageSendQueueBuilder nanoClock(LongSupplier nanoClock) {
+      this.nanoClock = nanoClock;
+      return this;
+    }
+
+    MessageSendQueueBuilder scheduler(ScheduledExecutorService scheduler) {
+      this.scheduler = scheduler;
+      return this;
+    }
+
+    /**
+     * @return a new {@link MessageSendQueue} instance.
+     */
+    public MessageSendQueue build() {
+      return new MessageSendQueue(this);
+    }
+
+    private static void checkPositive(double value, String name) {
+      if (value <= 0) {
+        throw new IllegalArgumentException("The " + name + " must be positive.");
+      }
+    }
+  }
+
+  @API(status = API.Status.INTERNAL)
+  private static class StreamQueue {
+
+    private final Deque<Request> requests = new ArrayDeque<>();
+    // the time at which the bucket of the stream will be full again
+    private long fullAt;
+
+    StreamQueue(long fullAt) {
+      this.fullAt = fullAt;
+    }
+  }
+
+  @API(status = API.Status.INTERNAL)
+  private static class Request {
+
+    private final String streamId;
+    private final Message message;
+    // read once, the input streams of the message being consumed by the first attempt
+    private final List<byte[]> attachments;
+    private final List<byte[]> previews;
+    private final CompletableFuture<V4Message> result = new CompletableFuture<>();
+    private int attempts;
+
+    Request(String streamId, Message message) {
+      this.streamId = streamId;
+      this.message = message;
+      this.attachments = Attachment.readContents(message.getAttachments());
+      this.previews = Attachment.readContents(message.getPreviews());
+    }
+
+    Message toMessage() {
+      return this.message.withContents(this.attachments, this.previews);
+    }
+  }
+}
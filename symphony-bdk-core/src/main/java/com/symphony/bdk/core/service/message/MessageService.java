@@ -4,13 +4,16 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 
 import com.symphony.bdk.core.auth.AuthSession;
+import com.symphony.bdk.core.config.model.BdkMessageConfig;
 import com.symphony.bdk.core.retry.RetryWithRecovery;
 import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 import com.symphony.bdk.core.service.OboService;
 import com.symphony.bdk.core.service.message.model.Attachment;
+import com.symphony.bdk.core.service.message.model.BlastAttribute;
 import com.symphony.bdk.core.service.message.model.Message;
 import com.symphony.bdk.core.service.pagination.model.PaginationAttribute;
 import com.symphony.bdk.core.service.stream.constant.AttachmentSort;
+import com.symphony.bdk.core.util.DaemonExecutors;
 import com.symphony.bdk.core.util.function.SupplierWithApiException;
 import com.symphony.bdk.gen.api.AttachmentsApi;
 import com.symphony.bdk.gen.api.DefaultApi;
@@ -40,17 +43,24 @@ import com.symphony.bdk.template.api.TemplateEngine;
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 /**
  * Service class for managing messages.
+ * <p>
+ * The methods suffixed with {@code Async} return immediately: the call is run by an executor (by default shared by all
+ * the message services) and the retries are scheduled, no thread waiting for the next attempt.
  *
  * @see <a href="https://developers.symphony.com/restapi/reference#messages-v4">Message API</a>
  */
@@ -68,6 +78,7 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
   private final AuthSession authSession;
   private final TemplateEngine templateEngine;
   private final RetryWithRecoveryBuilder<?> retryBuilder;
+  private final Executor asyncExecutor;
 
   public MessageService(
       final MessagesApi messagesApi,
@@ -80,6 +91,26 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
       final AuthSession authSession,
       final TemplateEngine templateEngine,
       final RetryWithRecoveryBuilder<?> retryBuilder
+  ) {
+    this(messagesApi, messageApi, messageSuppressionApi, streamsApi, podApi, attachmentsApi, defaultApi, authSession,
+        templateEngine, retryBuilder, null);
+  }
+
+  /**
+   * @param asyncExecutor the executor running the calls of the asynchronous methods, the shared executor if null.
+   */
+  public MessageService(
+      final MessagesApi messagesApi,
+      final MessageApi messageApi,
+      final MessageSuppressionApi messageSuppressionApi,
+      final StreamsApi streamsApi,
+      final PodApi podApi,
+      final AttachmentsApi attachmentsApi,
+      final DefaultApi defaultApi,
+      final AuthSession authSession,
+      final TemplateEngine templateEngine,
+      final RetryWithRecoveryBuilder<?> retryBuilder,
+      final Executor asyncExecutor
   ) {
     this.messagesApi = messagesApi;
     this.messageApi = messageApi;
@@ -92,6 +123,7 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
     this.defaultApi = defaultApi;
     this.retryBuilder = RetryWithRecoveryBuilder.copyWithoutRecoveryStrategies(retryBuilder)
         .recoveryStrategy(ApiException::isUnauthorized, authSession::refresh);
+    this.asyncExecutor = asyncExecutor;
   }
 
   public MessageService(
@@ -115,12 +147,13 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
     this.templateEngine = templateEngine;
     this.defaultApi = defaultApi;
     this.retryBuilder = RetryWithRecoveryBuilder.copyWithoutRecoveryStrategies(retryBuilder);
+    this.asyncExecutor = null;
   }
 
   @Override
   public OboMessageService obo(AuthSession oboSession) {
     return new MessageService(messagesApi, messageApi, messageSuppressionApi, streamsApi, podApi, attachmentsApi,
-        defaultApi, oboSession, templateEngine, retryBuilder);
+        defaultApi, oboSession, templateEngine, retryBuilder, asyncExecutor);
   }
 
   /**
@@ -189,6 +222,36 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
         authSession.getSessionToken(), authSession.getKeyManagerToken(), null, null));
   }
 
+  /**
+   * Asynchronous version of {@link #listMessages(String, Instant, PaginationAttribute)}.
+   *
+   * @param streamId   the streamID where to look for messages
+   * @param since      instant of the earliest possible date of the first message returned.
+   * @param pagination The skip and limit for pagination.
+   * @return a future completed with the list of matching messages in the stream.
+   * @see <a href="https://developers.symphony.com/restapi/reference#messages-v4">Messages</a>
+   */
+  public CompletableFuture<List<V4Message>> listMessagesAsync(@Nonnull String streamId, @Nonnull Instant since,
+      @Nonnull PaginationAttribute pagination) {
+    return executeAndRetryAsync("getMessages", messageApi.getApiClient().getBasePath(),
+        () -> messagesApi.v4StreamSidMessageGet(streamId, getEpochMillis(since),
+        authSession.getSessionToken(), authSession.getKeyManagerToken(), pagination.getSkip(), pagination.getLimit()));
+  }
+
+  /**
+   * Asynchronous version of {@link #listMessages(String, Instant)}.
+   *
+   * @param streamId the streamID where to look for messages
+   * @param since    instant of the earliest possible date of the first message returned.
+   * @return a future completed with the list of matching messages in the stream.
+   * @see <a href="https://developers.symphony.com/restapi/reference#messages-v4">Messages</a>
+   */
+  public CompletableFuture<List<V4Message>> listMessagesAsync(@Nonnull String streamId, @Nonnull Instant since) {
+    return executeAndRetryAsync("getMessages", messageApi.getApiClient().getBasePath(),
+        () -> messagesApi.v4StreamSidMessageGet(streamId, getEpochMillis(since),
+        authSession.getSessionToken(), authSession.getKeyManagerToken(), null, null));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -235,6 +298,111 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
         () -> doSendBlast(streamIds, message));
   }
 
+  /**
+   * Asynchronous version of {@link #send(String, String)}.
+   *
+   * @param streamId the ID of the stream to send the message to
+   * @param message  the message payload in MessageML
+   * @return a future completed with a {@link V4Message} object containing the details of the sent message
+   * @see <a href="https://developers.symphony.com/restapi/reference#create-message-v4">Create Message v4</a>
+   */
+  public CompletableFuture<V4Message> sendAsync(@Nonnull String streamId, @Nonnull String message) {
+    return this.sendAsync(streamId, Message.builder().content(message).build());
+  }
+
+  /**
+   * Asynchronous version of {@link #send(String, Message)}: sending the same message to many streams does not
+   * require a thread per stream.
+   *
+   * @param streamId the ID of the stream to send the message to
+   * @param message  the message to be sent
+   * @return a future completed with a {@link V4Message} object containing the details of the sent message
+   * @see <a href="https://developers.symphony.com/restapi/reference#create-message-v4">Create Message v4</a>
+   */
+  public CompletableFuture<V4Message> sendAsync(@Nonnull String streamId, @Nonnull Message message) {
+    return this.executeAndRetryAsync("send", messagesApi.getApiClient().getBasePath(),
+        () -> this.doSendMessage(streamId, message));
+  }
+
+  /**
+   * Same as {@link #sendAsync(String, Message)}, the message being built again for each attempt so that its
+   * attachments can be sent again when the request is retried.
+   */
+  CompletableFuture<V4Message> sendAsync(String streamId, Supplier<Message> message) {
+    return this.executeAndRetryAsync("send", messagesApi.getApiClient().getBasePath(),
+        () -> this.doSendMessage(streamId, message.get()));
+  }
+
+  /**
+   * Sends a message without retrying when the agent answers 429 Too Many Requests, for the {@link MessageSendQueue}
+   * to slow down and send it again.
+   */
+  CompletableFuture<V4Message> sendAsyncWithoutRetryOnTooManyRequests(String streamId, Message message) {
+    checkAuthSession(authSession);
+    // read beforehand, so that they can be sent again by each retry
+    final List<byte[]> attachments = Attachment.readContents(message.getAttachments());
+    final List<byte[]> previews = Attachment.readContents(message.getPreviews());
+    final RetryWithRecoveryBuilder<?> noTooManyRequestsRetryBuilder = RetryWithRecoveryBuilder.from(retryBuilder)
+        .noRetryOnException(t -> t instanceof ApiException && ((ApiException) t).isTooManyRequestsError());
+    return RetryWithRecovery.executeAndRetryAsync(noTooManyRequestsRetryBuilder, "send",
+        messagesApi.getApiClient().getBasePath(),
+        () -> this.doSendMessage(streamId, message.withContents(attachments, previews)), getAsyncExecutor());
+  }
+
+  /**
+   * Asynchronous version of {@link #send(List, Message)}.
+   *
+   * @param streamIds the list of stream IDs to send the message to
+   * @param message   the message to be sent
+   * @return a future completed with a {@link V4MessageBlastResponse} object containing the details of the sent messages
+   * @see <a href="https://developers.symphony.com/restapi/v20.9/reference#blast-message">Blast Message</a>
+   */
+  public CompletableFuture<V4MessageBlastResponse> sendAsync(@Nonnull List<String> streamIds,
+      @Nonnull Message message) {
+    return this.executeAndRetryAsync("sendBlast", messagesApi.getApiClient().getBasePath(),
+        () -> doSendBlast(streamIds, message));
+  }
+
+  /**
+   * Sends a message to multiple existing streams, split into several blast requests.
+   *
+   * @param streamIds the list of stream IDs to send the message to
+   * @param message   the message to be sent
+   * @param blast     the maximum number of streams per request and of requests sent at the same time
+   * @return a {@link V4MessageBlastResponse} object containing the details of the sent messages
+   * @see #sendAsync(List, Message, BlastAttribute)
+   */
+  public V4MessageBlastResponse send(@Nonnull List<String> streamIds, @Nonnull Message message,
+      @Nonnull BlastAttribute blast) {
+    return this.sendAsync(streamIds, message, blast).join();
+  }
+
+  /**
+   * Sends a message to multiple existing streams, split into several blast requests so that very large audiences do
+   * not fail or time out in a single request. Each request is retried on its own and a new one is sent each time one
+   * completes. The attachments of the message are read once, to be sent with each request, file attachments being
+   * streamed from the disk by each request instead.
+   *
+   * @param streamIds the list of stream IDs to send the message to
+   * @param message   the message to be sent
+   * @param blast     the maximum number of streams per request and of requests sent at the same time
+   * @return a future completed with a {@link V4MessageBlastResponse} object merging the details of the sent messages
+   * and the errors of all the requests, the streams of a request still failing once retried being reported in the
+   * errors
+   * @see <a href="https://developers.symphony.com/restapi/v20.9/reference#blast-message">Blast Message</a>
+   */
+  public CompletableFuture<V4MessageBlastResponse> sendAsync(@Nonnull List<String> streamIds,
+      @Nonnull Message message, @Nonnull BlastAttribute blast) {
+    checkAuthSession(authSession);
+    final List<byte[]> attachments = Attachment.readContents(message.getAttachments());
+    final List<byte[]> previews = Attachment.readContents(message.getPreviews());
+
+    return new ChunkedBlast(streamIds, blast.getChunkSize(),
+        chunk -> this.executeAndRetryAsync("sendBlast", messagesApi.getApiClient().getBasePath(),
+            () -> doSendBlast(chunk, message, attachments, previews)))
+        .send(blast.getMaxChunksInFlight());
+  }
+
   /**
    * The generated {@link MessagesApi#v4StreamSidMessageCreatePost(String, String, String, String, String, String, File, File)}
    * does not allow to send multiple attachments as well as in-memory files, so we have to "manually" process this call.
@@ -257,6 +425,19 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
     return doSendFormData("/v4/message/blast", form, new TypeReference<V4MessageBlastResponse>() {});
   }
 
+  /**
+   * Sends a blast with attachments read beforehand, so that they can be sent again by each chunk and retry.
+   */
+  private V4MessageBlastResponse doSendBlast(@Nonnull List<String> streamIds, @Nonnull Message message,
+      List<byte[]> attachments, List<byte[]> previews) throws ApiException {
+    final Map<String, Object> form = getForm(message);
+    form.put("attachment", toApiClientBodyParts(message.getAttachments(), attachments));
+    form.put("preview", toApiClientBodyParts(message.getPreviews(), previews));
+    form.put("sids", String.join(",", streamIds));
+
+    return doSendFormData("/v4/message/blast", form, new TypeReference<V4MessageBlastResponse>() {});
+  }
+
   private Map<String, Object> getForm(Message message) {
     final Map<String, Object> form = new HashMap<>();
     form.put("message", message.getContent());
@@ -269,10 +450,30 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
 
   private static ApiClientBodyPart[] toApiClientBodyParts(List<Attachment> attachments) {
     return attachments.stream()
-        .map(a -> new ApiClientBodyPart(a.getContent(), a.getFilename()))
+        .map(a -> toApiClientBodyPart(a, null))
         .toArray(ApiClientBodyPart[]::new);
   }
 
+  private static ApiClientBodyPart[] toApiClientBodyParts(List<Attachment> attachments, List<byte[]> contents) {
+    final ApiClientBodyPart[] parts = new ApiClientBodyPart[attachments.size()];
+    for (int i = 0; i < parts.length; i++) {
+      parts[i] = toApiClientBodyPart(attachments.get(i), contents.get(i));
+    }
+    return parts;
+  }
+
+  /**
+   * File attachments are streamed from the disk by the API client, other attachments are sent from the content read
+   * beforehand if any, from their input stream otherwise.
+   */
+  private static ApiClientBodyPart toApiClientBodyPart(Attachment attachment, @Nullable byte[] content) {
+    if (attachment.getPath() != null) {
+      return new ApiClientBodyPart(attachment.getPath().toFile(), attachment.getFilename());
+    }
+    return new ApiClientBodyPart(content != null ? new ByteArrayInputStream(content) : attachment.getContent(),
+        attachment.getFilename());
+  }
+
   private <T> T doSendFormData(String path, Map<String, Object> form, TypeReference<T> typeReference)
       throws ApiException {
     final ApiClient apiClient = this.messagesApi.getApiClient();
@@ -311,6 +512,22 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
             authSession.getSessionToken(), authSession.getKeyManagerToken()));
   }
 
+  /**
+   * Asynchronous version of {@link #getAttachment(String, String, String)}.
+   *
+   * @param streamId     the stream ID where to look for the attachment
+   * @param messageId    the ID of the message containing the attachment
+   * @param attachmentId the ID of the attachment
+   * @return a future completed with a byte array of attachment encoded in base 64
+   * @see <a href="https://developers.symphony.com/restapi/reference#attachment">Attachment</a>
+   */
+  public CompletableFuture<byte[]> getAttachmentAsync(@Nonnull String streamId, @Nonnull String messageId,
+      @Nonnull String attachmentId) {
+    return executeAndRetryAsync("getAttachment", attachmentsApi.getApiClient().getBasePath(),
+        () -> attachmentsApi.v1StreamSidAttachmentGet(streamId, attachmentId, messageId,
+            authSession.getSessionToken(), authSession.getKeyManagerToken()));
+  }
+
   /**
    * Imports a list of messages to Symphony
    *
@@ -368,6 +585,19 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
         () -> messagesApi.v1MessageIdGet(authSession.getSessionToken(), authSession.getKeyManagerToken(), messageId));
   }
 
+  /**
+   * Asynchronous version of {@link #getMessage(String)}.
+   *
+   * @param messageId the ID of the message to be retrieved
+   * @return a future completed with a {@link V4Message} containing the message's details, null if the message was not
+   * found
+   * @see <a href="https://developers.symphony.com/restapi/reference#get-message-v1">Get Message v1</a>
+   */
+  public CompletableFuture<V4Message> getMessageAsync(@Nonnull String messageId) {
+    return executeAndRetryAsync("getMessage", messagesApi.getApiClient().getBasePath(),
+        () -> messagesApi.v1MessageIdGet(authSession.getSessionToken(), authSession.getKeyManagerToken(), messageId));
+  }
+
   /**
    * List attachments in a particular stream.
    *
@@ -423,4 +653,24 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
     checkAuthSession(authSession);
     return RetryWithRecovery.executeAndRetry(retryBuilder, name, address, supplier);
   }
+
+  private <T> CompletableFuture<T> executeAndRetryAsync(String name, String address,
+      SupplierWithApiException<T> supplier) {
+    checkAuthSession(authSession);
+    return RetryWithRecovery.executeAndRetryAsync(retryBuilder, name, address, supplier, getAsyncExecutor());
+  }
+
+  /**
+   * Returns the executor shared by the message services to run the calls of their asynchronous methods.
+   *
+   * @param maxThreads the maximum number of threads of the executor.
+   * @return the shared executor, created on first use.
+   */
+  public static Executor sharedAsyncExecutor(int maxThreads) {
+    return DaemonExecutors.sharedPool("SymphonyBdk_Message", maxThreads);
+  }
+
+  private Executor getAsyncExecutor() {
+    return asyncExecutor != null ? asyncExecutor : sharedAsyncExecutor(BdkMessageConfig.DEFAULT_ASYNC_MAX_THREADS);
+  }
 }
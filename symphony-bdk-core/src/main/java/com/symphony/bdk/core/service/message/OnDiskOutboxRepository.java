@@ -0,0 +1,312 @@
+package com.symphony.bdk.core.service.message;
+
+import com.symphony.bdk.core.service.message.model.OutboxRecord;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+
+/**
+ * The implementation of {@link OutboxRepository} interface persisting the records in an append-only file, one JSON
+ * line per added or completed record. The lines are streamed to the file, file attachments being persisted by path.
+ * <p>
+ * Added records are forced to the disk before {@link #add(OutboxRecord)} returns, without holding the lock of the
+ * repository so that concurrent additions do not wait for each other. The file is truncated once all the records are
+ * completed, and compacted to the pending records when they are read. A line partially written when the process died
+ * is skipped.
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public class OnDiskOutboxRepository implements OutboxRepository {
+
+  private static final ObjectMapper MAPPER = new JsonMapper();
+  private static final byte NEW_LINE = '\n';
+
+  private final Path file;
+
+  // guarded by this
+  private final Set<String> pendingIds;
+  private FileChannel channel;
+
+  /**
+   * @param file the outbox file, created if it does not exist.
+   * @throws UncheckedIOException if the file cannot be read.
+   */
+  public OnDiskOutboxRepository(@Nonnull Path file) {
+    this.file = file;
+    this.pendingIds = new HashSet<>(this.read().keySet());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void add(OutboxRecord record) {
+    final FileChannel out;
+    synchronized (this) {
+      out = this.append(generator -> writeAdd(generator, record));
+      this.pendingIds.add(record.getId());
+    }
+    this.force(out);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized void complete(String recordId) {
+    if (!this.pendingIds.remove(recordId)) {
+      return;
+    }
+    try {
+      if (this.pendingIds.isEmpty()) {
+        this.channel().truncate(0);
+      } else {
+        this.append(generator -> writeComplete(generator, recordId));
+      }
+    } catch (IOException | UncheckedIOException e) {
+      // the message will be sent again after a restart
+      log.warn("Unable to mark the outbox record {} as completed", recordId, e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized List<OutboxRecord> pending() {
+    final Map<String, OutboxRecord> pending = this.read();
+    this.compact(pending.values());
+    this.pendingIds.clear();
+    this.pendingIds.addAll(pending.keySet());
+    return new ArrayList<>(pending.values());
+  }
+
+  private Map<String, OutboxRecord> read() {
+    final Map<String, OutboxRecord> pending = new LinkedHashMap<>();
+    if (!Files.exists(this.file)) {
+      return pending;
+    }
+    try (BufferedReader reader = Files.newBufferedReader(this.file, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isEmpty()) {
+          continue;
+        }
+        try {
+          final JsonNode node = MAPPER.readTree(line);
+          if ("add".equals(node.path("op").asText())) {
+            final OutboxRecord record = fromJson(node.get("record"));
+            pending.put(record.getId(), record);
+          } else {
+            pending.remove(node.path("id").asText());
+          }
+        } catch (IOException | RuntimeException e) {
+          log.warn("Skipping unreadable line of the outbox file {}", this.file, e);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to read the outbox file " + this.file, e);
+    }
+    return pending;
+  }
+
+  private void compact(Iterable<OutboxRecord> pending) {
+    final Path compacted = this.file.resolveSibling(this.file.getFileName() + ".compact");
+    try {
+      try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+          StandardOpenOption.TRUNCATE_EXISTING)) {
+        for (OutboxRecord record : pending) {
+          writeLine(out, generator -> writeAdd(generator, record));
+        }
+        out.force(true);
+      }
+      this.closeChannel();
+      Files.move(compacted, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      // the file is still valid, only bigger
+      log.warn("Unable to compact the outbox file {}", this.file, e);
+    }
+  }
+
+  private FileChannel append(LineWriter line) {
+    try {
+      final FileChannel out = this.channel();
+      writeLine(out, line);
+      return out;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to write to the outbox file " + this.file, e);
+    }
+  }
+
+  private void force(FileChannel out) {
+    try {
+      out.force(false);
+    } catch (ClosedByInterruptException e) {
+      throw new UncheckedIOException("Unable to write to the outbox file " + this.file, e);
+    } catch (ClosedChannelException e) {
+      // closed by a compaction, which has forced the compacted file holding the record to the disk
+      log.debug("Outbox file {} compacted while the added record was forced to the disk", this.file);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to write to the outbox file " + this.file, e);
+    }
+  }
+
+  private FileChannel channel() throws IOException {
+    if (this.channel == null || !this.channel.isOpen()) {
+      this.channel = FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+          StandardOpenOption.APPEND);
+    }
+    return this.channel;
+  }
+
+  private void closeChannel() throws IOException {
+    if (this.channel != null) {
+      this.channel.close();
+      this.channel = null;
+    }
+  }
+
+  // a line which cannot be fully written is removed, not to corrupt the next one
+  private static void writeLine(FileChannel out, LineWriter line) throws IOException {
+    final long size = out.size();
+    try {
+      final OutputStream stream = new BufferedOutputStream(Channels.newOutputStream(out));
+      try (JsonGenerator generator = MAPPER.getFactory().createGenerator(stream)) {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        line.write(generator);
+      }
+      stream.write(NEW_LINE);
+      stream.flush();
+    } catch (IOException | RuntimeException e) {
+      out.truncate(size);
+      throw e;
+    }
+  }
+
+  private static void writeComplete(JsonGenerator generator, String recordId) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("op", "complete");
+    generator.writeStringField("id", recordId);
+    generator.writeEndObject();
+  }
+
+  private static void writeAdd(JsonGenerator generator, OutboxRecord record) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("op", "add");
+    generator.writeObjectFieldStart("record");
+    generator.writeStringField("id", record.getId());
+    generator.writeNumberField("createdAt", record.getCreatedAt().toEpochMilli());
+    generator.writeStringField("streamId", record.getStreamId());
+    generator.writeStringField("content", record.getContent());
+    generator.writeStringField("data", record.getData());
+    generator.writeStringField("version", record.getVersion());
+    writeStrings(generator, "attachmentNames", record.getAttachmentNames());
+    writeBinaries(generator, "attachments", record.getAttachments());
+    writePaths(generator, "attachmentPaths", record.getAttachmentPaths());
+    writeBinaries(generator, "previews", record.getPreviews());
+    writePaths(generator, "previewPaths", record.getPreviewPaths());
+    generator.writeEndObject();
+    generator.writeEndObject();
+  }
+
+  private static void writeStrings(JsonGenerator generator, String name, List<String> values) throws IOException {
+    generator.writeArrayFieldStart(name);
+    for (String value : values) {
+      generator.writeString(value);
+    }
+    generator.writeEndArray();
+  }
+
+  private static void writeBinaries(JsonGenerator generator, String name, List<byte[]> binaries) throws IOException {
+    generator.writeArrayFieldStart(name);
+    for (byte[] binary : binaries) {
+      if (binary == null) {
+        generator.writeNull();
+      } else {
+        generator.writeBinary(binary);
+      }
+    }
+    generator.writeEndArray();
+  }
+
+  private static void writePaths(JsonGenerator generator, String name, List<Path> paths) throws IOException {
+    generator.writeArrayFieldStart(name);
+    for (Path path : paths) {
+      generator.writeString(path != null ? path.toAbsolutePath().toString() : null);
+    }
+    generator.writeEndArray();
+  }
+
+  private static OutboxRecord fromJson(JsonNode node) throws IOException {
+    final List<String> attachmentNames = new ArrayList<>();
+    node.path("attachmentNames").forEach(name -> attachmentNames.add(name.asText()));
+    return new OutboxRecord(
+        node.get("id").asText(),
+        Instant.ofEpochMilli(node.get("createdAt").asLong()),
+        node.get("streamId").asText(),
+        node.get("content").asText(),
+        textOrNull(node.get("data")),
+        textOrNull(node.get("version")),
+        attachmentNames,
+        binaries(node.path("attachments")),
+        paths(node.get("attachmentPaths")),
+        binaries(node.path("previews")),
+        paths(node.get("previewPaths")));
+  }
+
+  private static List<byte[]> binaries(JsonNode array) throws IOException {
+    final List<byte[]> binaries = new ArrayList<>();
+    for (JsonNode binary : array) {
+      binaries.add(binary.isNull() ? null : binary.binaryValue());
+    }
+    return binaries;
+  }
+
+  private static List<Path> paths(JsonNode array) {
+    final List<Path> paths = new ArrayList<>();
+    for (JsonNode path : array) {
+      paths.add(path.isNull() ? null : Paths.get(path.asText()));
+    }
+    return paths;
+  }
+
+  private static String textOrNull(JsonNode node) {
+    return node == null || node.isNull() ? null : node.asText();
+  }
+
+  @FunctionalInterface
+  @API(status = API.Status.INTERNAL)
+  private interface LineWriter {
+
+    void write(JsonGenerator generator) throws IOException;
+  }
+}
@@ -0,0 +1,39 @@
+package com.symphony.bdk.core.service.message;
+
+import com.symphony.bdk.core.service.message.model.OutboxRecord;
+
+import org.apiguardian.api.API;
+
+import java.util.List;
+
+/**
+ * A repository interface for storing the messages of the {@link MessageOutbox} until the agent has accepted them.
+ * <p>
+ * Implementations must be thread-safe. A record must be persisted when {@link #add(OutboxRecord)} returns, while a
+ * completion might be lost on a crash: the message would then be sent again, the outbox giving at-least-once delivery.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface OutboxRepository {
+
+  /**
+   * Persists a message to be sent.
+   *
+   * @param record the record to be persisted.
+   * @throws RuntimeException if the record cannot be persisted, the message is then not sent.
+   */
+  void add(OutboxRecord record);
+
+  /**
+   * Marks a message as sent, its record not being pending anymore.
+   *
+   * @param recordId the ID of the record.
+   */
+  void complete(String recordId);
+
+  /**
+   * Reads the records which have not been completed.
+   *
+   * @return the pending records, in the order they have been added.
+   */
+  List<OutboxRecord> pending();
+}
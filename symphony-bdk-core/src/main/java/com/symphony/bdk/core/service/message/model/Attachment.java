@@ -3,9 +3,16 @@ package com.symphony.bdk.core.service.message.model;
 import com.symphony.bdk.core.service.message.exception.MessageCreationException;
 
 import lombok.Getter;
+import org.apache.commons.io.IOUtils;
 import org.apiguardian.api.API;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Attachment model to be used in {@link com.symphony.bdk.core.service.message.model.Message.MessageBuilder}
@@ -15,14 +22,103 @@ import java.io.InputStream;
 @API(status = API.Status.STABLE)
 public class Attachment {
 
+  /**
+   * The content of the attachment, null if the attachment is a file.
+   */
   private final InputStream content;
+  /**
+   * The file the attachment is streamed from, null if the attachment is an input stream.
+   */
+  private final Path path;
   private final String filename;
 
   public Attachment(InputStream content, String filename) {
     this.content = content;
+    this.path = null;
+    this.filename = checkFilename(filename);
+  }
+
+  /**
+   * Attachment streamed from a file when the message is sent, without being loaded in memory. The file is opened
+   * again each time the message is sent, so that the attachment can be sent again when a request is retried.
+   *
+   * @param path     the file to be attached.
+   * @param filename the filename of the attachment.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public Attachment(Path path, String filename) {
+    this.content = null;
+    this.path = path;
+    this.filename = checkFilename(filename);
+  }
+
+  /**
+   * Opens the content of the attachment. Unlike {@link #getContent()}, which is null for a file attachment, a new
+   * stream is opened on the file each time this method is called: it must then be closed by the caller.
+   *
+   * @return the content of the attachment, a new stream on the file if the attachment is a file.
+   * @throws MessageCreationException if the attachment file cannot be opened.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public InputStream openContent() {
+    if (this.path == null) {
+      return this.content;
+    }
+    try {
+      return Files.newInputStream(this.path);
+    } catch (IOException e) {
+      throw new MessageCreationException("Unable to read the attachment file " + this.path, e);
+    }
+  }
+
+  /**
+   * Reads the content of the attachments which cannot be read again from their input stream. File attachments are not
+   * read, the file being opened again each time the attachment is sent.
+   *
+   * @param attachments the attachments to be read.
+   * @return the contents, in the order of the attachments, null for the file attachments.
+   * @throws MessageCreationException if an attachment cannot be read.
+   */
+  @API(status = API.Status.INTERNAL)
+  public static List<byte[]> readContents(List<Attachment> attachments) {
+    final List<byte[]> contents = new ArrayList<>(attachments.size());
+    for (Attachment attachment : attachments) {
+      if (attachment.getPath() != null) {
+        contents.add(null);
+        continue;
+      }
+      try {
+        contents.add(IOUtils.toByteArray(attachment.getContent()));
+      } catch (IOException e) {
+        throw new MessageCreationException("Unable to read the attachment " + attachment.getFilename(), e);
+      }
+    }
+    return contents;
+  }
+
+  /**
+   * Creates attachments that can be sent again, from the contents returned by {@link #readContents(List)}. File
+   * attachments are kept as is.
+   *
+   * @param attachments the attachments whose contents have been read.
+   * @param contents    the contents, in the order of the attachments, null for the file attachments.
+   * @return new attachments, reading their contents from memory.
+   */
+  @API(status = API.Status.INTERNAL)
+  public static List<Attachment> withContents(List<Attachment> attachments, List<byte[]> contents) {
+    final List<Attachment> copies = new ArrayList<>(attachments.size());
+    for (int i = 0; i < attachments.size(); i++) {
+      final Attachment attachment = attachments.get(i);
+      copies.add(attachment.getPath() != null ? attachment
+          : new Attachment(new ByteArrayInputStream(contents.get(i)), attachment.getFilename()));
+    }
+    return copies;
+  }
+
+  private static String checkFilename(String filename) {
     if (filename.split("\\.").length < 2 ) {
       throw new MessageCreationException("Invalid attachment's filename, extension is missing.");
     }
-    this.filename = filename;
+    return filename;
   }
 }
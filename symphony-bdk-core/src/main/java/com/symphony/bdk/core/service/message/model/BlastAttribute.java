@@ -0,0 +1,35 @@
+package com.symphony.bdk.core.service.message.model;
+
+import lombok.Getter;
+import org.apiguardian.api.API;
+
+/**
+ * Blast Attribute model to be used to split a message blast into several requests, sent concurrently.
+ */
+@Getter
+@API(status = API.Status.EXPERIMENTAL)
+public class BlastAttribute {
+
+  /**
+   * Maximum number of streams the message is sent to per request.
+   */
+  private final int chunkSize;
+
+  /**
+   * Maximum number of requests being sent at the same time.
+   */
+  private final int maxChunksInFlight;
+
+  /**
+   * @param chunkSize         maximum number of streams the message is sent to per request.
+   * @param maxChunksInFlight maximum number of requests being sent at the same time.
+   * @throws IllegalArgumentException if a value is not positive.
+   */
+  public BlastAttribute(int chunkSize, int maxChunksInFlight) {
+    if (chunkSize < 1 || maxChunksInFlight < 1) {
+      throw new IllegalArgumentException("The chunk size and the maximum number of chunks in flight must be positive.");
+    }
+    this.chunkSize = chunkSize;
+    this.maxChunksInFlight = maxChunksInFlight;
+  }
+}
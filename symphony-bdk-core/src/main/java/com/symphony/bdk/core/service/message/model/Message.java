@@ -19,6 +19,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apiguardian.api.API;
 
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -61,6 +62,31 @@ public class Message {
     this.previews = builder.previews();
   }
 
+  private Message(Message message, List<Attachment> attachments, List<Attachment> previews) {
+    this.content = message.content;
+    this.version = message.version;
+    this.data = message.data;
+    this.attachments = attachments;
+    this.previews = previews;
+  }
+
+  /**
+   * Copies the message to send it again, its attachments being read from the contents returned by
+   * {@link Attachment#readContents(List)}.
+   *
+   * @param attachments the contents of the attachments.
+   * @param previews    the contents of the previews.
+   * @return a copy of the message with new attachments, the message itself if it has no attachment.
+   */
+  @API(status = API.Status.INTERNAL)
+  public Message withContents(List<byte[]> attachments, List<byte[]> previews) {
+    if (this.attachments.isEmpty() && this.previews.isEmpty()) {
+      return this;
+    }
+    return new Message(this, Attachment.withContents(this.attachments, attachments),
+        Attachment.withContents(this.previews, previews));
+  }
+
   /**
    * Returns a new {@link MessageBuilder} instance.
    *
@@ -160,6 +186,32 @@ public class Message {
       return this;
     }
 
+    /**
+     * Add a file attachment to the message, streamed from the disk when the message is sent instead of being loaded
+     * in memory.
+     * @param file File to be attached, its name being the filename of the attachment.
+     * @return  this builder with the data configured.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public MessageBuilder addAttachment(@Nonnull Path file) {
+      this.attachments.add(new Attachment(file, file.getFileName().toString()));
+      return this;
+    }
+
+    /**
+     * Add a file attachment (with preview) to the message, both streamed from the disk when the message is sent.
+     * @param file File to be attached, its name being the filename of the attachment.
+     * @param preview File of the attachment preview.
+     * @return  this builder with the data configured.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public MessageBuilder addAttachment(@Nonnull Path file, @Nonnull Path preview) {
+      final String filename = file.getFileName().toString();
+      this.attachments.add(new Attachment(file, filename));
+      this.previews.add(new Attachment(preview, "preview-" + filename));
+      return this;
+    }
+
     /**
      * Create a {@link Message} using the configuration within the builder.
      * @return  constructed {@link Message} using configuration within this builder.
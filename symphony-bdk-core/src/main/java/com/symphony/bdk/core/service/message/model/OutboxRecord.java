@@ -0,0 +1,146 @@
+package com.symphony.bdk.core.service.message.model;
+
+import com.symphony.bdk.core.service.message.exception.MessageCreationException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.Getter;
+import org.apiguardian.api.API;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Message to be sent to a stream, as persisted in the outbox until the agent has accepted it. The attachments given as
+ * input streams are read when the record is created, so that the message can be sent again after a restart. File
+ * attachments are kept by path only: their files must not be removed until the message has been sent.
+ */
+@Getter
+@API(status = API.Status.EXPERIMENTAL)
+public class OutboxRecord {
+
+  private static final ObjectMapper MAPPER = new JsonMapper();
+
+  /**
+   * Unique ID of the record.
+   */
+  private final String id;
+  /**
+   * When the message was submitted.
+   */
+  private final Instant createdAt;
+  /**
+   * The ID of the stream to send the message to.
+   */
+  private final String streamId;
+  /**
+   * The content of the message in MessageML v2 format.
+   */
+  private final String content;
+  /**
+   * JSON data representing the objects contained in the message, may be null.
+   */
+  private final String data;
+  /**
+   * The message version.
+   */
+  private final String version;
+  /**
+   * The filenames of the attachments.
+   */
+  private final List<String> attachmentNames;
+  /**
+   * The content of the attachments, in the order of their filenames, null for the file attachments.
+   */
+  private final List<byte[]> attachments;
+  /**
+   * The files of the attachments, in the order of their filenames, null for the attachments read in memory.
+   */
+  private final List<Path> attachmentPaths;
+  /**
+   * The content of the attachment previews, empty if the message has no preview, null for the file previews.
+   */
+  private final List<byte[]> previews;
+  /**
+   * The files of the attachment previews, empty if the message has no preview, null for the previews read in memory.
+   */
+  private final List<Path> previewPaths;
+
+  public OutboxRecord(@Nonnull String id, @Nonnull Instant createdAt, @Nonnull String streamId,
+      @Nonnull String content, @Nullable String data, @Nullable String version, @Nonnull List<String> attachmentNames,
+      @Nonnull List<byte[]> attachments, @Nonnull List<Path> attachmentPaths, @Nonnull List<byte[]> previews,
+      @Nonnull List<Path> previewPaths) {
+    this.id = id;
+    this.createdAt = createdAt;
+    this.streamId = streamId;
+    this.content = content;
+    this.data = data;
+    this.version = version;
+    this.attachmentNames = Collections.unmodifiableList(attachmentNames);
+    this.attachments = Collections.unmodifiableList(attachments);
+    this.attachmentPaths = Collections.unmodifiableList(attachmentPaths);
+    this.previews = Collections.unmodifiableList(previews);
+    this.previewPaths = Collections.unmodifiableList(previewPaths);
+  }
+
+  /**
+   * Creates a new record, reading the attachments of the message given as input streams.
+   *
+   * @param streamId the ID of the stream to send the message to.
+   * @param message  the message to be sent.
+   * @return a new record with a random ID.
+   * @throws MessageCreationException if an attachment cannot be read.
+   */
+  public static OutboxRecord of(@Nonnull String streamId, @Nonnull Message message) {
+    final List<String> attachmentNames = new ArrayList<>();
+    message.getAttachments().forEach(attachment -> attachmentNames.add(attachment.getFilename()));
+    return new OutboxRecord(UUID.randomUUID().toString(), Instant.now(), streamId, message.getContent(),
+        message.getData(), message.getVersion(), attachmentNames,
+        Attachment.readContents(message.getAttachments()), paths(message.getAttachments()),
+        Attachment.readContents(message.getPreviews()), paths(message.getPreviews()));
+  }
+
+  /**
+   * @return a new message to be sent, the attachments being read from the record or from their files.
+   */
+  public Message toMessage() {
+    final Message.MessageBuilder builder = Message.builder().content(this.content);
+    if (this.version != null) {
+      builder.version(this.version);
+    }
+    if (this.data != null) {
+      try {
+        builder.data(MAPPER.readTree(this.data));
+      } catch (JsonProcessingException e) {
+        throw new MessageCreationException("Failed to read the data of the outbox record " + this.id, e);
+      }
+    }
+    for (int i = 0; i < this.attachmentNames.size(); i++) {
+      final String filename = this.attachmentNames.get(i);
+      builder.attachments().add(attachment(this.attachmentPaths.get(i), this.attachments.get(i), filename));
+      if (!this.previews.isEmpty()) {
+        builder.previews().add(attachment(this.previewPaths.get(i), this.previews.get(i), "preview-" + filename));
+      }
+    }
+    return builder.build();
+  }
+
+  private static Attachment attachment(@Nullable Path path, @Nullable byte[] content, String filename) {
+    return path != null ? new Attachment(path, filename) : new Attachment(new ByteArrayInputStream(content), filename);
+  }
+
+  private static List<Path> paths(List<Attachment> attachments) {
+    final List<Path> paths = new ArrayList<>(attachments.size());
+    attachments.forEach(attachment -> paths.add(attachment.getPath()));
+    return paths;
+  }
+}
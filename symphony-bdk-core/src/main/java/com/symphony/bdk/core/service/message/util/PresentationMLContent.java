@@ -0,0 +1,39 @@
+package com.symphony.bdk.core.service.message.util;
+
+import org.apiguardian.api.API;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Content extracted from a PresentationML by {@link PresentationMLParser#parse(String)}.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public class PresentationMLContent {
+
+  private final String textContent;
+  private final List<String> entityIds;
+
+  PresentationMLContent(String textContent, List<String> entityIds) {
+    this.textContent = textContent;
+    this.entityIds = Collections.unmodifiableList(entityIds);
+  }
+
+  /**
+   * @return the trimmed text content of the PresentationML.
+   */
+  public String getTextContent() {
+    return this.textContent;
+  }
+
+  /**
+   * The entities (mentions, hashtags, cashtags...) are referenced in the PresentationML by their key in the message
+   * data (ex: {@code <span class="entity" data-entity-id="0">@John</span>}). Their type and value, such as the id of
+   * a mentioned user, are read from the message data by the {@link MessageParser}.
+   *
+   * @return the ids of the entities referenced in the PresentationML, in order of appearance.
+   */
+  public List<String> getEntityIds() {
+    return this.entityIds;
+  }
+}
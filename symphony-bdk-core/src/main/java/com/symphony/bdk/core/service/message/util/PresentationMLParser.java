@@ -2,27 +2,32 @@ package com.symphony.bdk.core.service.message.util;
 
 import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
 
-import lombok.Generated;
-import lombok.SneakyThrows;
 import org.apiguardian.api.API;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 /**
  * Helper class for parsing the PresentationML to text content.
+ * <p>
+ * The PresentationML is read in a single streaming pass, without building a DOM tree. The text content is collected in
+ * a buffer reused by each thread, buffers grown by large messages being released after use.
  */
 @API(status = API.Status.STABLE)
 public class PresentationMLParser {
 
-  private static final ThreadLocal<DocumentBuilder> LOCAL_BUILDER = ThreadLocal.withInitial(
-      PresentationMLParser::initBuilder);
+  private static final String ENTITY_ID_ATTRIBUTE = "data-entity-id";
+  private static final int MAX_RETAINED_BUFFER_CAPACITY = 16 * 1024;
+
+  private static final ThreadLocal<XMLInputFactory> LOCAL_FACTORY = ThreadLocal.withInitial(
+      PresentationMLParser::initFactory);
+  private static final ThreadLocal<StringBuilder> LOCAL_BUFFER = ThreadLocal.withInitial(StringBuilder::new);
 
   /**
    * Get text content from PresentationML
@@ -32,12 +37,15 @@ public class PresentationMLParser {
    * @return the message text content extracted from the given PresentationML
    */
   public static String getTextContent(String presentationML, Boolean trim) throws PresentationMLParserException {
+    final StringBuilder buffer = LOCAL_BUFFER.get();
+    buffer.setLength(0);
     try {
-      final Document doc = LOCAL_BUILDER.get().parse(new ByteArrayInputStream(presentationML.getBytes(StandardCharsets.UTF_8)));
-      String textContent = doc.getChildNodes().item(0).getTextContent();
-      return trim ? textContent.trim() : textContent;
-    } catch (SAXException | IOException e) {
-      throw new PresentationMLParserException(presentationML, "Failed to parse the PresentationML", e);
+      read(presentationML, buffer, null);
+      return trim ? trim(buffer) : buffer.toString();
+    } finally {
+      if (buffer.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+        LOCAL_BUFFER.remove();
+      }
     }
   }
 
@@ -51,12 +59,92 @@ public class PresentationMLParser {
     return getTextContent(presentationML, true);
   }
 
-  // Ignore the code coverage check because cannot produce the exception
-  @Generated
-  @SneakyThrows
-  private static DocumentBuilder initBuilder() {
-    final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-    return factory.newDocumentBuilder();
+  /**
+   * Append the text content from PresentationML to a given buffer, so that callers processing many messages can reuse
+   * the same buffer instead of allocating a new string for each of them.
+   *
+   * @param presentationML  the PresentationML to be parsed
+   * @param target          the buffer the untrimmed text content is appended to
+   * @throws PresentationMLParserException if the PresentationML cannot be parsed, some text might have been appended
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public static void appendTextContent(String presentationML, StringBuilder target)
+      throws PresentationMLParserException {
+    read(presentationML, target, null);
+  }
+
+  /**
+   * Get the trimmed text content and the entity references from PresentationML, in a single pass.
+   *
+   * @param presentationML  the PresentationML to be parsed
+   * @return the content extracted from the given PresentationML
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public static PresentationMLContent parse(String presentationML) throws PresentationMLParserException {
+    final StringBuilder text = new StringBuilder(presentationML.length());
+    final List<String> entityIds = new ArrayList<>();
+    read(presentationML, text, entityIds);
+    return new PresentationMLContent(trim(text), entityIds);
+  }
+
+  private static void read(String presentationML, StringBuilder text, List<String> entityIds)
+      throws PresentationMLParserException {
+    XMLStreamReader reader = null;
+    try {
+      reader = LOCAL_FACTORY.get().createXMLStreamReader(new StringReader(presentationML));
+      // the whole document is read, so that malformed content after the text is also detected
+      while (reader.hasNext()) {
+        switch (reader.next()) {
+          case XMLStreamConstants.START_ELEMENT:
+            if (entityIds != null) {
+              final String entityId = reader.getAttributeValue(null, ENTITY_ID_ATTRIBUTE);
+              if (entityId != null) {
+                entityIds.add(entityId);
+              }
+            }
+            break;
+          case XMLStreamConstants.CHARACTERS:
+          case XMLStreamConstants.CDATA:
+          case XMLStreamConstants.SPACE:
+            text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+            break;
+          default:
+            break;
+        }
+      }
+    } catch (XMLStreamException e) {
+      throw new PresentationMLParserException(presentationML, "Failed to parse the PresentationML", e);
+    } finally {
+      close(reader);
+    }
+  }
+
+  private static String trim(StringBuilder text) {
+    int start = 0;
+    int end = text.length();
+    while (start < end && text.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && text.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    return text.substring(start, end);
+  }
+
+  private static void close(XMLStreamReader reader) {
+    if (reader != null) {
+      try {
+        reader.close();
+      } catch (XMLStreamException e) {
+        // nothing to release, the reader reads from a string
+      }
+    }
+  }
+
+  private static XMLInputFactory initFactory() {
+    final XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
   }
 
   private PresentationMLParser() {
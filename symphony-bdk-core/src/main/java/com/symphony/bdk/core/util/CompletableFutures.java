@@ -0,0 +1,42 @@
+package com.symphony.bdk.core.util;
+
+import org.apiguardian.api.API;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Helpers for the {@link CompletableFuture} returned by the asynchronous methods of the BDK, Java 8 lacking some of
+ * them.
+ */
+@API(status = API.Status.INTERNAL)
+public final class CompletableFutures {
+
+  private CompletableFutures() {
+    // to avoid instantiation
+  }
+
+  /**
+   * Same as {@code CompletableFuture.failedFuture} of Java 9+.
+   *
+   * @param failure the failure of the future.
+   * @param <T>     the type of the future result.
+   * @return a future already completed exceptionally with the given failure.
+   */
+  public static <T> CompletableFuture<T> failedFuture(Throwable failure) {
+    final CompletableFuture<T> failed = new CompletableFuture<>();
+    failed.completeExceptionally(failure);
+    return failed;
+  }
+
+  /**
+   * Unwraps the failure of a future, which is wrapped in a {@link CompletionException} when it comes from a dependent
+   * stage or from {@link CompletableFuture#join()}.
+   *
+   * @param failure the failure of a future.
+   * @return the cause of the failure if it is a {@link CompletionException}, the failure itself otherwise.
+   */
+  public static Throwable unwrap(Throwable failure) {
+    return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+  }
+}
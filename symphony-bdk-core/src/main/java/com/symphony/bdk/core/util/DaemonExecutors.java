@@ -0,0 +1,128 @@
+package com.symphony.bdk.core.util;
+
+import org.apiguardian.api.API;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the executors shared by the BDK services. Their threads are daemon threads not preventing the JVM from
+ * exiting, and a shared executor is created on first use only, then kept for the lifetime of the JVM.
+ */
+@API(status = API.Status.INTERNAL)
+public final class DaemonExecutors {
+
+  private static final long KEEP_ALIVE_SECONDS = 60L;
+
+  private static final Map<String, ExecutorService> SHARED_POOLS = new ConcurrentHashMap<>();
+  private static final Map<String, ScheduledExecutorService> SHARED_SCHEDULERS = new ConcurrentHashMap<>();
+
+  private DaemonExecutors() {
+    // to avoid instantiation
+  }
+
+  /**
+   * Returns the pool shared by the callers giving the same name and maximum number of threads, created on first use.
+   *
+   * @param name       the prefix of the pool thread names.
+   * @param maxThreads the maximum number of threads of the pool.
+   * @return the shared pool.
+   * @see #newBoundedPool(String, int)
+   */
+  public static ExecutorService sharedPool(String name, int maxThreads) {
+    return sharedPool(name, maxThreads, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns the pool shared by the callers giving the same name, maximum number of threads and queue capacity, created
+   * on first use.
+   *
+   * @param name          the prefix of the pool thread names.
+   * @param maxThreads    the maximum number of threads of the pool.
+   * @param queueCapacity the maximum number of tasks waiting for a thread.
+   * @return the shared pool.
+   * @see #newBoundedPool(String, int, int)
+   */
+  public static ExecutorService sharedPool(String name, int maxThreads, int queueCapacity) {
+    return SHARED_POOLS.computeIfAbsent(name + "/" + maxThreads + "/" + queueCapacity,
+        key -> newBoundedPool(name, maxThreads, queueCapacity));
+  }
+
+  /**
+   * Returns the single thread scheduler shared by the callers giving the same name, created on first use.
+   *
+   * @param name the name of the scheduler thread.
+   * @return the shared scheduler.
+   */
+  public static ScheduledExecutorService sharedScheduler(String name) {
+    return SHARED_SCHEDULERS.computeIfAbsent(name, DaemonExecutors::newScheduler);
+  }
+
+  /**
+   * Creates a single thread scheduler, not shared, to be shut down by the caller. Cancelled tasks are removed from its
+   * queue right away.
+   *
+   * @param name the name of the scheduler thread.
+   * @return the new scheduler.
+   */
+  public static ScheduledExecutorService newScheduler(String name) {
+    final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+      final Thread thread = new Thread(runnable, name);
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.setRemoveOnCancelPolicy(true);
+    return scheduler;
+  }
+
+  /**
+   * Creates a pool running at most {@code maxThreads} tasks at the same time, further tasks waiting in its queue. The
+   * threads are named {@code <name>-<number>} and released when idle.
+   *
+   * @param name       the prefix of the pool thread names.
+   * @param maxThreads the maximum number of threads of the pool.
+   * @return the new pool.
+   */
+  public static ExecutorService newBoundedPool(String name, int maxThreads) {
+    return newBoundedPool(name, maxThreads, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Same as {@link #newBoundedPool(String, int)}, at most {@code queueCapacity} tasks waiting in the queue. Further
+   * tasks are rejected with a {@link java.util.concurrent.RejectedExecutionException}.
+   *
+   * @param name          the prefix of the pool thread names.
+   * @param maxThreads    the maximum number of threads of the pool.
+   * @param queueCapacity the maximum number of tasks waiting for a thread.
+   * @return the new pool.
+   */
+  public static ExecutorService newBoundedPool(String name, int maxThreads, int queueCapacity) {
+    if (maxThreads <= 0) {
+      throw new IllegalArgumentException("The maximum number of threads must be positive, got " + maxThreads);
+    }
+    if (queueCapacity <= 0) {
+      throw new IllegalArgumentException("The queue capacity must be positive, got " + queueCapacity);
+    }
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, KEEP_ALIVE_SECONDS,
+        TimeUnit.SECONDS, new LinkedBlockingQueue<>(queueCapacity), threadFactory(name));
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private static ThreadFactory threadFactory(String name) {
+    final AtomicInteger threadCount = new AtomicInteger();
+    return runnable -> {
+      final Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
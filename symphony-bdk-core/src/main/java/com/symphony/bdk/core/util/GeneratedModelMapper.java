@@ -0,0 +1,35 @@
+package com.symphony.bdk.core.util;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apiguardian.api.API;
+
+/**
+ * Jackson configuration of the generated models, the same as the one of the api clients, for the core services reading
+ * the models outside of an api client.
+ */
+@API(status = API.Status.INTERNAL)
+public final class GeneratedModelMapper {
+
+  private GeneratedModelMapper() {
+    // to avoid instantiation
+  }
+
+  /**
+   * @return a new {@link ObjectMapper} configured to (de)serialize the generated models.
+   */
+  public static ObjectMapper newObjectMapper() {
+    final ObjectMapper mapper = new ObjectMapper();
+    mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    mapper.configure(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE, false);
+    mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    mapper.enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
+    mapper.enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING);
+    mapper.registerModule(new JavaTimeModule());
+    return mapper;
+  }
+}
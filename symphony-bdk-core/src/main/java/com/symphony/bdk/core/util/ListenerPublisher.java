@@ -0,0 +1,51 @@
+package com.symphony.bdk.core.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Notifies a list of listeners that can be registered and removed at any time. A failing listener does not prevent
+ * the others from being notified, its failure is only logged at debug level.
+ *
+ * @param <L> the type of the listeners.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+public class ListenerPublisher<L> {
+
+  private final List<L> listeners = new CopyOnWriteArrayList<>();
+
+  public void add(L listener) {
+    this.listeners.add(listener);
+  }
+
+  public void remove(L listener) {
+    this.listeners.remove(listener);
+  }
+
+  /**
+   * @return true if at least one listener is registered.
+   */
+  public boolean isEnabled() {
+    return !this.listeners.isEmpty();
+  }
+
+  /**
+   * Notifies each registered listener, in their registration order.
+   *
+   * @param notification the notification to send to a listener.
+   */
+  public void publish(Consumer<L> notification) {
+    for (L listener : this.listeners) {
+      try {
+        notification.accept(listener);
+      } catch (Exception e) {
+        log.debug("Listener {} failed", listener, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.symphony.bdk.core.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Gives access to the virtual threads of JDK 21+ while keeping the BDK compatible with Java 8: the JDK methods are
+ * looked up by reflection, nothing is available when running on an older JVM.
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public final class VirtualThreads {
+
+  private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = lookupNewVirtualThreadPerTaskExecutor();
+
+  private VirtualThreads() {
+    // to avoid instantiation
+  }
+
+  /**
+   * @return true if the running JVM supports virtual threads.
+   */
+  public static boolean isSupported() {
+    return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+  }
+
+  /**
+   * Creates an executor starting a new virtual thread for each task, i.e.
+   * {@code Executors.newVirtualThreadPerTaskExecutor()}.
+   *
+   * @return the executor, empty if the running JVM does not support virtual threads.
+   */
+  public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+    if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of((ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null));
+    } catch (ReflectiveOperationException e) {
+      log.warn("Failed to create a virtual thread per task executor", e);
+      return Optional.empty();
+    }
+  }
+
+  private static Method lookupNewVirtualThreadPerTaskExecutor() {
+    try {
+      return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+}
@@ -1,14 +1,26 @@
 package com.symphony.bdk.core.activity;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.symphony.bdk.core.activity.form.FormReplyContext;
 import com.symphony.bdk.core.activity.form.TestFormReplyActivity;
 import com.symphony.bdk.core.service.datafeed.EventException;
 import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Stream;
 import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
+import com.symphony.bdk.gen.api.model.V4User;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
 /**
  * Test class for the {@link AbstractActivity}.
  */
@@ -85,4 +97,97 @@ class AbstractActivityTest {
     assertThrows(EventException.class,
         () -> act.processEvent(new V4Initiator(), new V4SymphonyElementsAction()));
   }
+
+  @Test
+  void shouldCreateContextWithResolvedConstructor() {
+
+    final List<FormReplyContext> contexts = new ArrayList<>();
+    final TestFormReplyActivity act = new TestFormReplyActivity();
+    act.setOnActivity(contexts::add);
+    final V4Initiator initiator = new V4Initiator();
+    final V4SymphonyElementsAction event = new V4SymphonyElementsAction();
+
+    act.processEvent(initiator, event);
+    act.processEvent(initiator, event);
+
+    assertEquals(2, contexts.size());
+    assertSame(initiator, contexts.get(0).getInitiator());
+    assertSame(event, contexts.get(1).getSourceEvent());
+  }
+
+  @Test
+  void shouldResolveContextFactoryOnce() {
+
+    final AtomicInteger resolutions = new AtomicInteger();
+    final TestFormReplyActivity act = new TestFormReplyActivity() {
+      @Override
+      protected BiFunction<V4Initiator, V4SymphonyElementsAction, FormReplyContext> contextFactory() {
+        resolutions.incrementAndGet();
+        return FormReplyContext::new;
+      }
+    };
+
+    act.initContextFactory();
+    act.processEvent(new V4Initiator(), new V4SymphonyElementsAction());
+    act.processEvent(new V4Initiator(), new V4SymphonyElementsAction());
+
+    assertEquals(1, resolutions.get());
+  }
+
+  @Test
+  void shouldExecuteActivityWithPolicy() {
+
+    final List<Runnable> submitted = new ArrayList<>();
+    final List<FormReplyContext> contexts = new ArrayList<>();
+    final TestFormReplyActivity act = new TestFormReplyActivity();
+    act.setOnActivity(contexts::add);
+    act.setExecutionPolicy(ActivityExecutionPolicy.async(submitted::add));
+
+    act.processEvent(new V4Initiator(), new V4SymphonyElementsAction());
+    assertTrue(contexts.isEmpty());
+
+    submitted.forEach(Runnable::run);
+    assertEquals(1, contexts.size());
+  }
+
+  @Test
+  void shouldNotFailOnAsyncActivityExecutionError() {
+
+    final TestFormReplyActivity act = new TestFormReplyActivity();
+    act.setOnActivity(c -> {
+      throw new EventException("Error while executing onActivity.");
+    });
+    act.setExecutionPolicy(ActivityExecutionPolicy.async(Runnable::run));
+
+    act.processEvent(new V4Initiator(), new V4SymphonyElementsAction());
+    // events cannot be re-queued by asynchronous activities, it should not fail
+  }
+
+  @Test
+  void shouldKeepConversationStateBetweenEvents() {
+
+    final List<String> states = new ArrayList<>();
+    final TestFormReplyActivity act = new TestFormReplyActivity();
+    act.setConversationStore(new InMemoryConversationStore());
+    act.setOnActivity(c -> {
+      final Conversation conversation = c.getConversation();
+      states.add(conversation.getState(String.class).orElse("none"));
+      conversation.setState("confirm");
+    });
+
+    final V4Initiator initiator = new V4Initiator().user(new V4User().userId(1L));
+    act.processEvent(initiator, new V4SymphonyElementsAction().stream(new V4Stream().streamId("stream")));
+    act.processEvent(initiator, new V4SymphonyElementsAction().stream(new V4Stream().streamId("stream")));
+
+    assertEquals(Arrays.asList("none", "confirm"), states);
+  }
+
+  @Test
+  void shouldFailToGetConversationOfUnregisteredActivity() {
+
+    final FormReplyContext context = new FormReplyContext(new V4Initiator().user(new V4User().userId(1L)),
+        new V4SymphonyElementsAction().stream(new V4Stream().streamId("stream")));
+
+    assertThrows(IllegalStateException.class, context::getConversation);
+  }
 }
@@ -0,0 +1,123 @@
+package com.symphony.bdk.core.activity;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.symphony.bdk.core.activity.form.TestFormReplyActivity;
+import com.symphony.bdk.core.activity.model.ActivityInfo;
+import com.symphony.bdk.core.service.datafeed.EventException;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for the {@link ActivityMetrics}.
+ */
+class ActivityMetricsTest {
+
+  @Test
+  void shouldRecordMatchingAndExecutions() {
+
+    final TestFormReplyActivity act = new TestFormReplyActivity();
+    act.setMatcher(c -> "form".equals(c.getFormId()));
+    act.setOnActivity(c -> {
+      if (c.getFormValue("fail") != null) {
+        throw new IllegalStateException("failure");
+      }
+    });
+
+    act.processEvent(new V4Initiator(), new V4SymphonyElementsAction().formId("form"));
+    act.processEvent(new V4Initiator(), new V4SymphonyElementsAction().formId("form")
+        .formValues(Collections.singletonMap("fail", "true")));
+    act.processEvent(new V4Initiator(), new V4SymphonyElementsAction().formId("other"));
+    act.processEvent(new V4Initiator(), new V4SymphonyElementsAction().formId("other"));
+
+    final ActivityMetrics metrics = act.getMetrics();
+    assertEquals(4, metrics.getEvents());
+    assertEquals(2, metrics.getMatches());
+    assertEquals(0.5, metrics.getMatchRate());
+    assertEquals(2, metrics.getExecutions());
+    assertEquals(1, metrics.getFailures());
+    assertEquals(0, metrics.getRunning());
+    assertEquals(1, metrics.getMaxRunning());
+    assertEquals(2, Arrays.stream(metrics.getLatencyHistogram()).sum());
+  }
+
+  @Test
+  void shouldRecordLatencyBuckets() {
+
+    final ActivityMetrics metrics = new ActivityMetrics(ActivityInfo::new);
+    metrics.recordExecutionStart();
+    metrics.recordExecutionEnd(TimeUnit.MILLISECONDS.toNanos(3), false);
+    metrics.recordExecutionStart();
+    metrics.recordExecutionEnd(TimeUnit.SECONDS.toNanos(60), true);
+
+    final long[] expected = new long[ActivityMetrics.getLatencyBucketsMillis().length + 1];
+    expected[2] = 1;
+    expected[expected.length - 1] = 1;
+    assertArrayEquals(expected, metrics.getLatencyHistogram());
+    assertEquals(Duration.ofSeconds(60), metrics.getMaxLatency());
+    assertEquals(Duration.ofNanos((TimeUnit.MILLISECONDS.toNanos(3) + TimeUnit.SECONDS.toNanos(60)) / 2),
+        metrics.getMeanLatency());
+  }
+
+  @Test
+  void shouldNotifyMetricsListener() {
+
+    final List<String> notified = new ArrayList<>();
+    final ActivityMetricsPublisher publisher = new ActivityMetricsPublisher();
+    publisher.setSlowThreshold(Duration.ZERO);
+    publisher.add(new ActivityMetricsListener() {
+      @Override
+      public void onMatched(ActivityInfo activity, boolean matched, Duration matchingTime) {
+        notified.add("matched:" + matched);
+      }
+
+      @Override
+      public void onExecuted(ActivityInfo activity, Duration latency, Throwable failure) {
+        notified.add("executed:" + (failure != null));
+      }
+
+      @Override
+      public void onSlowExecution(ActivityInfo activity, Duration latency) {
+        notified.add("slow");
+      }
+    });
+    // a failing listener does not prevent the others from being notified
+    publisher.add(new ActivityMetricsListener() {
+      @Override
+      public void onMatched(ActivityInfo activity, boolean matched, Duration matchingTime) {
+        throw new IllegalStateException("failure");
+      }
+    });
+
+    final TestFormReplyActivity act = new TestFormReplyActivity();
+    act.setMetricsListener(publisher);
+    act.setOnActivity(c -> {
+      throw new EventException("failure");
+    });
+
+    assertThrows(EventException.class, () -> act.processEvent(new V4Initiator(), new V4SymphonyElementsAction()));
+    assertEquals(3, notified.size());
+    assertEquals("matched:true", notified.get(0));
+    assertEquals("executed:true", notified.get(1));
+    assertEquals("slow", notified.get(2));
+  }
+
+  @Test
+  void shouldReturnZeroWithoutEvents() {
+    final ActivityMetrics metrics = new ActivityMetrics(ActivityInfo::new);
+
+    assertEquals(0, metrics.getMatchRate());
+    assertEquals(Duration.ZERO, metrics.getMeanLatency());
+  }
+}
@@ -0,0 +1,152 @@
+package com.symphony.bdk.core.activity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.symphony.bdk.core.activity.command.CommandContext;
+import com.symphony.bdk.core.activity.form.TestFormReplyActivity;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Stream;
+import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
+import com.symphony.bdk.gen.api.model.V4User;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test class for the {@link ActivityRateLimiter}.
+ */
+class ActivityRateLimiterTest {
+
+  private final AtomicLong now = new AtomicLong(-TimeUnit.SECONDS.toNanos(100));
+
+  @Test
+  void testInvalidLimit() {
+    assertThrows(IllegalArgumentException.class,
+        () -> ActivityRateLimiter.builder().perUser(0, Duration.ofSeconds(1)));
+    assertThrows(IllegalArgumentException.class,
+        () -> ActivityRateLimiter.builder().perUser(1, Duration.ZERO));
+  }
+
+  @Test
+  void testPerUserBurstAndRefill() {
+    final List<Object> rejected = new ArrayList<>();
+    final ActivityRateLimiter limiter = ActivityRateLimiter.builder()
+        .perUser(2, Duration.ofSeconds(10))
+        .onRejected(c -> rejected.add(c.getInitiator().getUser().getUserId()))
+        .nanoClock(this.now::get)
+        .build();
+
+    assertTrue(limiter.tryAcquire(context(1L, "stream")));
+    assertTrue(limiter.tryAcquire(context(1L, "stream")));
+    assertFalse(limiter.tryAcquire(context(1L, "stream")));
+    // other users have their own bucket
+    assertTrue(limiter.tryAcquire(context(2L, "stream")));
+
+    // a token is refilled every 5 seconds
+    this.now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+    assertTrue(limiter.tryAcquire(context(1L, "stream")));
+    assertFalse(limiter.tryAcquire(context(1L, "stream")));
+
+    // the bucket does not hold more than the burst
+    this.now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+    assertTrue(limiter.tryAcquire(context(1L, "stream")));
+    assertTrue(limiter.tryAcquire(context(1L, "stream")));
+    assertFalse(limiter.tryAcquire(context(1L, "stream")));
+
+    assertEquals(3, rejected.size());
+  }
+
+  @Test
+  void testPerUserAndPerStream() {
+    final ActivityRateLimiter limiter = ActivityRateLimiter.builder()
+        .perUser(10, Duration.ofSeconds(10))
+        .perStream(1, Duration.ofSeconds(10))
+        .nanoClock(this.now::get)
+        .build();
+
+    assertTrue(limiter.tryAcquire(context(1L, "stream")));
+    assertFalse(limiter.tryAcquire(context(2L, "stream")));
+    assertTrue(limiter.tryAcquire(context(2L, "other-stream")));
+  }
+
+  @Test
+  void testFullBucketsEvicted() {
+    final ActivityRateLimiter limiter = ActivityRateLimiter.builder()
+        .perUser(1, Duration.ofSeconds(10))
+        .nanoClock(this.now::get)
+        .build();
+
+    for (long userId = 0; userId < 10_000; userId++) {
+      assertTrue(limiter.tryAcquire(context(userId, "stream")));
+    }
+    assertEquals(10_000, limiter.getTrackedKeys());
+
+    // the buckets are full again, the next new key evicts them
+    this.now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+    assertTrue(limiter.tryAcquire(context(10_000L, "stream")));
+    assertEquals(1, limiter.getTrackedKeys());
+  }
+
+  @Test
+  void testTrackedKeysCapped() {
+    final ActivityRateLimiter limiter = ActivityRateLimiter.builder()
+        .perUser(1, Duration.ofHours(1))
+        .nanoClock(this.now::get)
+        .build();
+
+    // none of the buckets is full again, arbitrary ones are evicted past the cap
+    for (long userId = 0; userId < 250_000; userId++) {
+      assertTrue(limiter.tryAcquire(context(userId, "stream")));
+    }
+    assertTrue(limiter.getTrackedKeys() <= 100_000);
+    assertFalse(limiter.tryAcquire(context(249_999L, "stream")));
+  }
+
+  @Test
+  void testContextWithoutKeyNotLimited() {
+    final ActivityRateLimiter limiter = ActivityRateLimiter.builder()
+        .perUser(1, Duration.ofSeconds(10))
+        .build();
+
+    final CommandContext context = new CommandContext(new V4Initiator(),
+        new V4MessageSent().message(new V4Message().stream(new V4Stream())));
+    assertTrue(limiter.tryAcquire(context));
+    assertTrue(limiter.tryAcquire(context));
+  }
+
+  @Test
+  void testRejectedActivityNotExecuted() {
+    final AtomicInteger executions = new AtomicInteger();
+    final TestFormReplyActivity act = new TestFormReplyActivity();
+    act.setOnActivity(c -> executions.incrementAndGet());
+    act.setRateLimiter(ActivityRateLimiter.builder()
+        .perStream(1, Duration.ofMinutes(1))
+        .onRejected(c -> {
+          throw new IllegalStateException("failure");
+        })
+        .build());
+
+    final V4Initiator initiator = new V4Initiator();
+    act.processEvent(initiator, new V4SymphonyElementsAction().stream(new V4Stream().streamId("stream")));
+    act.processEvent(initiator, new V4SymphonyElementsAction().stream(new V4Stream().streamId("stream")));
+
+    assertEquals(1, executions.get());
+    assertEquals(1, act.getMetrics().getRejections());
+  }
+
+  private static CommandContext context(long userId, String streamId) {
+    return new CommandContext(new V4Initiator().user(new V4User().userId(userId)),
+        new V4MessageSent().message(new V4Message().stream(new V4Stream().streamId(streamId))));
+  }
+}
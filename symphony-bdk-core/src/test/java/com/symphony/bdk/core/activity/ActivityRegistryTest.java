@@ -1,6 +1,7 @@
 package com.symphony.bdk.core.activity;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
@@ -12,19 +13,27 @@ import com.symphony.bdk.core.activity.command.CommandActivity;
 import com.symphony.bdk.core.activity.command.CommandContext;
 import com.symphony.bdk.core.activity.command.HelpCommand;
 import com.symphony.bdk.core.activity.command.SlashCommand;
+import com.symphony.bdk.core.activity.form.TestFormReplyActivity;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.message.MessageService;
 import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Stream;
+import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 /**
@@ -122,7 +131,8 @@ class ActivityRegistryTest {
     this.registry.register(actMentionRequired);
     this.registry.register(actMentionNotRequired);
 
-    verify(this.datafeedService, times(2)).subscribe(any(RealTimeEventListener.class));
+    // slash commands are routed by a single listener
+    verify(this.datafeedService, times(1)).subscribe(any(RealTimeEventListener.class));
     verify(this.datafeedService, never()).unsubscribe(any(RealTimeEventListener.class));
 
     assertEquals(2, this.registry.getActivityList().size(), "Both activities must have been registered");
@@ -141,10 +151,72 @@ class ActivityRegistryTest {
     this.registry.register(actMentionRequired);
     this.registry.register(actMentionNotRequired);
 
-    verify(this.datafeedService, times(2)).subscribe(any(RealTimeEventListener.class));
-    verify(this.datafeedService, times(1)).unsubscribe(any(RealTimeEventListener.class));
+    // slash commands are routed by a single listener, replaced command is only removed from the router
+    verify(this.datafeedService, times(1)).subscribe(any(RealTimeEventListener.class));
+    verify(this.datafeedService, never()).unsubscribe(any(RealTimeEventListener.class));
 
     assertEquals(1, this.registry.getActivityList().size(), "Only one activities must have been registered");
+    assertEquals(actMentionNotRequired, this.registry.getActivityList().get(0));
+  }
+
+  @Test
+  void shouldRouteMessageToSingleSlashCommand() {
+    final ArgumentCaptor<RealTimeEventListener> router = ArgumentCaptor.forClass(RealTimeEventListener.class);
+    final AtomicInteger helloCalls = new AtomicInteger();
+    final AtomicInteger byeCalls = new AtomicInteger();
+
+    this.registry.register(SlashCommand.slash("/hello", true, c -> helloCalls.incrementAndGet()));
+    this.registry.register(SlashCommand.slash("/bye", false, c -> byeCalls.incrementAndGet()));
+    verify(this.datafeedService).subscribe(router.capture());
+
+    final String mention = "@" + this.botSession.getDisplayName() + " ";
+    router.getValue().onMessageSent(new V4Initiator(), messageSent("m1", mention + "/hello"));
+    router.getValue().onMessageSent(new V4Initiator(), messageSent("m2", "/hello"));
+    router.getValue().onMessageSent(new V4Initiator(), messageSent("m3", "/bye"));
+
+    assertEquals(1, helloCalls.get());
+    assertEquals(1, byeCalls.get());
+  }
+
+  @Test
+  void shouldRouteFormReplyByFormId() {
+    final ArgumentCaptor<RealTimeEventListener> router = ArgumentCaptor.forClass(RealTimeEventListener.class);
+    final AtomicInteger formCalls = new AtomicInteger();
+    final AtomicInteger otherFormCalls = new AtomicInteger();
+
+    final TestFormReplyActivity form = new TestFormReplyActivity();
+    form.setFormId("form");
+    form.setOnActivity(c -> formCalls.incrementAndGet());
+    final TestFormReplyActivity otherForm = new TestFormReplyActivity();
+    otherForm.setFormId("other-form");
+    otherForm.setOnActivity(c -> otherFormCalls.incrementAndGet());
+
+    this.registry.register(form);
+    this.registry.register(otherForm);
+    verify(this.datafeedService).subscribe(router.capture());
+
+    router.getValue().onSymphonyElementsAction(new V4Initiator(), new V4SymphonyElementsAction().formId("form"));
+    router.getValue().onSymphonyElementsAction(new V4Initiator(), new V4SymphonyElementsAction().formId("unknown"));
+
+    assertEquals(1, formCalls.get());
+    assertEquals(0, otherFormCalls.get());
+  }
+
+  @Test
+  void shouldReturnMetricsOfRegisteredActivities() {
+    final TestCommandActivity act = new TestCommandActivity("test");
+    this.registry.register(act);
+
+    assertEquals(1, this.registry.getMetrics().size());
+    assertSame(this.registry.getMetrics(act), this.registry.getMetrics().get(0));
+    assertEquals("test", this.registry.getMetrics().get(0).getActivityInfo().name());
+  }
+
+  private static V4MessageSent messageSent(String messageId, String text) {
+    return new V4MessageSent().message(new V4Message()
+        .messageId(messageId)
+        .message("<div><p>" + text + "</p></div>")
+        .stream(new V4Stream().streamId("stream-id")));
   }
 
 }
@@ -0,0 +1,182 @@
+package com.symphony.bdk.core.activity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.symphony.bdk.core.activity.command.CommandContext;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Stream;
+import com.symphony.bdk.gen.api.model.V4User;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Test class for the {@link AsyncExecutionPolicy}.
+ */
+class AsyncExecutionPolicyTest {
+
+  // runs the submitted tasks when asked to only
+  private final Queue<Runnable> submitted = new LinkedList<>();
+  private final Executor executor = this.submitted::add;
+
+  @Test
+  void testInvalidMaxConcurrency() {
+    assertThrows(IllegalArgumentException.class, () -> ActivityExecutionPolicy.bounded(this.executor, 0));
+  }
+
+  @Test
+  void testAsync() {
+    final List<String> executed = new ArrayList<>();
+    final ActivityExecutionPolicy policy = ActivityExecutionPolicy.async(this.executor);
+
+    policy.execute(context(1L, "stream"), () -> executed.add("first"));
+    policy.execute(context(1L, "stream"), () -> executed.add("second"));
+
+    assertTrue(executed.isEmpty());
+    assertEquals(2, this.submitted.size());
+    this.runSubmitted();
+    assertEquals(Arrays.asList("first", "second"), executed);
+  }
+
+  @Test
+  void testBoundedConcurrency() {
+    final List<String> executed = new ArrayList<>();
+    final AsyncExecutionPolicy policy = (AsyncExecutionPolicy) ActivityExecutionPolicy.bounded(this.executor, 2);
+
+    for (int i = 0; i < 5; i++) {
+      final String name = "task-" + i;
+      policy.execute(context(1L, "stream"), () -> executed.add(name));
+    }
+
+    assertEquals(2, this.submitted.size());
+    assertEquals(2, policy.getRunning());
+    assertEquals(3, policy.getQueued());
+
+    this.runSubmitted();
+    assertEquals(Arrays.asList("task-0", "task-1", "task-2", "task-3", "task-4"), executed);
+    assertEquals(0, policy.getRunning());
+    assertEquals(0, policy.getQueued());
+  }
+
+  @Test
+  void testSerializedByKey() {
+    final List<String> executed = new ArrayList<>();
+    final AsyncExecutionPolicy policy = (AsyncExecutionPolicy) ActivityExecutionPolicy.bounded(this.executor, 10,
+        ActivityExecutionPolicy.byInitiator());
+
+    policy.execute(context(1L, "stream"), () -> executed.add("user1-first"));
+    policy.execute(context(1L, "stream"), () -> executed.add("user1-second"));
+    policy.execute(context(2L, "stream"), () -> executed.add("user2"));
+
+    // the second execution of user 1 waits for the first one
+    assertEquals(2, this.submitted.size());
+    assertEquals(1, policy.getQueued());
+
+    this.submitted.poll().run();
+    assertEquals(Arrays.asList("user1-first"), executed);
+    assertEquals(2, this.submitted.size());
+
+    this.runSubmitted();
+    assertEquals(Arrays.asList("user1-first", "user2", "user1-second"), executed);
+    assertEquals(0, policy.getRunning());
+  }
+
+  @Test
+  void testFailureDoesNotBlockNextExecutions() {
+    final List<String> executed = new ArrayList<>();
+    final ActivityExecutionPolicy policy = ActivityExecutionPolicy.bounded(this.executor, 1,
+        ActivityExecutionPolicy.byStream());
+
+    policy.execute(context(1L, "stream"), () -> {
+      throw new IllegalStateException("failure");
+    });
+    policy.execute(context(2L, "stream"), () -> executed.add("next"));
+
+    this.runSubmitted();
+    assertEquals(Arrays.asList("next"), executed);
+  }
+
+  @Test
+  void testRejectedExecutionsDropped() {
+    final List<String> executed = new ArrayList<>();
+    final AtomicBoolean shutDown = new AtomicBoolean();
+    final AsyncExecutionPolicy policy = new AsyncExecutionPolicy(task -> {
+      if (shutDown.get()) {
+        throw new RejectedExecutionException("shut down");
+      }
+      this.submitted.add(task);
+    }, 1, null);
+
+    policy.execute(context(1L, "stream"), () -> executed.add("first"));
+    for (int i = 0; i < 10_000; i++) {
+      policy.execute(context(1L, "stream"), () -> executed.add("queued"));
+    }
+    shutDown.set(true);
+
+    // the queued executions are dropped one after the other, neither run on the calling thread nor recursively
+    this.runSubmitted();
+    assertEquals(Arrays.asList("first"), executed);
+    assertEquals(0, policy.getRunning());
+    assertEquals(0, policy.getQueued());
+
+    policy.execute(context(1L, "stream"), () -> executed.add("rejected"));
+    assertEquals(Arrays.asList("first"), executed);
+    assertEquals(0, policy.getRunning());
+  }
+
+  @Test
+  void testExecutionsAboveMaxQueuedDropped() {
+    final List<String> executed = new ArrayList<>();
+    final AsyncExecutionPolicy policy = (AsyncExecutionPolicy) ActivityExecutionPolicy.bounded(this.executor, 1,
+        ActivityExecutionPolicy.byInitiator(), 2);
+
+    policy.execute(context(1L, "stream"), () -> executed.add("running"));
+    policy.execute(context(1L, "stream"), () -> executed.add("waiting-for-key"));
+    policy.execute(context(2L, "stream"), () -> executed.add("waiting-for-slot"));
+    policy.execute(context(3L, "stream"), () -> executed.add("dropped"));
+    policy.execute(context(1L, "stream"), () -> executed.add("dropped"));
+
+    assertEquals(2, policy.getQueued());
+    this.runSubmitted();
+    assertEquals(Arrays.asList("running", "waiting-for-slot", "waiting-for-key"), executed);
+    assertEquals(0, policy.getQueued());
+    assertEquals(0, policy.getRunning());
+  }
+
+  @Test
+  void testInvalidMaxQueued() {
+    assertThrows(IllegalArgumentException.class,
+        () -> ActivityExecutionPolicy.bounded(this.executor, 1, null, 0));
+  }
+
+  @Test
+  void testSerializationKeys() {
+    final CommandContext context = context(1L, "stream-id");
+
+    assertEquals(1L, ActivityExecutionPolicy.byInitiator().apply(context));
+    assertEquals("stream-id", ActivityExecutionPolicy.byStream().apply(context));
+  }
+
+  private void runSubmitted() {
+    while (!this.submitted.isEmpty()) {
+      this.submitted.poll().run();
+    }
+  }
+
+  private static CommandContext context(long userId, String streamId) {
+    return new CommandContext(new V4Initiator().user(new V4User().userId(userId)),
+        new V4MessageSent().message(new V4Message().stream(new V4Stream().streamId(streamId))));
+  }
+}
@@ -0,0 +1,79 @@
+package com.symphony.bdk.core.activity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test class for the {@link InMemoryConversationStore}.
+ */
+class InMemoryConversationStoreTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  @Test
+  void testInvalidConfiguration() {
+    assertThrows(IllegalArgumentException.class, () -> new InMemoryConversationStore(Duration.ZERO, 10));
+    assertThrows(IllegalArgumentException.class, () -> new InMemoryConversationStore(Duration.ofMinutes(1), 0));
+  }
+
+  @Test
+  void testKeyedByStreamAndUser() {
+    final InMemoryConversationStore store = new InMemoryConversationStore();
+
+    store.put("stream", 1L, "step-1");
+    store.put("stream", 2L, "step-2");
+
+    assertEquals(Optional.of("step-1"), store.get("stream", 1L));
+    assertEquals(Optional.of("step-2"), store.get("stream", 2L));
+    assertFalse(store.get("other-stream", 1L).isPresent());
+
+    store.remove("stream", 1L);
+    assertFalse(store.get("stream", 1L).isPresent());
+  }
+
+  @Test
+  void testExpiredAfterTimeToLive() {
+    final InMemoryConversationStore store = this.store(Duration.ofMinutes(10), 100);
+
+    store.put("stream", 1L, "abandoned");
+    this.now.addAndGet(TimeUnit.MINUTES.toNanos(6));
+    store.put("stream", 2L, "active");
+    this.now.addAndGet(TimeUnit.MINUTES.toNanos(6));
+
+    // accessing a conversation keeps it alive
+    assertEquals(Optional.of("active"), store.get("stream", 2L));
+    this.now.addAndGet(TimeUnit.MINUTES.toNanos(6));
+    store.put("stream", 3L, "new");
+
+    // the abandoned conversation has been evicted when storing the new one
+    assertEquals(2, store.size());
+    assertFalse(store.get("stream", 1L).isPresent());
+    assertEquals(Optional.of("active"), store.get("stream", 2L));
+  }
+
+  @Test
+  void testLeastRecentlyAccessedEvicted() {
+    final InMemoryConversationStore store = this.store(Duration.ofMinutes(10), 2);
+
+    store.put("stream", 1L, "first");
+    store.put("stream", 2L, "second");
+    store.get("stream", 1L);
+    store.put("stream", 3L, "third");
+
+    assertEquals(2, store.size());
+    assertFalse(store.get("stream", 2L).isPresent());
+    assertEquals(Optional.of("first"), store.get("stream", 1L));
+  }
+
+  private InMemoryConversationStore store(Duration timeToLive, int maxSize) {
+    return new InMemoryConversationStore(timeToLive, maxSize, this.now::get);
+  }
+}
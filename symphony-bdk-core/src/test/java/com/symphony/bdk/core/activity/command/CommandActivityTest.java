@@ -3,6 +3,7 @@ package com.symphony.bdk.core.activity.command;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -61,6 +62,23 @@ class CommandActivityTest {
     assertEquals( "hello world", context.getTextContent());
   }
 
+  @Test
+  void testBeforeMatcherSharesParsedMessage() {
+    final ParsedMessageCache cache = new ParsedMessageCache();
+    final TestCommandActivity other = new TestCommandActivity("other");
+    act.setParsedMessageCache(cache);
+    other.setParsedMessageCache(cache);
+    final CommandContext context = createContext();
+    context.getSourceEvent().getMessage().messageId("m1").setMessage("<div><p><span>hello world</span></p></div>");
+    final CommandContext otherContext = new CommandContext(context.getInitiator(), context.getSourceEvent());
+
+    act.beforeMatcher(context);
+    other.beforeMatcher(otherContext);
+
+    assertEquals("hello world", otherContext.getTextContent());
+    assertSame(context.getParsedMessage(), otherContext.getParsedMessage());
+  }
+
   @Test
   void testBeforeMatcherWithFailure() {
     final CommandContext context = createContext();
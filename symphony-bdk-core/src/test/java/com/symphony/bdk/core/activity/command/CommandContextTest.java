@@ -10,6 +10,7 @@ import com.symphony.bdk.gen.api.model.V4Stream;
 import org.junit.jupiter.api.Test;
 
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 /**
  * Test class for the {@link CommandContext}.
@@ -32,4 +33,20 @@ class CommandContextTest {
     assertEquals(streamId, commandContext.getStreamId(), "Wrong streamId");
     assertEquals(messageId, commandContext.getMessageId(), "Wrong messageId");
   }
+
+  @Test
+  void testPatternMatchReusedForSameTextContent() {
+    final CommandContext commandContext = new CommandContext(new V4Initiator(),
+        new V4MessageSent().message(new V4Message().stream(new V4Stream())));
+    final Pattern pattern = Pattern.compile("^/test$");
+    commandContext.setTextContent("/test");
+
+    assertNull(commandContext.getPatternMatch(pattern));
+    commandContext.setPatternMatch(pattern, true);
+    assertTrue(commandContext.getPatternMatch(pattern));
+    assertNull(commandContext.getPatternMatch(Pattern.compile("^/test$")));
+
+    commandContext.setTextContent("/other");
+    assertNull(commandContext.getPatternMatch(pattern));
+  }
 }
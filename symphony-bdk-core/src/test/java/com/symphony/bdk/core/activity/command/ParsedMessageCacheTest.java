@@ -0,0 +1,111 @@
+package com.symphony.bdk.core.activity.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.symphony.bdk.core.service.message.exception.MessageParserException;
+import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
+import com.symphony.bdk.core.test.JsonHelper;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Test class for the {@link ParsedMessageCache} and the {@link ParsedMessage}.
+ */
+class ParsedMessageCacheTest {
+
+  @Test
+  void testSameEventIsParsedOnce() {
+    final ParsedMessageCache cache = new ParsedMessageCache();
+    final V4MessageSent event = messageSent("m1", "<div><p>hello</p></div>");
+
+    assertSame(cache.get(event), cache.get(event));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void testReDeliveredEventIsParsedAgain() {
+    final ParsedMessageCache cache = new ParsedMessageCache();
+
+    final ParsedMessage first = cache.get(messageSent("m1", "<div><p>hello</p></div>"));
+    final ParsedMessage second = cache.get(messageSent("m1", "<div><p>hello</p></div>"));
+
+    assertNotSame(first, second);
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void testMessageWithoutIdIsNotCached() {
+    final ParsedMessageCache cache = new ParsedMessageCache();
+    final V4MessageSent event = messageSent(null, "<div><p>hello</p></div>");
+
+    assertNotSame(cache.get(event), cache.get(event));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testLeastRecentlyUsedMessageIsEvicted() {
+    final ParsedMessageCache cache = new ParsedMessageCache(2);
+    final V4MessageSent first = messageSent("m1", "<div><p>one</p></div>");
+    final ParsedMessage parsedFirst = cache.get(first);
+    cache.get(messageSent("m2", "<div><p>two</p></div>"));
+    cache.get(first);
+    cache.get(messageSent("m3", "<div><p>three</p></div>"));
+
+    assertEquals(2, cache.size());
+    assertSame(parsedFirst, cache.get(first));
+  }
+
+  @Test
+  void testTextContentIsParsedOnce() throws PresentationMLParserException {
+    final V4MessageSent event = messageSent("m1", "<div><p> hello world </p></div>");
+    final ParsedMessage parsedMessage = new ParsedMessage(event);
+
+    assertEquals("hello world", parsedMessage.getTextContent());
+    event.getMessage().setMessage("<div><p>changed</p></div>");
+    assertEquals("hello world", parsedMessage.getTextContent());
+  }
+
+  @Test
+  void testTextContentFailureIsKept() {
+    final ParsedMessage parsedMessage = new ParsedMessage(messageSent("m1", "<div<p>hello</p></div>"));
+
+    final PresentationMLParserException failure =
+        assertThrows(PresentationMLParserException.class, parsedMessage::getTextContent);
+    assertSame(failure, assertThrows(PresentationMLParserException.class, parsedMessage::getTextContent));
+  }
+
+  @Test
+  void testEntities() throws IOException, MessageParserException {
+    final V4MessageSent event = messageSent("m1", "<div><p>hello</p></div>");
+    event.getMessage().setData(JsonHelper.readFromClasspath("/message/message_entity_data.json"));
+    final ParsedMessage parsedMessage = new ParsedMessage(event);
+
+    assertEquals(Arrays.asList(13056700580915L, 1305690252351L), parsedMessage.getMentions());
+    assertEquals(Collections.singletonList("bot"), parsedMessage.getHashtags());
+    assertEquals(Collections.singletonList("hello"), parsedMessage.getCashtags());
+    assertSame(parsedMessage.getMentions(), parsedMessage.getMentions());
+  }
+
+  @Test
+  void testEntitiesFailureIsKept() {
+    final V4MessageSent event = messageSent("m1", "<div><p>hello</p></div>");
+    event.getMessage().setData("{invalid");
+    final ParsedMessage parsedMessage = new ParsedMessage(event);
+
+    final MessageParserException failure = assertThrows(MessageParserException.class, parsedMessage::getHashtags);
+    assertSame(failure, assertThrows(MessageParserException.class, parsedMessage::getMentions));
+  }
+
+  private static V4MessageSent messageSent(String messageId, String presentationML) {
+    return new V4MessageSent().message(new V4Message().messageId(messageId).message(presentationML));
+  }
+}
@@ -0,0 +1,110 @@
+package com.symphony.bdk.core.activity.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class for the {@link SlashCommandRouter}.
+ */
+class SlashCommandRouterTest {
+
+  private static final String BOT_NAME = "Bot Name";
+
+  private SlashCommandRouter router;
+
+  @BeforeEach
+  void setUp() {
+    this.router = new SlashCommandRouter(BOT_NAME, new ParsedMessageCache());
+  }
+
+  @Test
+  void testFindWithAndWithoutMention() {
+    final SlashCommand withMention = this.add(SlashCommand.slash("/test", true, c -> {}));
+    final SlashCommand withoutMention = this.add(SlashCommand.slash("/test", false, c -> {}));
+
+    assertEquals(withMention, this.router.find("@Bot Name /test"));
+    assertEquals(withoutMention, this.router.find("/test"));
+    assertNull(this.router.find("@Bot Name /test2"));
+    assertNull(this.router.find("/test "));
+    assertNull(this.router.find("@Other /test"));
+  }
+
+  @Test
+  void testFindMultipleWordsCommand() {
+    final SlashCommand list = this.add(SlashCommand.slash("/list", false, c -> {}));
+    final SlashCommand listAll = this.add(SlashCommand.slash("/list all", false, c -> {}));
+
+    assertEquals(list, this.router.find("/list"));
+    assertEquals(listAll, this.router.find("/list all"));
+    assertNull(this.router.find("/list  all"));
+    assertNull(this.router.find("/list all users"));
+  }
+
+  @Test
+  void testFindNotIndexedCommand() {
+    final SlashCommand echo = this.add(SlashCommand.slash("/echo .+", false, c -> {}));
+    final SlashCommand hello = this.add(SlashCommand.slash("/hello", false, c -> {}));
+
+    assertEquals(echo, this.router.find("/echo something"));
+    assertEquals(hello, this.router.find("/hello"));
+    assertNull(this.router.find("/echo"));
+  }
+
+  @Test
+  void testFindCommandWithArguments() {
+    final SlashCommand gif = this.add(SlashCommand.slash("/gif {category}", c -> {}));
+    final SlashCommand gifHelp = this.add(SlashCommand.slash("/gif help", c -> {}));
+    final SlashCommand gifSized = this.add(SlashCommand.slash("/gif {category} {size}", c -> {}));
+
+    assertEquals(gif, this.router.find("@Bot Name /gif cats"));
+    assertEquals(gifHelp, this.router.find("@Bot Name /gif help"));
+    assertEquals(gifSized, this.router.find("@Bot Name /gif help small"));
+    assertNull(this.router.find("@Bot Name /gif"));
+    assertNull(this.router.find("@Bot Name /gif  cats"));
+  }
+
+  @Test
+  void testRemove() {
+    final SlashCommand command = this.add(SlashCommand.slash("/test", false, c -> {}));
+    this.router.remove(command);
+
+    assertNull(this.router.find("/test"));
+  }
+
+  @Test
+  void testRouteToMatchingCommandOnly() {
+    final List<String> called = new ArrayList<>();
+    this.add(SlashCommand.slash("/one", false, c -> called.add("one:" + c.getTextContent())));
+    this.add(SlashCommand.slash("/two", false, c -> called.add("two:" + c.getTextContent())));
+
+    this.router.getListener().onMessageSent(new V4Initiator(), messageSent("<div><p>/two</p></div>"));
+    this.router.getListener().onMessageSent(new V4Initiator(), messageSent("<div<p>/one</p></div>"));
+
+    assertEquals(1, called.size());
+    assertEquals("two:/two", called.get(0));
+  }
+
+  private SlashCommand add(SlashCommand command) {
+    command.setBotDisplayName(BOT_NAME);
+    this.router.add(command);
+    return command;
+  }
+
+  private static V4MessageSent messageSent(String presentationML) {
+    return new V4MessageSent().message(new V4Message()
+        .messageId("message-id-" + presentationML.hashCode())
+        .message(presentationML)
+        .stream(new V4Stream().streamId("stream-id")));
+  }
+}
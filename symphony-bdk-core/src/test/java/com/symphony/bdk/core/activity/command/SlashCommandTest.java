@@ -2,6 +2,8 @@ package com.symphony.bdk.core.activity.command;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -15,9 +17,12 @@ import com.symphony.bdk.gen.api.model.V4Stream;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
 /**
  * Test class from the {@link SlashCommand}.
@@ -74,6 +79,45 @@ class SlashCommandTest {
     assertFalse(handlerCalled.get());
   }
 
+  @Test
+  void testIllegalSlashCommandWithDuplicateArgument() {
+    assertThrows(IllegalArgumentException.class, () -> SlashCommand.slash("/add {name} {name}", c -> {}));
+  }
+
+  @Test
+  void testSlashCommandWithArguments() {
+
+    final Map<String, String> arguments = new HashMap<>();
+    final Consumer<CommandContext> handler = c -> arguments.putAll(c.getArguments());
+
+    final RealTimeEventsProvider provider = new RealTimeEventsProvider();
+    final SlashCommand cmd = SlashCommand.slash("/gif {category} {size}", handler);
+    cmd.setBotDisplayName("BotMention");
+    cmd.bindToRealTimeEventsSource(provider::setListener);
+
+    provider.trigger(l -> l.onMessageSent(new V4Initiator(), createMessageSentEvent(true, "/gif cats")));
+    assertTrue(arguments.isEmpty());
+
+    provider.trigger(l -> l.onMessageSent(new V4Initiator(), createMessageSentEvent(true, "/gif cats small")));
+    assertEquals(2, arguments.size());
+    assertEquals("cats", arguments.get("category"));
+    assertEquals("small", arguments.get("size"));
+  }
+
+  @Test
+  void testPatternCompiledOncePerBotDisplayName() {
+    final SlashCommand cmd = SlashCommand.slash("/gif {category}", c -> {});
+    cmd.setBotDisplayName("BotMention");
+
+    assertSame(cmd.pattern(), cmd.pattern());
+    assertEquals("^@BotMention /gif (?<category>\\S+)$", cmd.pattern().pattern());
+
+    final Pattern previous = cmd.pattern();
+    cmd.setBotDisplayName("Other");
+    assertNotSame(previous, cmd.pattern());
+    assertTrue(cmd.pattern().matcher("@Other /gif cats").matches());
+  }
+
   @Test
   void testVerifyBotInfo() {
     final SlashCommand cmd = SlashCommand.slash("/test", c -> {});
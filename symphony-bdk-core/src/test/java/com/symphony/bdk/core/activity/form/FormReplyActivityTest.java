@@ -3,6 +3,7 @@ package com.symphony.bdk.core.activity.form;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
@@ -65,6 +66,18 @@ class FormReplyActivityTest {
     assertNull(context.getFormValue("not-existing"));
   }
 
+  @Test
+  void testFormValuesConvertedOnFirstAccess() {
+
+    final FormReplyContext context = createContext();
+    context.getSourceEvent().setFormValues(Collections.singletonMap("foo", "bar"));
+
+    act.beforeMatcher(context);
+
+    assertSame(context.getFormValues(), context.getFormValues());
+    assertEquals("bar", context.getFormValues().get("foo").asText());
+  }
+
   private static FormReplyContext createContext() {
     return new FormReplyContext(new V4Initiator(), new V4SymphonyElementsAction());
   }
@@ -0,0 +1,78 @@
+package com.symphony.bdk.core.activity.form;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test class for the {@link FormReplyRouter}.
+ */
+class FormReplyRouterTest {
+
+  private FormReplyRouter router;
+
+  @BeforeEach
+  void setUp() {
+    this.router = new FormReplyRouter();
+  }
+
+  @Test
+  void testFindByFormId() {
+    final TestFormReplyActivity first = this.add("form");
+    final TestFormReplyActivity second = this.add("form");
+    final TestFormReplyActivity other = this.add("other-form");
+
+    assertEquals(Arrays.asList(first, second), this.router.find("form"));
+    assertEquals(Collections.singletonList(other), this.router.find("other-form"));
+    assertTrue(this.router.find("unknown").isEmpty());
+    assertTrue(this.router.find(null).isEmpty());
+  }
+
+  @Test
+  void testAddNotRoutableActivity() {
+    final TestFormReplyActivity activity = new TestFormReplyActivity();
+
+    assertFalse(FormReplyRouter.isRoutable(activity));
+    assertThrows(IllegalArgumentException.class, () -> this.router.add(activity));
+  }
+
+  @Test
+  void testRemove() {
+    final TestFormReplyActivity activity = this.add("form");
+
+    assertTrue(this.router.remove(activity));
+    assertFalse(this.router.remove(activity));
+    assertTrue(this.router.find("form").isEmpty());
+  }
+
+  @Test
+  void testRouteToFormActivitiesOnly() {
+    final List<String> called = new ArrayList<>();
+    this.add("form").setOnActivity(c -> called.add("form:" + c.getFormValue("action")));
+    this.add("other-form").setOnActivity(c -> called.add("other-form"));
+
+    this.router.getListener().onSymphonyElementsAction(new V4Initiator(),
+        new V4SymphonyElementsAction().formId("form").formValues(Collections.singletonMap("action", "submit")));
+
+    assertEquals(Collections.singletonList("form:submit"), called);
+  }
+
+  private TestFormReplyActivity add(String formId) {
+    final TestFormReplyActivity activity = new TestFormReplyActivity();
+    activity.setFormId(formId);
+    this.router.add(activity);
+    return activity;
+  }
+}
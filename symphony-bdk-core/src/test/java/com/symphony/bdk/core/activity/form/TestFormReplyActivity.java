@@ -17,6 +17,12 @@ public class TestFormReplyActivity extends FormReplyActivity<FormReplyContext> {
   @Setter private Function<FormReplyContext, Boolean> matcher = c -> true;
   @Setter private Consumer<FormReplyContext> beforeMatcher = c -> {};
   @Setter private Consumer<FormReplyContext> onActivity = c -> {};
+  @Setter private String formId;
+
+  @Override
+  protected String formId() {
+    return this.formId;
+  }
 
   @Override
   protected ActivityInfo info() {
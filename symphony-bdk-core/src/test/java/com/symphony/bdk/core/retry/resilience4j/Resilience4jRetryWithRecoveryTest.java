@@ -4,6 +4,7 @@ import static com.symphony.bdk.core.test.BdkRetryConfigTestHelper.ofMinimalInter
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -28,6 +29,9 @@ import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
 import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import javax.ws.rs.ProcessingException;
 
@@ -302,4 +306,81 @@ class Resilience4jRetryWithRecoveryTest {
     assertThrows(RuntimeException.class,
         () -> Resilience4jRetryWithRecovery.executeAndRetry(new RetryWithRecoveryBuilder<String>(), "test", "serviceName", supplier));
   }
+
+  @Test
+  void testExecuteAsyncWithExceptionShouldRetry() throws Throwable {
+    String value = "string";
+
+    SupplierWithApiException<String> supplier = mock(ConcreteSupplier.class);
+    when(supplier.get())
+        .thenThrow(new ApiException(500, "error"))
+        .thenReturn(value);
+
+    Resilience4jRetryWithRecovery<String> r = new Resilience4jRetryWithRecovery<>("name", "localhost.symphony.com",
+        ofMinimalInterval(), supplier, (t) -> t instanceof ApiException && ((ApiException) t).isServerError(),
+        Collections.emptyList());
+
+    assertEquals(value, r.executeAsync(Runnable::run).get(5, TimeUnit.SECONDS));
+    verify(supplier, times(2)).get();
+  }
+
+  @Test
+  void testExecuteAsyncMaxAttemptsReachedShouldFailWithException() throws Throwable {
+    SupplierWithApiException<String> supplier = mock(ConcreteSupplier.class);
+    when(supplier.get()).thenThrow(new ApiException(400, "error"));
+
+    final BdkRetryConfig retryConfig = ofMinimalInterval();
+
+    Resilience4jRetryWithRecovery<String> r = new Resilience4jRetryWithRecovery<>("name", "localhost.symphony.com",
+        retryConfig, supplier, (t) -> true, Collections.emptyList());
+
+    ExecutionException e = assertThrows(ExecutionException.class,
+        () -> r.executeAsync(Runnable::run).get(5, TimeUnit.SECONDS));
+    assertTrue(e.getCause() instanceof ApiException);
+    verify(supplier, times(retryConfig.getMaxAttempts())).get();
+  }
+
+  @Test
+  void testExecuteAsyncShouldRunRecoveryBeforeRetrying() throws Throwable {
+    SupplierWithApiException<String> supplier = mock(ConcreteSupplier.class);
+    when(supplier.get()).thenThrow(new ApiException(401, "error")).thenReturn("");
+
+    ConsumerWithThrowable recovery = mock(ConcreteConsumer.class);
+
+    Resilience4jRetryWithRecovery<String> r = new Resilience4jRetryWithRecovery<>("name", "localhost.symphony.com",
+        ofMinimalInterval(), supplier, (t) -> true,
+        Collections.singletonList(new RecoveryStrategy(ApiException.class, ApiException::isUnauthorized, recovery)));
+
+    assertEquals("", r.executeAsync(Runnable::run).get(5, TimeUnit.SECONDS));
+
+    InOrder inOrder = inOrder(supplier, recovery);
+    inOrder.verify(supplier).get();
+    inOrder.verify(recovery).consume();
+    inOrder.verify(supplier).get();
+  }
+
+  @Test
+  void testExecuteAsyncWithRejectedExecutionShouldFail() {
+    SupplierWithApiException<String> supplier = mock(ConcreteSupplier.class);
+
+    Resilience4jRetryWithRecovery<String> r = new Resilience4jRetryWithRecovery<>("name", "localhost.symphony.com",
+        ofMinimalInterval(), supplier, RetryWithRecoveryBuilder::isNetworkOrMinorError, Collections.emptyList());
+
+    ExecutionException e = assertThrows(ExecutionException.class, () -> r.executeAsync(task -> {
+      throw new RejectedExecutionException();
+    }).get(5, TimeUnit.SECONDS));
+    assertTrue(e.getCause() instanceof RejectedExecutionException);
+    verifyNoInteractions(supplier);
+  }
+
+  @Test
+  void testExecuteAndRetryAsyncShouldWrapApiException() throws ApiException {
+    SupplierWithApiException<String> supplier = mock(ConcreteSupplier.class);
+    when(supplier.get()).thenThrow(new ApiException(400, "error"));
+
+    ExecutionException e = assertThrows(ExecutionException.class,
+        () -> Resilience4jRetryWithRecovery.executeAndRetryAsync(new RetryWithRecoveryBuilder<String>(), "test",
+            "localhost.symphony.com", supplier, Runnable::run).get(5, TimeUnit.SECONDS));
+    assertTrue(e.getCause() instanceof ApiRuntimeException);
+  }
 }
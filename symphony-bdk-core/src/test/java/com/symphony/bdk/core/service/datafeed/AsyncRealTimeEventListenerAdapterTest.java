@@ -0,0 +1,72 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+class AsyncRealTimeEventListenerAdapterTest {
+
+  @Test
+  void testSynchronousCallbackWaitsForTheAsynchronousOne() throws EventException {
+    final CompletableFuture<Void> processing = new CompletableFuture<>();
+    final AsyncRealTimeEventListenerAdapter adapter = new AsyncRealTimeEventListenerAdapter(
+        new AsyncRealTimeEventListener() {
+          @Override
+          public CompletionStage<Void> onMessageSent(V4Initiator initiator, V4MessageSent event) {
+            return processing.thenRun(() -> {});
+          }
+        });
+
+    final Thread completer = new Thread(() -> processing.complete(null));
+    completer.start();
+    adapter.onMessageSent(new V4Initiator(), new V4MessageSent());
+
+    assertTrue(processing.isDone());
+  }
+
+  @Test
+  void testSynchronousCallbackRethrowsEventException() {
+    final EventException failure = new EventException("requeue");
+    final AsyncRealTimeEventListenerAdapter adapter = new AsyncRealTimeEventListenerAdapter(
+        new AsyncRealTimeEventListener() {
+          @Override
+          public CompletionStage<Void> onMessageSent(V4Initiator initiator, V4MessageSent event) {
+            final CompletableFuture<Void> failed = new CompletableFuture<>();
+            failed.completeExceptionally(failure);
+            return failed;
+          }
+        });
+
+    assertSame(failure, assertThrows(EventException.class,
+        () -> adapter.onMessageSent(new V4Initiator(), new V4MessageSent())));
+  }
+
+  @Test
+  void testDefaultSubscriptionWrapsTheListener() {
+    final DatafeedLoop loop = mock(DatafeedLoop.class, CALLS_REAL_METHODS);
+    final AsyncRealTimeEventListener listener = new AsyncRealTimeEventListener() {};
+
+    loop.subscribe(listener);
+    loop.unsubscribe(listener);
+
+    final ArgumentCaptor<RealTimeEventListener> subscribed = ArgumentCaptor.forClass(RealTimeEventListener.class);
+    verify(loop).subscribe(subscribed.capture());
+    final ArgumentCaptor<RealTimeEventListener> unsubscribed = ArgumentCaptor.forClass(RealTimeEventListener.class);
+    verify(loop).unsubscribe(unsubscribed.capture());
+    assertEquals(new AsyncRealTimeEventListenerAdapter(listener), subscribed.getValue());
+    assertEquals(subscribed.getValue(), unsubscribed.getValue());
+  }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
@@ -26,6 +27,7 @@ import com.symphony.bdk.core.service.datafeed.DatafeedIdRepository;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.exception.NestedRetryException;
 import com.symphony.bdk.core.test.InMemoryDatafeedIdRepository;
+import com.symphony.bdk.core.util.VirtualThreads;
 import com.symphony.bdk.gen.api.DatafeedApi;
 import com.symphony.bdk.gen.api.model.Datafeed;
 import com.symphony.bdk.gen.api.model.V4ConnectionAccepted;
@@ -66,12 +68,17 @@ import java.net.SocketTimeoutException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.ws.rs.ProcessingException;
 
@@ -147,6 +154,20 @@ class DatafeedLoopV1Test {
     return Collections.singletonList(event);
   }
 
+  @Test
+  void testOwnedExecutorShutDownOnStopAndRenewedOnStart() {
+    assumeTrue(VirtualThreads.isSupported());
+    this.bdkConfig.getDatafeed().setVirtualThreads(true);
+    final DatafeedLoopV1 loop =
+        new DatafeedLoopV1(this.datafeedApi, this.authSession, this.bdkConfig, this.datafeedIdRepository);
+
+    loop.stop();
+    assertThrows(RejectedExecutionException.class, () -> loop.runAsync("task", () -> {}));
+
+    loop.renewOwnedExecutor();
+    assertTrue(loop.runAsync("task", () -> {}).thenApply(r -> true).join());
+  }
+
   @Test
   void startTest() throws ApiException, AuthUnauthorizedException {
     when(datafeedApi.v4DatafeedCreatePost("1234", "1234")).thenReturn(new Datafeed().id("test-id"));
@@ -164,6 +185,27 @@ class DatafeedLoopV1Test {
     assertEquals(DEFAULT_AGENT_BASE_PATH, datafeedIdRepository.readAgentBasePath().get());
   }
 
+  @Test
+  void testStopWithDrainTimeout() throws Exception {
+    AtomicReference<CompletableFuture<Void>> drained = new AtomicReference<>();
+    this.datafeedService.unsubscribe(this.listener);
+    this.datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        drained.set(datafeedService.stop(Duration.ofSeconds(5)));
+      }
+    });
+    when(datafeedApi.v4DatafeedCreatePost("1234", "1234")).thenReturn(new Datafeed().id("test-id"));
+    when(datafeedApi.v4DatafeedIdReadGet("test-id", "1234", "1234", null))
+        .thenReturn(getMessageSentEvent());
+
+    this.datafeedService.start();
+
+    // completed once the loop has exited
+    drained.get().get(1, TimeUnit.SECONDS);
+    verify(datafeedApi, times(1)).v4DatafeedIdReadGet("test-id", "1234", "1234", null);
+  }
+
   @Test
   void testDatafeedIdIsReused() throws ApiException, AuthUnauthorizedException {
     datafeedIdRepository.write("persisted-id");
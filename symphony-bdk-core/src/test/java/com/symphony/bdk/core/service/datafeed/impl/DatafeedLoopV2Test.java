@@ -2,7 +2,10 @@ package com.symphony.bdk.core.service.datafeed.impl;
 
 import static com.symphony.bdk.core.test.BdkRetryConfigTestHelper.ofMinimalInterval;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -21,6 +24,8 @@ import com.symphony.bdk.core.config.BdkConfigLoader;
 import com.symphony.bdk.core.config.exception.BdkConfigException;
 import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.config.model.BdkDatafeedConfig;
+import com.symphony.bdk.core.service.datafeed.AsyncRealTimeEventListener;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetricsListener;
 import com.symphony.bdk.core.service.datafeed.EventException;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.exception.NestedRetryException;
@@ -28,8 +33,10 @@ import com.symphony.bdk.gen.api.DatafeedApi;
 import com.symphony.bdk.gen.api.model.AckId;
 import com.symphony.bdk.gen.api.model.V4Event;
 import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Message;
 import com.symphony.bdk.gen.api.model.V4MessageSent;
 import com.symphony.bdk.gen.api.model.V4Payload;
+import com.symphony.bdk.gen.api.model.V4Stream;
 import com.symphony.bdk.gen.api.model.V5Datafeed;
 import com.symphony.bdk.gen.api.model.V5DatafeedCreateBody;
 import com.symphony.bdk.gen.api.model.V5EventList;
@@ -43,14 +50,20 @@ import org.mockito.ArgumentMatcher;
 import org.mockito.Mockito;
 
 import java.net.SocketTimeoutException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -277,6 +290,606 @@ class DatafeedLoopV2Test {
     assertEquals("ack-id", datafeedService.getAckId().getAckId());
   }
 
+  @Test
+  void testStartParallelDispatch() throws ApiException, AuthUnauthorizedException, BdkConfigException {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setVersion("v2");
+    bdkConfig.getDatafeed().setDispatchParallelism(4);
+    bdkConfig.setRetry(ofMinimalInterval(2));
+
+    DatafeedLoopV2 parallelService = new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig);
+    AtomicInteger received = new AtomicInteger();
+    parallelService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, String username) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        received.incrementAndGet();
+        parallelService.stop();
+      }
+    });
+
+    when(datafeedApi.listDatafeed("1234", "1234", "tibot"))
+        .thenReturn(Collections.singletonList(new V5Datafeed().id("test-id")));
+    when(datafeedApi.readDatafeed(eq("test-id"), eq("1234"), eq("1234"), argThat(eqAckId(""))))
+        .thenReturn(new V5EventList()
+            .addEventsItem(messageSentInStream("stream-1"))
+            .addEventsItem(messageSentInStream("stream-2"))
+            .addEventsItem(messageSentInStream("stream-3"))
+            .ackId("ack-id"));
+
+    parallelService.start();
+
+    assertEquals(3, received.get());
+    assertEquals("ack-id", parallelService.getAckId().getAckId());
+  }
+
+  @Test
+  void testStartReadAhead() throws ApiException, AuthUnauthorizedException, BdkConfigException {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setVersion("v2");
+    bdkConfig.getDatafeed().setReadAheadBatches(2);
+    bdkConfig.setRetry(ofMinimalInterval(2));
+
+    DatafeedLoopV2 readAheadService = new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig);
+    CountDownLatch nextReadIssued = new CountDownLatch(1);
+    AtomicBoolean readWhileDispatching = new AtomicBoolean();
+    readAheadService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, String username) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        try {
+          readWhileDispatching.set(nextReadIssued.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        readAheadService.stop();
+      }
+    });
+
+    AtomicInteger reads = new AtomicInteger();
+    when(datafeedApi.listDatafeed("1234", "1234", "tibot"))
+        .thenReturn(Collections.singletonList(new V5Datafeed().id("test-id")));
+    // ack id of the first batch must not be sent while the batch is being dispatched
+    when(datafeedApi.readDatafeed(eq("test-id"), eq("1234"), eq("1234"), argThat(eqAckId(""))))
+        .thenAnswer(invocation -> {
+          if (reads.incrementAndGet() == 1) {
+            return new V5EventList().addEventsItem(messageSentInStream("stream-1")).ackId("ack-id");
+          }
+          nextReadIssued.countDown();
+          return new V5EventList().ackId("ack-id");
+        });
+
+    readAheadService.start();
+
+    assertTrue(readWhileDispatching.get());
+    assertEquals("ack-id", readAheadService.getAckId().getAckId());
+  }
+
+  @Test
+  void testStartReadAheadSendsEveryAckId() throws ApiException, AuthUnauthorizedException, BdkConfigException {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setVersion("v2");
+    bdkConfig.getDatafeed().setReadAheadBatches(2);
+    bdkConfig.setRetry(ofMinimalInterval(2));
+
+    DatafeedLoopV2 readAheadService = new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig);
+    // the first batch is dispatched once the three batches have been read, the two other ones waiting in the queue
+    CountDownLatch batchesRead = new CountDownLatch(3);
+    readAheadService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, String username) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        try {
+          batchesRead.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+
+    List<String> sentAckIds = Collections.synchronizedList(new ArrayList<>());
+    when(datafeedApi.listDatafeed("1234", "1234", "tibot"))
+        .thenReturn(Collections.singletonList(new V5Datafeed().id("test-id")));
+    when(datafeedApi.readDatafeed(eq("test-id"), eq("1234"), eq("1234"), any(AckId.class)))
+        .thenAnswer(invocation -> {
+          final String ackId = invocation.getArgument(3, AckId.class).getAckId();
+          sentAckIds.add(ackId);
+          final int read = sentAckIds.size();
+          if (read <= 3) {
+            batchesRead.countDown();
+            return new V5EventList().addEventsItem(messageSentInStream("stream-1")).ackId("ack-id-" + read);
+          }
+          if ("ack-id-3".equals(ackId) || read > 20) {
+            readAheadService.stop();
+          }
+          return new V5EventList().ackId("empty-ack-id-" + read);
+        });
+
+    readAheadService.start();
+
+    assertTrue(sentAckIds.containsAll(Arrays.asList("ack-id-1", "ack-id-2", "ack-id-3")));
+  }
+
+  @Test
+  void testStartConcurrentReaders() throws ApiException, AuthUnauthorizedException, BdkConfigException {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setVersion("v2");
+    bdkConfig.getDatafeed().setReaders(2);
+    bdkConfig.setRetry(ofMinimalInterval(2));
+
+    DatafeedLoopV2 concurrentService = new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig);
+    // both readers have to dispatch an event at the same time to release the latch
+    CountDownLatch latch = new CountDownLatch(2);
+    AtomicInteger released = new AtomicInteger();
+    concurrentService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, String username) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        latch.countDown();
+        try {
+          if (latch.await(5, TimeUnit.SECONDS)) {
+            released.incrementAndGet();
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        concurrentService.stop();
+      }
+    });
+
+    when(datafeedApi.listDatafeed("1234", "1234", "tibot"))
+        .thenReturn(Collections.singletonList(new V5Datafeed().id("test-id")));
+    when(datafeedApi.readDatafeed(eq("test-id"), eq("1234"), eq("1234"), argThat(eqAckId(""))))
+        .thenReturn(new V5EventList().addEventsItem(messageSentInStream("stream-1")).ackId("ack-id"));
+
+    concurrentService.start();
+
+    assertEquals(2, released.get());
+    assertEquals("ack-id", concurrentService.getAckId().getAckId());
+  }
+
+  @Test
+  void testStartWithCustomExecutor() throws ApiException, AuthUnauthorizedException, BdkConfigException {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setVersion("v2");
+    bdkConfig.getDatafeed().setReadAheadBatches(1);
+    bdkConfig.setRetry(ofMinimalInterval(2));
+
+    ExecutorService executor = Executors.newCachedThreadPool(r -> new Thread(r, "custom-datafeed-executor"));
+    DatafeedLoopV2 executorService = new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig);
+    executorService.setExecutor(executor);
+    List<String> dispatchThreads = Collections.synchronizedList(new ArrayList<>());
+    executorService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, String username) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        dispatchThreads.add(Thread.currentThread().getName());
+        executorService.stop();
+      }
+    });
+
+    when(datafeedApi.listDatafeed("1234", "1234", "tibot"))
+        .thenReturn(Collections.singletonList(new V5Datafeed().id("test-id")));
+    when(datafeedApi.readDatafeed(eq("test-id"), eq("1234"), eq("1234"), any(AckId.class)))
+        .thenReturn(new V5EventList().addEventsItem(messageSentInStream("stream-1")).ackId("ack-id"));
+
+    try {
+      executorService.start();
+    } finally {
+      executor.shutdown();
+    }
+
+    // batches read ahead before the loop is stopped might also have been dispatched
+    assertFalse(dispatchThreads.isEmpty());
+    assertTrue(dispatchThreads.stream().allMatch("custom-datafeed-executor"::equals));
+  }
+
+  @Test
+  void testStopWithDrainTimeoutAbortsRead() throws Exception {
+    CountDownLatch reading = new CountDownLatch(1);
+    when(datafeedApi.listDatafeed("1234", "1234", "tibot"))
+        .thenReturn(Collections.singletonList(new V5Datafeed().id("test-id")));
+    when(datafeedApi.readDatafeed(eq("test-id"), eq("1234"), eq("1234"), any(AckId.class)))
+        .thenAnswer(invocation -> {
+          reading.countDown();
+          try {
+            // long polling read call, only interrupted by the drain
+            Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+          } catch (InterruptedException e) {
+            throw new ProcessingException(e);
+          }
+          return new V5EventList().addEventsItem(messageSentInStream("stream-1")).ackId("ack-id");
+        });
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<?> loop = executor.submit(() -> {
+        datafeedService.start();
+        return null;
+      });
+      assertTrue(reading.await(5, TimeUnit.SECONDS));
+
+      datafeedService.stop(Duration.ofSeconds(5)).get(1, TimeUnit.SECONDS);
+
+      // loop has exited without waiting for the read call, events have not been dispatched
+      loop.get(5, TimeUnit.SECONDS);
+      verify(datafeedApi, times(1)).readDatafeed(eq("test-id"), eq("1234"), eq("1234"), any(AckId.class));
+      assertEquals("", datafeedService.getAckId().getAckId());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testStopWithDrainTimeoutWhileStarting() throws Exception {
+    CountDownLatch listing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(datafeedApi.listDatafeed("1234", "1234", "tibot"))
+        .thenAnswer(invocation -> {
+          listing.countDown();
+          release.await(5, TimeUnit.SECONDS);
+          return Collections.singletonList(new V5Datafeed().id("test-id"));
+        });
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<?> loop = executor.submit(() -> {
+        datafeedService.start();
+        return null;
+      });
+      assertTrue(listing.await(5, TimeUnit.SECONDS));
+
+      datafeedService.stop(Duration.ofSeconds(5)).get(1, TimeUnit.SECONDS);
+      release.countDown();
+
+      // the stop received while starting is not undone, the datafeed is never read
+      loop.get(5, TimeUnit.SECONDS);
+      verify(datafeedApi, never()).readDatafeed(any(), any(), any(), any());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testStopWithDrainTimeoutWaitsForEventsBeingProcessed() throws Exception {
+    CountDownLatch processing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    datafeedService.unsubscribe(listener);
+    datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, String username) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        processing.countDown();
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+    when(datafeedApi.listDatafeed("1234", "1234", "tibot"))
+        .thenReturn(Collections.singletonList(new V5Datafeed().id("test-id")));
+    when(datafeedApi.readDatafeed(eq("test-id"), eq("1234"), eq("1234"), argThat(eqAckId(""))))
+        .thenReturn(new V5EventList().addEventsItem(messageSentInStream("stream-1")).ackId("ack-id"));
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<?> loop = executor.submit(() -> {
+        datafeedService.start();
+        return null;
+      });
+      assertTrue(processing.await(5, TimeUnit.SECONDS));
+
+      ExecutionException timeout = assertThrows(ExecutionException.class,
+          () -> datafeedService.stop(Duration.ofMillis(50)).get(5, TimeUnit.SECONDS));
+      assertTrue(timeout.getCause() instanceof TimeoutException);
+
+      CompletableFuture<Void> drained = datafeedService.stop(Duration.ofSeconds(5));
+      assertFalse(drained.isDone());
+      release.countDown();
+      drained.get(5, TimeUnit.SECONDS);
+
+      loop.get(5, TimeUnit.SECONDS);
+      assertEquals("ack-id", datafeedService.getAckId().getAckId());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testStartWithDeduplication() throws ApiException, AuthUnauthorizedException, BdkConfigException {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setVersion("v2");
+    bdkConfig.getDatafeed().setDeduplicationWindowMillis(60_000);
+    bdkConfig.setRetry(ofMinimalInterval(2));
+
+    DatafeedLoopV2 deduplicatingService = new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig);
+    List<String> dispatched = new ArrayList<>();
+    deduplicatingService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, String username) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) throws EventException {
+        String messageId = event.getMessage().getMessageId();
+        dispatched.add(messageId);
+        if (messageId.equals("m2")) {
+          if (Collections.frequency(dispatched, "m2") == 1) {
+            throw new EventException("failure, batch is re-queued");
+          }
+          deduplicatingService.stop();
+        }
+      }
+    });
+
+    when(datafeedApi.listDatafeed("1234", "1234", "tibot"))
+        .thenReturn(Collections.singletonList(new V5Datafeed().id("test-id")));
+    when(datafeedApi.readDatafeed(eq("test-id"), eq("1234"), eq("1234"), argThat(eqAckId(""))))
+        .thenReturn(new V5EventList()
+            .addEventsItem(messageSent("e1", "m1"))
+            .addEventsItem(messageSent("e2", "m2"))
+            .ackId("ack-id"));
+
+    deduplicatingService.start();
+
+    assertEquals(Arrays.asList("m1", "m2", "m2"), dispatched);
+    assertEquals("ack-id", deduplicatingService.getAckId().getAckId());
+  }
+
+  @Test
+  void testStartAsyncListener() throws ApiException, AuthUnauthorizedException {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    List<String> processed = new ArrayList<>();
+    datafeedService.subscribe(new AsyncRealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, String username) {
+        return true;
+      }
+
+      @Override
+      public CompletionStage<Void> onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        return CompletableFuture.runAsync(() -> {
+          processed.add(event.getMessage().getMessageId());
+          datafeedService.stop();
+        }, executor);
+      }
+    });
+
+    when(datafeedApi.listDatafeed("1234", "1234", "tibot"))
+        .thenReturn(Collections.singletonList(new V5Datafeed().id("test-id")));
+    when(datafeedApi.readDatafeed(eq("test-id"), eq("1234"), eq("1234"), argThat(eqAckId(""))))
+        .thenReturn(new V5EventList().addEventsItem(messageSent("e1", "m1")).ackId("ack-id"));
+
+    datafeedService.start();
+    executor.shutdown();
+
+    assertEquals(Collections.singletonList("m1"), processed);
+    assertEquals("ack-id", datafeedService.getAckId().getAckId());
+  }
+
+  @Test
+  void testStartAsyncListenerFailureRequeuesEvents() throws ApiException, AuthUnauthorizedException {
+    AtomicInteger calls = new AtomicInteger();
+    datafeedService.subscribe(new AsyncRealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, String username) {
+        return true;
+      }
+
+      @Override
+      public CompletionStage<Void> onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        if (calls.incrementAndGet() == 1) {
+          result.completeExceptionally(new EventException("failure, batch is re-queued"));
+        } else {
+          datafeedService.stop();
+          result.complete(null);
+        }
+        return result;
+      }
+    });
+
+    when(datafeedApi.listDatafeed("1234", "1234", "tibot"))
+        .thenReturn(Collections.singletonList(new V5Datafeed().id("test-id")));
+    when(datafeedApi.readDatafeed(eq("test-id"), eq("1234"), eq("1234"), argThat(eqAckId(""))))
+        .thenReturn(new V5EventList().addEventsItem(messageSent("e1", "m1")).ackId("ack-id"));
+
+    datafeedService.start();
+
+    assertEquals(2, calls.get());
+    verify(datafeedApi, times(2)).readDatafeed(eq("test-id"), eq("1234"), eq("1234"), argThat(eqAckId("")));
+    assertEquals("ack-id", datafeedService.getAckId().getAckId());
+  }
+
+  @Test
+  void testListenerFailureAwaitsAsyncListeners() throws BdkConfigException {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setVersion("v2");
+    DatafeedLoopV2 service = new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    AtomicInteger asyncCompleted = new AtomicInteger();
+    service.subscribe(new AsyncRealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, String username) {
+        return true;
+      }
+
+      @Override
+      public CompletionStage<Void> onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        return CompletableFuture.runAsync(() -> {
+          try {
+            Thread.sleep(100);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          asyncCompleted.incrementAndGet();
+        }, executor);
+      }
+    });
+    service.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, String username) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) throws EventException {
+        if ("m2".equals(event.getMessage().getMessageId())) {
+          throw new EventException("failure, batch is re-queued");
+        }
+      }
+    });
+
+    try {
+      assertThrows(RequeueEventException.class,
+          () -> service.handleV4EventList(Arrays.asList(messageSent("e1", "m1"), messageSent("e2", "m2"))));
+    } finally {
+      executor.shutdown();
+    }
+
+    // the batch is only re-queued once the asynchronous listeners already running have completed
+    assertEquals(2, asyncCompleted.get());
+  }
+
+  @Test
+  void testUnsubscribeAsyncListener() throws ApiException, AuthUnauthorizedException {
+    AsyncRealTimeEventListener listener = new AsyncRealTimeEventListener() {
+      @Override
+      public CompletionStage<Void> onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        return CompletableFuture.completedFuture(null);
+      }
+    };
+    datafeedService.subscribe(listener);
+    assertTrue(datafeedService.isDispatchable(RealTimeEventType.MESSAGESENT.name(), "john"));
+
+    datafeedService.unsubscribe(listener);
+    assertFalse(datafeedService.isDispatchable(RealTimeEventType.MESSAGESENT.name(), "john"));
+  }
+
+  @Test
+  void testMetrics() throws ApiException, AuthUnauthorizedException {
+    List<String> metrics = new ArrayList<>();
+    datafeedService.addMetricsListener(new DatafeedMetricsListener() {
+      @Override
+      public void onRead(Duration roundTrip, int batchSize) {
+        metrics.add("read:" + batchSize);
+      }
+
+      @Override
+      public void onEventReceived(String eventType, Duration age) {
+        metrics.add("received:" + eventType + ":" + (age != null));
+      }
+
+      @Override
+      public void onEventProcessed(String eventType, String listener, Duration latency) {
+        metrics.add("processed:" + eventType);
+      }
+
+      @Override
+      public void onBatchProcessed(int batchSize) {
+        metrics.add("batch:" + batchSize);
+      }
+    });
+    datafeedService.addMetricsListener(new DatafeedMetricsListener() {
+      @Override
+      public void onRead(Duration roundTrip, int batchSize) {
+        throw new IllegalStateException("failing metrics listener must not break the loop");
+      }
+    });
+    datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, String username) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        datafeedService.stop();
+      }
+    });
+
+    when(datafeedApi.listDatafeed("1234", "1234", "tibot"))
+        .thenReturn(Collections.singletonList(new V5Datafeed().id("test-id")));
+    when(datafeedApi.readDatafeed(eq("test-id"), eq("1234"), eq("1234"), argThat(eqAckId(""))))
+        .thenReturn(new V5EventList()
+            .addEventsItem(messageSent("e1", "m1").timestamp(System.currentTimeMillis()))
+            .ackId("ack-id"));
+
+    datafeedService.start();
+
+    assertEquals(Arrays.asList("read:1", "received:MESSAGESENT:true", "processed:MESSAGESENT", "batch:1"), metrics);
+  }
+
+  private static V4Event messageSent(String eventId, String messageId) {
+    return new V4Event().id(eventId).type(RealTimeEventType.MESSAGESENT.name())
+        .payload(new V4Payload().messageSent(new V4MessageSent().message(new V4Message().messageId(messageId))));
+  }
+
+  @Test
+  void testIsDispatchable() {
+    datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        // nothing to be done here
+      }
+    });
+
+    assertTrue(datafeedService.isDispatchable(RealTimeEventType.MESSAGESENT.name(), "john"));
+    assertFalse(datafeedService.isDispatchable(RealTimeEventType.MESSAGESENT.name(), "tibot"));
+    assertFalse(datafeedService.isDispatchable(RealTimeEventType.MESSAGESENT.name(), null));
+    assertFalse(datafeedService.isDispatchable(RealTimeEventType.SHAREDPOST.name(), "john"));
+    assertFalse(datafeedService.isDispatchable("UNKNOWN", "john"));
+  }
+
+  @Test
+  void testIsDispatchableWithCustomEventFilter() {
+    datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, String username) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        // nothing to be done here
+      }
+    });
+
+    assertTrue(datafeedService.isDispatchable(RealTimeEventType.MESSAGESENT.name(), "tibot"));
+    assertFalse(datafeedService.isDispatchable(RealTimeEventType.SHAREDPOST.name(), "tibot"));
+  }
+
+  private static V4Event messageSentInStream(String streamId) {
+    return new V4Event().type(RealTimeEventType.MESSAGESENT.name()).payload(new V4Payload().messageSent(
+        new V4MessageSent().message(new V4Message().stream(new V4Stream().streamId(streamId)))));
+  }
+
   private ArgumentMatcher<AckId> eqAckId(String ackId) {
     return argument -> argument.getAckId().equals(ackId);
   }
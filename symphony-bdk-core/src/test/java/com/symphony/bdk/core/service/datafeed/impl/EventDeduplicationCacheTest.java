@@ -0,0 +1,92 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+class EventDeduplicationCacheTest {
+
+  @Test
+  void testInvalidParameters() {
+    assertThrows(IllegalArgumentException.class, () -> new EventDeduplicationCache(0, 10));
+    assertThrows(IllegalArgumentException.class, () -> new EventDeduplicationCache(1000, 0));
+  }
+
+  @Test
+  void testProcessedEvent() {
+    final EventDeduplicationCache cache = new EventDeduplicationCache(1000, 10);
+    cache.markProcessed("event-1");
+
+    assertTrue(cache.isProcessed("event-1"));
+    assertFalse(cache.isProcessed("event-2"));
+  }
+
+  @Test
+  void testNullIdIsNeverProcessed() {
+    final EventDeduplicationCache cache = new EventDeduplicationCache(1000, 10);
+    cache.markProcessed(null);
+
+    assertFalse(cache.isProcessed(null));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testEventExpiresAfterWindow() {
+    final MutableClock clock = new MutableClock();
+    final EventDeduplicationCache cache = new EventDeduplicationCache(1000, 10, clock);
+    cache.markProcessed("event-1");
+    clock.advance(Duration.ofMillis(500));
+    cache.markProcessed("event-2");
+
+    clock.advance(Duration.ofMillis(600));
+
+    assertFalse(cache.isProcessed("event-1"));
+    assertTrue(cache.isProcessed("event-2"));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void testOldestEventEvictedWhenFull() {
+    final EventDeduplicationCache cache = new EventDeduplicationCache(1000, 2);
+    cache.markProcessed("event-1");
+    cache.markProcessed("event-2");
+    cache.markProcessed("event-3");
+
+    assertFalse(cache.isProcessed("event-1"));
+    assertTrue(cache.isProcessed("event-2"));
+    assertTrue(cache.isProcessed("event-3"));
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant now = Instant.now();
+
+    void advance(Duration duration) {
+      this.now = this.now.plus(duration);
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return this.now;
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.symphony.bdk.gen.api.model.AckId;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V5EventList;
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class EventFilteringReaderTest {
+
+  private static final String EVENTS = "{"
+      + "\"events\": ["
+      + "  {\"id\": \"e1\", \"type\": \"MESSAGESENT\", \"timestamp\": 1,"
+      + "   \"payload\": {\"messageSent\": {\"message\": {\"messageId\": \"m1\", \"stream\": {\"streamId\": \"s1\"}}}},"
+      + "   \"initiator\": {\"user\": {\"userId\": 1, \"username\": \"john\"}}},"
+      + "  {\"id\": \"e2\", \"initiator\": {\"user\": {\"username\": \"tibot\"}}, \"type\": \"MESSAGESENT\","
+      + "   \"payload\": {\"messageSent\": {\"message\": {\"messageId\": \"m2\"}}}},"
+      + "  {\"id\": \"e3\", \"type\": \"UNKNOWN\", \"payload\": {\"unknown\": [1, 2, {\"a\": \"b\"}]}},"
+      + "  null,"
+      + "  {\"id\": \"e4\", \"type\": \"USERJOINEDROOM\", \"initiator\": null}"
+      + "],"
+      + "\"unknownField\": {\"a\": [1]},"
+      + "\"ackId\": \"ack-id\""
+      + "}";
+
+  @Test
+  void testOnlyAcceptedEventsAreDeserialized() throws IOException {
+    final List<String> filtered = new ArrayList<>();
+    final EventFilteringReader reader = new EventFilteringReader(mock(ApiClient.class), (type, username) -> {
+      filtered.add(type + ":" + username);
+      return "MESSAGESENT".equals(type) && !"tibot".equals(username);
+    });
+
+    final V5EventList eventList = reader.parseEventList(stream(EVENTS));
+
+    assertEquals("ack-id", eventList.getAckId());
+    assertEquals(1, eventList.getEvents().size());
+    final V4Event event = eventList.getEvents().get(0);
+    assertEquals("e1", event.getId());
+    assertEquals("john", event.getInitiator().getUser().getUsername());
+    assertEquals("s1", event.getPayload().getMessageSent().getMessage().getStream().getStreamId());
+    assertEquals(Arrays.asList("MESSAGESENT:john", "MESSAGESENT:tibot", "UNKNOWN:null", "USERJOINEDROOM:null"),
+        filtered);
+  }
+
+  @Test
+  void testAllEventsAccepted() throws IOException {
+    final EventFilteringReader reader = new EventFilteringReader(mock(ApiClient.class), (type, username) -> true);
+
+    final V5EventList eventList = reader.parseEventList(stream(EVENTS));
+
+    assertEquals(4, eventList.getEvents().size());
+    assertEquals("e4", eventList.getEvents().get(3).getId());
+    assertNull(eventList.getEvents().get(3).getInitiator());
+  }
+
+  @Test
+  void testReadDatafeedThroughGeneratedApi() throws ApiException {
+    final ApiClient apiClient = mock(ApiClient.class);
+    when(apiClient.escapeString(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+    doReturn(new ApiResponse<>(200, Collections.emptyMap(), stream(EVENTS))).when(apiClient).invokeAPI(
+        eq("/v5/datafeeds/datafeed-id/read"), eq("POST"), any(), any(), any(), any(), any(), any(), any(), any(), any());
+    final EventFilteringReader reader =
+        new EventFilteringReader(apiClient, (type, username) -> "USERJOINEDROOM".equals(type));
+
+    final V5EventList eventList = reader.readDatafeed("datafeed-id", "session-token", "km-token", new AckId());
+
+    assertEquals("ack-id", eventList.getAckId());
+    assertEquals(1, eventList.getEvents().size());
+    assertEquals("e4", eventList.getEvents().get(0).getId());
+  }
+
+  @Test
+  void testEmptyResponse() throws IOException {
+    final EventFilteringReader reader = new EventFilteringReader(mock(ApiClient.class), (type, username) -> true);
+
+    final V5EventList eventList = reader.parseEventList(stream(""));
+
+    assertNull(eventList.getAckId());
+    assertTrue(eventList.getEvents().isEmpty());
+  }
+
+  @Test
+  void testInvalidResponse() {
+    final EventFilteringReader reader = new EventFilteringReader(mock(ApiClient.class), (type, username) -> true);
+
+    assertThrows(IOException.class, () -> reader.parseEventList(stream("[]")));
+  }
+
+  @Test
+  void testResponseBodyClosed() throws IOException {
+    final AtomicBoolean closed = new AtomicBoolean();
+    final InputStream body = new ByteArrayInputStream(EVENTS.getBytes(StandardCharsets.UTF_8)) {
+      @Override
+      public void close() throws IOException {
+        closed.set(true);
+        super.close();
+      }
+    };
+    final EventFilteringReader reader = new EventFilteringReader(mock(ApiClient.class), (type, username) -> false);
+
+    final V5EventList eventList = reader.parseEventList(body);
+
+    assertTrue(eventList.getEvents().isEmpty());
+    assertTrue(closed.get());
+  }
+
+  private static InputStream stream(String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
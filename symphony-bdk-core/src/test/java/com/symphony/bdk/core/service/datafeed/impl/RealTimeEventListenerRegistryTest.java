@@ -0,0 +1,138 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.symphony.bdk.core.service.datafeed.AsyncRealTimeEventListener;
+import com.symphony.bdk.core.service.datafeed.AsyncRealTimeEventListenerAdapter;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+class RealTimeEventListenerRegistryTest {
+
+  private static final RealTimeEventListener MESSAGE_LISTENER = new RealTimeEventListener() {
+    @Override
+    public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+      // nothing to be done here
+    }
+  };
+
+  @Test
+  void testHandledTypesDetectedFromOverriddenCallbacks() {
+    final RealTimeEventListener listener = new RealTimeEventListener() {
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        // nothing to be done here
+      }
+
+      @Override
+      public void onSymphonyElementsAction(V4Initiator initiator, V4SymphonyElementsAction event) {
+        // nothing to be done here
+      }
+    };
+
+    assertEquals(EnumSet.of(RealTimeEventType.MESSAGESENT, RealTimeEventType.SYMPHONYELEMENTSACTION),
+        RealTimeEventListenerRegistry.handledTypes(listener));
+  }
+
+  @Test
+  void testListenerWithoutCallbackHandlesAllTypes() {
+    final RealTimeEventListener listener = new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, String username) {
+        return true;
+      }
+    };
+
+    assertEquals(EnumSet.allOf(RealTimeEventType.class), RealTimeEventListenerRegistry.handledTypes(listener));
+  }
+
+  @Test
+  void testHandledTypesOfAsyncListener() {
+    final AsyncRealTimeEventListener listener = new AsyncRealTimeEventListener() {
+      @Override
+      public CompletionStage<Void> onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        return CompletableFuture.completedFuture(null);
+      }
+    };
+
+    assertEquals(EnumSet.of(RealTimeEventType.MESSAGESENT),
+        RealTimeEventListenerRegistry.handledTypes(new AsyncRealTimeEventListenerAdapter(listener)));
+  }
+
+  @Test
+  void testMockedListenerHandlesAllTypes() {
+    assertEquals(EnumSet.allOf(RealTimeEventType.class),
+        RealTimeEventListenerRegistry.handledTypes(mock(RealTimeEventListener.class)));
+  }
+
+  @Test
+  void testListenersAreIndexedByType() {
+    final RealTimeEventListenerRegistry registry = new RealTimeEventListenerRegistry();
+    registry.add(MESSAGE_LISTENER);
+
+    assertEquals(Collections.singletonList(MESSAGE_LISTENER), registry.getListeners(RealTimeEventType.MESSAGESENT));
+    assertTrue(registry.getListeners(RealTimeEventType.SYMPHONYELEMENTSACTION).isEmpty());
+  }
+
+  @Test
+  void testCustomEventFilterIsDetected() {
+    final RealTimeEventListenerRegistry registry = new RealTimeEventListenerRegistry();
+    final RealTimeEventListener customFilter = new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, String username) {
+        return true;
+      }
+
+      @Override
+      public void onSymphonyElementsAction(V4Initiator initiator, V4SymphonyElementsAction event) {
+        // nothing to be done here
+      }
+    };
+    registry.add(MESSAGE_LISTENER);
+    registry.add(customFilter);
+
+    assertFalse(registry.hasCustomEventFilter(RealTimeEventType.MESSAGESENT));
+    assertTrue(registry.hasCustomEventFilter(RealTimeEventType.SYMPHONYELEMENTSACTION));
+
+    registry.remove(customFilter);
+    assertFalse(registry.hasCustomEventFilter(RealTimeEventType.SYMPHONYELEMENTSACTION));
+  }
+
+  @Test
+  void testRemoveListener() {
+    final RealTimeEventListenerRegistry registry = new RealTimeEventListenerRegistry();
+    registry.add(MESSAGE_LISTENER);
+    registry.remove(MESSAGE_LISTENER);
+
+    assertTrue(registry.getListeners(RealTimeEventType.MESSAGESENT).isEmpty());
+  }
+
+  @Test
+  void testSnapshotIsNotAffectedBySubscriptions() {
+    final RealTimeEventListenerRegistry registry = new RealTimeEventListenerRegistry();
+    registry.add(MESSAGE_LISTENER);
+
+    final List<RealTimeEventListener> snapshot = registry.getListeners(RealTimeEventType.MESSAGESENT);
+    registry.add(mock(RealTimeEventListener.class));
+    registry.remove(MESSAGE_LISTENER);
+
+    assertEquals(Collections.singletonList(MESSAGE_LISTENER), snapshot);
+    assertEquals(1, registry.getListeners(RealTimeEventType.MESSAGESENT).size());
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.add(MESSAGE_LISTENER));
+  }
+}
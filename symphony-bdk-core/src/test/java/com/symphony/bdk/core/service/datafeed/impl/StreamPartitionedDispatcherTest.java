@@ -0,0 +1,192 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.symphony.bdk.core.service.datafeed.EventException;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.model.V4ConnectionAccepted;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Payload;
+import com.symphony.bdk.gen.api.model.V4Stream;
+import com.symphony.bdk.gen.api.model.V4User;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class StreamPartitionedDispatcherTest {
+
+  @Test
+  void testInvalidNumberOfLanes() {
+    assertThrows(IllegalArgumentException.class, () -> new StreamPartitionedDispatcher(0));
+  }
+
+  @Test
+  void testEventsOfSameStreamAreInSameLane() {
+    final StreamPartitionedDispatcher dispatcher = new StreamPartitionedDispatcher(4);
+
+    assertEquals(dispatcher.laneOf(messageSent("m1", "stream-a")), dispatcher.laneOf(messageSent("m2", "stream-a")));
+  }
+
+  @Test
+  void testEventWithoutStreamUsesInitiator() {
+    final StreamPartitionedDispatcher dispatcher = new StreamPartitionedDispatcher(4);
+    final V4Event event = new V4Event()
+        .id("c1")
+        .type(RealTimeEventType.CONNECTIONACCEPTED.name())
+        .initiator(new V4Initiator().user(new V4User().userId(1234L)))
+        .payload(new V4Payload().connectionAccepted(new V4ConnectionAccepted()));
+
+    assertEquals(Math.floorMod(Long.valueOf(1234L).hashCode(), 4), dispatcher.laneOf(event));
+  }
+
+  @Test
+  void testOrderingIsPreservedPerStream() {
+    final StreamPartitionedDispatcher dispatcher = new StreamPartitionedDispatcher(4);
+    final List<V4Event> events = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      events.add(messageSent("a" + i, "stream-a"));
+      events.add(messageSent("b" + i, "stream-b"));
+      events.add(messageSent("c" + i, "stream-c"));
+    }
+
+    final Map<String, List<String>> received = new ConcurrentHashMap<>();
+    dispatcher.dispatch(events, event -> received
+        .computeIfAbsent(event.getPayload().getMessageSent().getMessage().getStream().getStreamId(),
+            k -> new CopyOnWriteArrayList<>())
+        .add(event.getId()));
+
+    for (String stream : Arrays.asList("a", "b", "c")) {
+      final List<String> ids = received.get("stream-" + stream);
+      assertEquals(50, ids.size());
+      for (int i = 0; i < 50; i++) {
+        assertEquals(stream + i, ids.get(i));
+      }
+    }
+  }
+
+  @Test
+  void testStreamsAreProcessedConcurrently() throws InterruptedException {
+    final StreamPartitionedDispatcher dispatcher = new StreamPartitionedDispatcher(2);
+    final V4Event first = messageSent("m1", "stream-a");
+    V4Event second = null;
+    for (int i = 0; second == null; i++) {
+      final V4Event candidate = messageSent("m2", "stream-" + i);
+      if (dispatcher.laneOf(candidate) != dispatcher.laneOf(first)) {
+        second = candidate;
+      }
+    }
+
+    // both events have to be processed at the same time to release the latch
+    final CountDownLatch latch = new CountDownLatch(2);
+    final AtomicInteger released = new AtomicInteger();
+    dispatcher.dispatch(Arrays.asList(first, second), event -> {
+      latch.countDown();
+      try {
+        if (latch.await(5, TimeUnit.SECONDS)) {
+          released.incrementAndGet();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+
+    assertEquals(2, released.get());
+  }
+
+  @Test
+  void testRequeueExceptionIsRethrownOnceAllLanesCompleted() {
+    final StreamPartitionedDispatcher dispatcher = new StreamPartitionedDispatcher(2);
+    final V4Event failing = messageSent("m1", "stream-a");
+    V4Event other = null;
+    for (int i = 0; other == null; i++) {
+      final V4Event candidate = messageSent("m2", "stream-" + i);
+      if (dispatcher.laneOf(candidate) != dispatcher.laneOf(failing)) {
+        other = candidate;
+      }
+    }
+
+    final List<V4Event> events = Arrays.asList(failing, other);
+    final List<String> processed = new CopyOnWriteArrayList<>();
+    assertThrows(RequeueEventException.class, () -> dispatcher.dispatch(events, event -> {
+      if (event == failing) {
+        throw new RequeueEventException(event, new RealTimeEventListener() {}, new EventException("failure"));
+      }
+      processed.add(event.getId());
+    }));
+    assertEquals(Collections.singletonList("m2"), processed);
+  }
+
+  @Test
+  void testLanesRunOnGivenExecutor() {
+    final ExecutorService executor = Executors.newFixedThreadPool(2, r -> new Thread(r, "custom-executor"));
+    try {
+      final StreamPartitionedDispatcher dispatcher = new StreamPartitionedDispatcher(16, executor);
+      final List<String> threads = new CopyOnWriteArrayList<>();
+      final List<V4Event> events = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+        events.add(messageSent("m" + i, "stream-" + i));
+      }
+
+      dispatcher.dispatch(events, event -> threads.add(Thread.currentThread().getName()));
+      dispatcher.shutdown();
+
+      assertEquals(20, threads.size());
+      assertTrue(threads.stream().allMatch("custom-executor"::equals));
+      assertFalse(executor.isShutdown());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testSingleLaneIsProcessedOnCallerThread() {
+    final StreamPartitionedDispatcher dispatcher = new StreamPartitionedDispatcher(4);
+    final Thread caller = Thread.currentThread();
+    final AtomicInteger count = new AtomicInteger();
+
+    dispatcher.dispatch(Arrays.asList(messageSent("m1", "stream-a"), messageSent("m2", "stream-a")), event -> {
+      assertEquals(caller, Thread.currentThread());
+      count.incrementAndGet();
+    });
+
+    assertEquals(2, count.get());
+  }
+
+  @Test
+  void testDifferentStreamsCanBeInDifferentLanes() {
+    final StreamPartitionedDispatcher dispatcher = new StreamPartitionedDispatcher(16);
+    boolean differentLanes = false;
+    for (int i = 1; i < 100 && !differentLanes; i++) {
+      differentLanes = dispatcher.laneOf(messageSent("m", "stream-0")) != dispatcher.laneOf(messageSent("m", "stream-" + i));
+    }
+    assertTrue(differentLanes);
+    assertNotEquals(-1, dispatcher.laneOf(new V4Event().type("UNKNOWN")));
+  }
+
+  private static V4Event messageSent(String id, String streamId) {
+    return new V4Event()
+        .id(id)
+        .type(RealTimeEventType.MESSAGESENT.name())
+        .payload(new V4Payload().messageSent(
+            new V4MessageSent().message(new V4Message().stream(new V4Stream().streamId(streamId)))));
+  }
+}
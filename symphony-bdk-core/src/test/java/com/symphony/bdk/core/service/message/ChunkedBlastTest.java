@@ -0,0 +1,129 @@
+package com.symphony.bdk.core.service.message;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.symphony.bdk.core.util.CompletableFutures;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageBlastResponse;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiRuntimeException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+class ChunkedBlastTest {
+
+  private Function<List<String>, CompletableFuture<V4MessageBlastResponse>> chunkSender;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    chunkSender = mock(Function.class);
+  }
+
+  @Test
+  void testSendBoundedNumberOfChunksInFlight() {
+    final CompletableFuture<V4MessageBlastResponse> first = new CompletableFuture<>();
+    final CompletableFuture<V4MessageBlastResponse> second = new CompletableFuture<>();
+    final CompletableFuture<V4MessageBlastResponse> third = new CompletableFuture<>();
+    when(chunkSender.apply(Arrays.asList("s1", "s2"))).thenReturn(first);
+    when(chunkSender.apply(Arrays.asList("s3", "s4"))).thenReturn(second);
+    when(chunkSender.apply(Collections.singletonList("s5"))).thenReturn(third);
+
+    final CompletableFuture<V4MessageBlastResponse> result =
+        new ChunkedBlast(Arrays.asList("s1", "s2", "s3", "s4", "s5"), 2, chunkSender).send(2);
+
+    verify(chunkSender).apply(Arrays.asList("s1", "s2"));
+    verify(chunkSender).apply(Arrays.asList("s3", "s4"));
+    verify(chunkSender, never()).apply(Collections.singletonList("s5"));
+
+    second.complete(response("s3", "s4"));
+    verify(chunkSender).apply(Collections.singletonList("s5"));
+    assertFalse(result.isDone());
+
+    first.complete(response("s1", "s2"));
+    third.complete(response("s5"));
+
+    assertTrue(result.isDone());
+    assertEquals(Arrays.asList("s1", "s2", "s3", "s4", "s5"), result.join().getMessages().stream()
+        .map(V4Message::getMessageId)
+        .sorted()
+        .collect(Collectors.toList()));
+  }
+
+  @Test
+  void testFailedChunkReportedInErrors() {
+    when(chunkSender.apply(Arrays.asList("s1", "s2"))).thenReturn(
+        CompletableFutures.failedFuture(new ApiRuntimeException(new ApiException(500, "error"))));
+    when(chunkSender.apply(Collections.singletonList("s3"))).thenReturn(
+        CompletableFuture.completedFuture(response("s3")));
+
+    final V4MessageBlastResponse response =
+        new ChunkedBlast(Arrays.asList("s1", "s2", "s3"), 2, chunkSender).send(5).join();
+
+    assertEquals(1, response.getMessages().size());
+    assertEquals(2, response.getErrors().size());
+    assertEquals(500, response.getErrors().get("s1").getCode());
+    assertEquals(500, response.getErrors().get("s2").getCode());
+  }
+
+  @Test
+  void testChunkNotSentReportedInErrors() {
+    when(chunkSender.apply(any())).thenThrow(new IllegalStateException("not sent"));
+
+    final CompletableFuture<V4MessageBlastResponse> result =
+        new ChunkedBlast(Arrays.asList("s1", "s2"), 1, chunkSender).send(1);
+
+    assertTrue(result.isDone());
+    assertEquals("not sent", result.join().getErrors().get("s2").getMessage());
+  }
+
+  @Test
+  void testManyChunksCompletedSynchronously() {
+    final List<String> streamIds = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      streamIds.add("s" + i);
+    }
+    when(chunkSender.apply(any())).thenThrow(new IllegalStateException("not sent"));
+
+    // each chunk completes before the next one is sent, which must not recurse through the chunks
+    final CompletableFuture<V4MessageBlastResponse> result = new ChunkedBlast(streamIds, 1, chunkSender).send(1);
+
+    assertTrue(result.isDone());
+    assertEquals(10_000, result.join().getErrors().size());
+    verify(chunkSender, times(10_000)).apply(any());
+  }
+
+  @Test
+  void testCompleteImmediatelyWithoutStreams() {
+    final CompletableFuture<V4MessageBlastResponse> result =
+        new ChunkedBlast(Collections.emptyList(), 2, chunkSender).send(2);
+
+    assertTrue(result.isDone());
+    verify(chunkSender, never()).apply(any());
+  }
+
+  private static V4MessageBlastResponse response(String... streamIds) {
+    final V4MessageBlastResponse response = new V4MessageBlastResponse();
+    for (String streamId : streamIds) {
+      response.addMessagesItem(new V4Message().messageId(streamId));
+    }
+    return response;
+  }
+}
@@ -0,0 +1,207 @@
+package com.symphony.bdk.core.service.message;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.symphony.bdk.core.service.message.model.Message;
+import com.symphony.bdk.core.service.message.model.OutboxRecord;
+import com.symphony.bdk.core.util.CompletableFutures;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiRuntimeException;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+class MessageOutboxTest {
+
+  private static final Message MESSAGE = Message.builder().content("Hello").build();
+
+  private BiFunction<String, Message, CompletableFuture<V4Message>> sender;
+  private OutboxRepository repository;
+  private MessageOutbox outbox;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    sender = mock(BiFunction.class);
+    repository = mock(OutboxRepository.class);
+    outbox = new MessageOutbox(sender, repository);
+  }
+
+  @Test
+  void testCompleteRecordOnceSent() {
+    final CompletableFuture<V4Message> sent = new CompletableFuture<>();
+    when(sender.apply(eq("stream"), any())).thenReturn(sent);
+
+    final CompletableFuture<V4Message> result = outbox.send("stream", MESSAGE);
+
+    final ArgumentCaptor<OutboxRecord> record = ArgumentCaptor.forClass(OutboxRecord.class);
+    verify(repository).add(record.capture());
+    verify(repository, never()).complete(any());
+    assertEquals("stream", record.getValue().getStreamId());
+
+    sent.complete(new V4Message());
+    assertTrue(result.isDone());
+    verify(repository).complete(record.getValue().getId());
+  }
+
+  @Test
+  void testKeepRecordWhenNotSent() {
+    when(sender.apply(eq("stream"), any())).thenReturn(
+        CompletableFutures.failedFuture(new ApiRuntimeException(new ApiException(503, "unavailable"))));
+
+    final CompletableFuture<V4Message> result = outbox.send("stream", MESSAGE);
+
+    assertTrue(result.isCompletedExceptionally());
+    verify(repository, never()).complete(any());
+  }
+
+  @Test
+  void testCompleteRecordWhenRejected() {
+    when(sender.apply(eq("stream"), any())).thenReturn(
+        CompletableFutures.failedFuture(new ApiRuntimeException(new ApiException(400, "invalid"))));
+
+    outbox.send("stream", MESSAGE);
+
+    verify(repository).complete(any());
+  }
+
+  @Test
+  void testNotSentWhenNotPersisted() {
+    doThrow(new UncheckedIOException(new IOException("disk full"))).when(repository).add(any());
+
+    final CompletableFuture<V4Message> result = outbox.send("stream", MESSAGE);
+
+    assertTrue(result.isCompletedExceptionally());
+    verify(sender, never()).apply(any(), any());
+  }
+
+  @Test
+  void testReplayPendingRecords() {
+    final OutboxRecord first = OutboxRecord.of("stream1", MESSAGE);
+    final OutboxRecord second = OutboxRecord.of("stream2", MESSAGE);
+    when(repository.pending()).thenReturn(Arrays.asList(first, second));
+    final CompletableFuture<V4Message> firstSent = new CompletableFuture<>();
+    final CompletableFuture<V4Message> secondSent = new CompletableFuture<>();
+    when(sender.apply(eq("stream1"), any())).thenReturn(firstSent);
+    when(sender.apply(eq("stream2"), any())).thenReturn(secondSent);
+
+    final CompletableFuture<Void> replayed = outbox.replay();
+    verify(sender).apply(eq("stream1"), any());
+    verify(sender).apply(eq("stream2"), any());
+    assertFalse(replayed.isDone());
+
+    firstSent.complete(new V4Message());
+    secondSent.completeExceptionally(new ApiRuntimeException(new ApiException(500, "error")));
+
+    assertTrue(replayed.isDone());
+    verify(repository).complete(first.getId());
+    verify(repository, never()).complete(second.getId());
+  }
+
+  @Test
+  void testNotReplayRecordsBeingPersisted() {
+    when(sender.apply(eq("stream"), any())).thenReturn(new CompletableFuture<>());
+    final AtomicReference<OutboxRecord> persisted = new AtomicReference<>();
+    when(repository.pending()).thenAnswer(invocation -> Collections.singletonList(persisted.get()));
+    // a replay running while the record is being persisted
+    doAnswer(invocation -> {
+      persisted.set(invocation.getArgument(0));
+      outbox.replay();
+      return null;
+    }).when(repository).add(any());
+
+    outbox.send("stream", MESSAGE);
+
+    verify(sender, times(1)).apply(eq("stream"), any());
+  }
+
+  @Test
+  void testNotReplayRecordsBeingCompleted() {
+    final CompletableFuture<V4Message> sent = new CompletableFuture<>();
+    when(sender.apply(eq("stream"), any())).thenReturn(sent);
+    final AtomicReference<OutboxRecord> persisted = new AtomicReference<>();
+    doAnswer(invocation -> {
+      persisted.set(invocation.getArgument(0));
+      return null;
+    }).when(repository).add(any());
+    when(repository.pending()).thenAnswer(invocation -> Collections.singletonList(persisted.get()));
+    // a replay running while the record is being completed
+    doAnswer(invocation -> {
+      outbox.replay();
+      return null;
+    }).when(repository).complete(any());
+
+    outbox.send("stream", MESSAGE);
+    sent.complete(new V4Message());
+
+    verify(sender, times(1)).apply(eq("stream"), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testBuildMessageForEachAttemptOfMessageService() throws IOException {
+    final MessageService messageService = mock(MessageService.class);
+    when(messageService.sendAsync(eq("stream"), any(Supplier.class))).thenReturn(new CompletableFuture<>());
+    final Message message = Message.builder().content("Hello")
+        .addAttachment(IOUtils.toInputStream("Attached file", StandardCharsets.UTF_8), "file.txt").build();
+
+    new MessageOutbox(messageService, repository).send("stream", message);
+
+    final ArgumentCaptor<Supplier<Message>> attempt = ArgumentCaptor.forClass(Supplier.class);
+    verify(messageService).sendAsync(eq("stream"), attempt.capture());
+    // each retry of the message service sends a new message, whose attachments have not been read yet
+    for (int i = 0; i < 2; i++) {
+      assertEquals("Attached file", IOUtils.toString(attempt.getValue().get().getAttachments().get(0).getContent(),
+          StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  void testNotReplayRecordsTwice() {
+    when(sender.apply(eq("stream"), any())).thenReturn(new CompletableFuture<>());
+    when(repository.pending()).thenReturn(Collections.singletonList(OutboxRecord.of("stream", MESSAGE)));
+
+    outbox.replay();
+    outbox.replay();
+
+    verify(sender, times(1)).apply(eq("stream"), any());
+  }
+
+  @Test
+  void testNotReplayRecordsInFlight() {
+    when(sender.apply(eq("stream"), any())).thenReturn(new CompletableFuture<>());
+
+    outbox.send("stream", MESSAGE);
+    final ArgumentCaptor<OutboxRecord> record = ArgumentCaptor.forClass(OutboxRecord.class);
+    verify(repository).add(record.capture());
+    when(repository.pending()).thenReturn(Collections.singletonList(record.getValue()));
+
+    outbox.replay();
+
+    verify(sender, times(1)).apply(eq("stream"), any());
+  }
+}
@@ -0,0 +1,214 @@
+package com.symphony.bdk.core.service.message;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.symphony.bdk.core.service.message.model.Message;
+import com.symphony.bdk.core.util.CompletableFutures;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiRuntimeException;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+class MessageSendQueueTest {
+
+  private static final Message MESSAGE = Message.builder().content("Hello").build();
+  private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+  private BiFunction<String, Message, CompletableFuture<V4Message>> sender;
+  private ScheduledExecutorService scheduler;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    sender = mock(BiFunction.class);
+    when(sender.apply(anyString(), any())).thenAnswer(invocation -> new CompletableFuture<>());
+    scheduler = mock(ScheduledExecutorService.class);
+  }
+
+  @Test
+  void testSendAtGlobalRate() {
+    final MessageSendQueue queue = builder().rate(10, 2).build();
+
+    for (int i = 0; i < 5; i++) {
+      queue.send("stream" + i, MESSAGE);
+    }
+    queue.dispatch();
+
+    // burst of 2, then one message every 100ms
+    verify(sender, times(2)).apply(anyString(), eq(MESSAGE));
+    assertEquals(3, queue.getQueueDepth());
+    verify(scheduler).schedule(any(Runnable.class), eq(100 * MILLIS), eq(TimeUnit.NANOSECONDS));
+
+    clock.addAndGet(100 * MILLIS);
+    queue.dispatch();
+    verify(sender, times(3)).apply(anyString(), eq(MESSAGE));
+    verify(sender).apply("stream2", MESSAGE);
+    assertEquals(2, queue.getQueueDepth());
+  }
+
+  @Test
+  void testLimitRatePerStream() {
+    final MessageSendQueue queue = builder().rate(100, 100).perStreamRate(1, 1).build();
+
+    queue.send("stream1", MESSAGE);
+    queue.send("stream1", MESSAGE);
+    queue.send("stream2", MESSAGE);
+    queue.dispatch();
+
+    verify(sender).apply("stream1", MESSAGE);
+    verify(sender).apply("stream2", MESSAGE);
+    assertEquals(1, queue.getQueueDepth("stream1"));
+    assertEquals(0, queue.getQueueDepth("stream2"));
+
+    clock.addAndGet(1000 * MILLIS);
+    queue.dispatch();
+    verify(sender, times(2)).apply("stream1", MESSAGE);
+  }
+
+  @Test
+  void testDecreaseRateAndSendAgainWhenThrottled() throws Exception {
+    final CompletableFuture<V4Message> throttled = new CompletableFuture<>();
+    final CompletableFuture<V4Message> sentAgain = new CompletableFuture<>();
+    when(sender.apply("stream", MESSAGE)).thenReturn(throttled, sentAgain);
+    final MessageSendQueue queue = builder().rate(10, 10).adaptation(1, 1, 0.5).build();
+
+    final CompletableFuture<V4Message> result = queue.send("stream", MESSAGE);
+    queue.dispatch();
+    throttled.completeExceptionally(new ApiRuntimeException(new ApiException(429, "throttled")));
+
+    assertEquals(5, queue.getRate());
+    assertEquals(1, queue.getQueueDepth());
+    assertFalse(result.isDone());
+
+    queue.dispatch();
+    final V4Message sent = new V4Message().messageId("id");
+    sentAgain.complete(sent);
+
+    assertEquals(sent, result.get(1, TimeUnit.SECONDS));
+    // additive increase of 1 message per second, shared by the 5 messages sent per second
+    assertEquals(5.2, queue.getRate(), 0.001);
+  }
+
+  @Test
+  void testDecreaseRateOnceForMessagesThrottledTogether() {
+    final CompletableFuture<V4Message> first = new CompletableFuture<>();
+    final CompletableFuture<V4Message> second = new CompletableFuture<>();
+    when(sender.apply("stream1", MESSAGE)).thenReturn(first);
+    when(sender.apply("stream2", MESSAGE)).thenReturn(second);
+    final MessageSendQueue queue = builder().rate(10, 10).build();
+
+    queue.send("stream1", MESSAGE);
+    queue.send("stream2", MESSAGE);
+    queue.dispatch();
+    first.completeExceptionally(new ApiRuntimeException(new ApiException(429, "")));
+    second.completeExceptionally(new ApiRuntimeException(new ApiException(429, "")));
+
+    assertEquals(5, queue.getRate());
+  }
+
+  @Test
+  void testSendAttachmentsAgainWhenThrottled() {
+    final Message message = Message.builder().content("Hello")
+        .addAttachment(IOUtils.toInputStream("Attached file", StandardCharsets.UTF_8), "file.txt").build();
+    final List<String> sentContents = new ArrayList<>();
+    final CompletableFuture<V4Message> throttled = new CompletableFuture<>();
+    when(sender.apply(eq("stream"), any())).thenAnswer(invocation -> {
+      final Message sent = invocation.getArgument(1);
+      sentContents.add(IOUtils.toString(sent.getAttachments().get(0).getContent(), StandardCharsets.UTF_8));
+      return sentContents.size() == 1 ? throttled : new CompletableFuture<>();
+    });
+    final MessageSendQueue queue = builder().rate(10, 10).build();
+
+    queue.send("stream", message);
+    queue.dispatch();
+    throttled.completeExceptionally(new ApiRuntimeException(new ApiException(429, "throttled")));
+    queue.dispatch();
+
+    assertEquals(Arrays.asList("Attached file", "Attached file"), sentContents);
+  }
+
+  @Test
+  void testFailOnOtherErrors() {
+    when(sender.apply("stream", MESSAGE)).thenReturn(
+        CompletableFutures.failedFuture(new ApiRuntimeException(new ApiException(400, "error"))));
+    final MessageSendQueue queue = builder().build();
+
+    final CompletableFuture<V4Message> result = queue.send("stream", MESSAGE);
+    queue.dispatch();
+
+    final ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+    assertTrue(e.getCause() instanceof ApiRuntimeException);
+    assertEquals(10, queue.getRate());
+  }
+
+  @Test
+  void testRejectWhenFull() {
+    final MessageSendQueue queue = builder().maxQueueDepth(1).build();
+
+    queue.send("stream", MESSAGE);
+    final CompletableFuture<V4Message> rejected = queue.send("stream", MESSAGE);
+
+    final ExecutionException e = assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+    assertTrue(e.getCause() instanceof RejectedExecutionException);
+    assertEquals(1, queue.getQueueDepth());
+  }
+
+  @Test
+  void testFailPendingMessagesOnClose() {
+    final MessageSendQueue queue = builder().build();
+
+    final CompletableFuture<V4Message> pending = queue.send("stream", MESSAGE);
+    queue.close();
+
+    assertTrue(pending.isCompletedExceptionally());
+    assertTrue(queue.send("stream", MESSAGE).isCompletedExceptionally());
+    assertEquals(0, queue.getQueueDepth());
+    verify(scheduler).shutdownNow();
+  }
+
+  @Test
+  void testScheduleDispatchOnSend() {
+    builder().build().send("stream", MESSAGE);
+
+    verify(scheduler).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.NANOSECONDS));
+  }
+
+  @Test
+  void testValidateBuilderValues() {
+    assertThrows(IllegalArgumentException.class, () -> builder().rate(0, 1));
+    assertThrows(IllegalArgumentException.class, () -> builder().perStreamRate(1, 0));
+    assertThrows(IllegalArgumentException.class, () -> builder().adaptation(1, 1, 1));
+    assertThrows(IllegalArgumentException.class, () -> builder().maxQueueDepth(0));
+  }
+
+  private MessageSendQueue.MessageSendQueueBuilder builder() {
+    return MessageSendQueue.builder(sender).nanoClock(clock::get).scheduler(scheduler);
+  }
+}
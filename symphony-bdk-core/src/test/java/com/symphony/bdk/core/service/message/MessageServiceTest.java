@@ -3,10 +3,12 @@ package com.symphony.bdk.core.service.message;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -17,6 +19,7 @@ import static org.mockito.Mockito.when;
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 import com.symphony.bdk.core.service.message.exception.MessageCreationException;
+import com.symphony.bdk.core.service.message.model.BlastAttribute;
 import com.symphony.bdk.core.service.message.model.Message;
 import com.symphony.bdk.core.service.pagination.model.PaginationAttribute;
 import com.symphony.bdk.core.service.stream.constant.AttachmentSort;
@@ -59,6 +62,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Arrays;
@@ -66,6 +70,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -191,6 +198,83 @@ class MessageServiceTest {
     assertEquals("gXFV8vN37dNqjojYS_y2wX___o2KxfmUdA", sentMessage.getStream().getStreamId());
   }
 
+  @Test
+  void testSendAsync() throws Exception {
+    mockApiClient.onPost(V4_STREAM_MESSAGE_CREATE.replace("{sid}", STREAM_ID),
+        JsonHelper.readFromClasspath("/message/send_message.json"));
+
+    final V4Message sentMessage = messageService.sendAsync(STREAM_ID, MESSAGE).get(5, TimeUnit.SECONDS);
+
+    assertEquals(MESSAGE_ID, sentMessage.getMessageId());
+    assertEquals("gXFV8vN37dNqjojYS_y2wX___o2KxfmUdA", sentMessage.getStream().getStreamId());
+  }
+
+  @Test
+  void testSendAsyncRunsOnGivenExecutor() throws Exception {
+    mockApiClient.onPost(V4_STREAM_MESSAGE_CREATE.replace("{sid}", STREAM_ID),
+        JsonHelper.readFromClasspath("/message/send_message.json"));
+    final Executor executor = mock(Executor.class);
+    doAnswer(invocation -> {
+      invocation.getArgument(0, Runnable.class).run();
+      return null;
+    }).when(executor).execute(any());
+
+    messageService = new MessageService(messagesApi, messageApi, messageSuppressionApi, streamsApi, podApi,
+        attachmentsApi, defaultApi, authSession, templateEngine, new RetryWithRecoveryBuilder<>(), executor);
+
+    assertEquals(MESSAGE_ID, messageService.sendAsync(STREAM_ID, MESSAGE).get(5, TimeUnit.SECONDS).getMessageId());
+    verify(executor).execute(any());
+  }
+
+  @Test
+  void nonOboAsyncEndpointShouldThrowExceptionInOboMode() {
+    messageService = new MessageService(messagesApi, messageApi, messageSuppressionApi, streamsApi, podApi,
+        attachmentsApi, defaultApi, templateEngine, new RetryWithRecoveryBuilder<>());
+
+    assertThrows(IllegalStateException.class, () -> messageService.getMessageAsync("message.id"));
+  }
+
+  @Test
+  void testSendBlastInChunks() throws IOException {
+    mockApiClient.onPost(V4_BLAST_MESSAGE, JsonHelper.readFromClasspath("/message/blast_message.json"));
+    messageService = new MessageService(messagesApi, messageApi, messageSuppressionApi, streamsApi, podApi,
+        attachmentsApi, defaultApi, authSession, templateEngine, new RetryWithRecoveryBuilder<>(), Runnable::run);
+
+    final Message message = Message.builder()
+        .content("<messageML>Hello world</messageML>")
+        .addAttachment(IOUtils.toInputStream("Attached file", StandardCharsets.UTF_8), "file.txt")
+        .build();
+    final V4MessageBlastResponse blastResponse =
+        messageService.send(Arrays.asList("sid1", "sid2", "sid3"), message, new BlastAttribute(2, 2));
+
+    // each of the 2 chunks gets the 2 messages of the mocked response
+    assertEquals(4, blastResponse.getMessages().size());
+  }
+
+  @Test
+  void testSendBlastInChunksWithFileAttachment(@TempDir Path tmpDir) throws IOException {
+    final Path report = tmpDir.resolve("report.csv");
+    Files.write(report, "Attached file".getBytes(StandardCharsets.UTF_8));
+    mockApiClient.onPost(V4_BLAST_MESSAGE, JsonHelper.readFromClasspath("/message/blast_message.json"));
+    messageService = new MessageService(messagesApi, messageApi, messageSuppressionApi, streamsApi, podApi,
+        attachmentsApi, defaultApi, authSession, templateEngine, new RetryWithRecoveryBuilder<>(), Runnable::run);
+
+    final Message message = Message.builder()
+        .content("<messageML>Hello world</messageML>")
+        .addAttachment(report)
+        .build();
+    final V4MessageBlastResponse blastResponse =
+        messageService.send(Arrays.asList("sid1", "sid2", "sid3"), message, new BlastAttribute(2, 2));
+
+    assertEquals(4, blastResponse.getMessages().size());
+  }
+
+  @Test
+  void testBlastAttributeShouldBePositive() {
+    assertThrows(IllegalArgumentException.class, () -> new BlastAttribute(0, 1));
+    assertThrows(IllegalArgumentException.class, () -> new BlastAttribute(1, 0));
+  }
+
   @Test
   void testSendWithStreamObjectCallsSendWithStreamId() {
     MessageService service = spy(messageService);
@@ -316,6 +400,16 @@ class MessageServiceTest {
     assertThrows(ApiRuntimeException.class, () -> messageService.getAttachment(STREAM_ID, MESSAGE_ID, "attachmentId"));
   }
 
+  @Test
+  void testGetAttachmentAsyncThrowingApiException() throws ApiException {
+    doThrow(new ApiException(400, "error")).when(attachmentsApi)
+        .v1StreamSidAttachmentGet(any(), any(), any(), any(), any());
+
+    final ExecutionException e = assertThrows(ExecutionException.class,
+        () -> messageService.getAttachmentAsync(STREAM_ID, MESSAGE_ID, "attachmentId").get(5, TimeUnit.SECONDS));
+    assertTrue(e.getCause() instanceof ApiRuntimeException);
+  }
+
   @Test
   void testImportMessage() throws IOException {
     mockApiClient.onPost(V4_MESSAGE_IMPORT, JsonHelper.readFromClasspath("/message/import_message.json"));
@@ -368,6 +462,15 @@ class MessageServiceTest {
     assertEquals("gXFV8vN37dNqjojYS_y2wX___o2KxfmUdA", message.getStream().getStreamId());
   }
 
+  @Test
+  void testGetMessageAsync() throws Exception {
+    mockApiClient.onGet(V1_MESSAGE_GET.replace("{id}", MESSAGE_ID),
+        JsonHelper.readFromClasspath("/message/get_message.json"));
+
+    final V4Message message = messageService.getMessageAsync(MESSAGE_ID).get(5, TimeUnit.SECONDS);
+    assertEquals("E_U_0jnuzmQcBOr1CIGPqX___ouMNdY5bQ", message.getMessageId());
+  }
+
   @Test
   void testListAttachments() throws IOException {
     mockApiClient.onGet(V1_STREAM_ATTACHMENTS.replace("{sid}", STREAM_ID),
@@ -453,6 +556,23 @@ class MessageServiceTest {
 
   }
 
+  @Test
+  @ExtendWith(BdkMockServerExtension.class)
+  void testDoSendWithFileAttachmentAndPreview(final BdkMockServer mockServer, @TempDir Path tmpDir)
+      throws IOException, ApiException {
+    final Path report = tmpDir.resolve("report.csv");
+    final Path preview = tmpDir.resolve("report.png");
+    Files.write(report, "Attached file".getBytes(StandardCharsets.UTF_8));
+    Files.write(preview, "Preview file".getBytes(StandardCharsets.UTF_8));
+    final Message message = Message.builder()
+        .content("<MessageML>Hello world</MessageML>")
+        .addAttachment(report, preview)
+        .build();
+
+    assertInvokeApiCalledWithCorrectParams(mockServer, message,
+        Collections.singletonList("report.csv"), Collections.singletonList("preview-report.csv"));
+  }
+
   @Test
   @ExtendWith(BdkMockServerExtension.class)
   void testDoSendWithAttachmentAndPreview(final BdkMockServer mockServer) throws IOException, ApiException {
@@ -0,0 +1,137 @@
+package com.symphony.bdk.core.service.message;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.symphony.bdk.core.service.message.model.Message;
+import com.symphony.bdk.core.service.message.model.OutboxRecord;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+class OnDiskOutboxRepositoryTest {
+
+  @Test
+  void shouldReadPendingRecordsAfterRestart(@TempDir Path tmpDir) {
+    final Path file = tmpDir.resolve("outbox.log");
+    final OnDiskOutboxRepository repository = new OnDiskOutboxRepository(file);
+    final OutboxRecord first = record("stream1");
+    final OutboxRecord second = record("stream2");
+    repository.add(first);
+    repository.add(second);
+    repository.complete(first.getId());
+
+    final List<OutboxRecord> pending = new OnDiskOutboxRepository(file).pending();
+
+    assertEquals(1, pending.size());
+    assertEquals(second.getId(), pending.get(0).getId());
+    assertEquals("stream2", pending.get(0).getStreamId());
+    assertEquals(second.getContent(), pending.get(0).getContent());
+    assertNull(pending.get(0).getData());
+  }
+
+  @Test
+  void shouldTruncateFileOnceAllRecordsCompleted(@TempDir Path tmpDir) throws IOException {
+    final Path file = tmpDir.resolve("outbox.log");
+    final OnDiskOutboxRepository repository = new OnDiskOutboxRepository(file);
+    final OutboxRecord record = record("stream");
+    repository.add(record);
+    repository.complete(record.getId());
+
+    assertEquals(0, Files.size(file));
+    assertTrue(repository.pending().isEmpty());
+  }
+
+  @Test
+  void shouldCompactFileWhenReadingPendingRecords(@TempDir Path tmpDir) throws IOException {
+    final Path file = tmpDir.resolve("outbox.log");
+    final OnDiskOutboxRepository repository = new OnDiskOutboxRepository(file);
+    final OutboxRecord completed = record("stream1");
+    repository.add(completed);
+    repository.add(record("stream2"));
+    repository.complete(completed.getId());
+
+    assertEquals(1, repository.pending().size());
+    assertEquals(1, Files.readAllLines(file).size());
+
+    // still appending after the compaction
+    repository.add(record("stream3"));
+    assertEquals(2, new OnDiskOutboxRepository(file).pending().size());
+  }
+
+  @Test
+  void shouldSkipPartiallyWrittenLine(@TempDir Path tmpDir) throws IOException {
+    final Path file = tmpDir.resolve("outbox.log");
+    new OnDiskOutboxRepository(file).add(record("stream"));
+    Files.write(file, "{\"op\":\"add\",\"rec".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+    assertEquals(1, new OnDiskOutboxRepository(file).pending().size());
+  }
+
+  @Test
+  void shouldKeepAttachmentsAndData(@TempDir Path tmpDir) throws IOException {
+    final Path file = tmpDir.resolve("outbox.log");
+    final Message message = Message.builder()
+        .content("<messageML>Hello</messageML>")
+        .data(Collections.singletonMap("key", "value"))
+        .addAttachment(IOUtils.toInputStream("Attached file", StandardCharsets.UTF_8),
+            IOUtils.toInputStream("Preview file", StandardCharsets.UTF_8), "file.txt")
+        .build();
+    new OnDiskOutboxRepository(file).add(OutboxRecord.of("stream", message));
+
+    final OutboxRecord record = new OnDiskOutboxRepository(file).pending().get(0);
+    assertEquals(Collections.singletonList("file.txt"), record.getAttachmentNames());
+    assertArrayEquals("Attached file".getBytes(StandardCharsets.UTF_8), record.getAttachments().get(0));
+    assertArrayEquals("Preview file".getBytes(StandardCharsets.UTF_8), record.getPreviews().get(0));
+
+    final Message replayed = record.toMessage();
+    assertEquals(message.getData(), replayed.getData());
+    assertEquals("file.txt", replayed.getAttachments().get(0).getFilename());
+    assertEquals("Attached file", IOUtils.toString(replayed.getAttachments().get(0).getContent(),
+        StandardCharsets.UTF_8));
+    assertEquals("preview-file.txt", replayed.getPreviews().get(0).getFilename());
+  }
+
+  @Test
+  void shouldKeepFileAttachmentsByPath(@TempDir Path tmpDir) throws IOException {
+    final Path file = tmpDir.resolve("outbox.log");
+    final Path attachment = Files.write(tmpDir.resolve("report.txt"), "Attached file".getBytes(StandardCharsets.UTF_8));
+    final Path preview = Files.write(tmpDir.resolve("report.png"), "Preview file".getBytes(StandardCharsets.UTF_8));
+    new OnDiskOutboxRepository(file).add(OutboxRecord.of("stream",
+        Message.builder().content("<messageML>Hello</messageML>").addAttachment(attachment, preview).build()));
+
+    // only the paths are persisted, the files being read when the message is sent
+    assertFalse(new String(Files.readAllBytes(file), StandardCharsets.UTF_8)
+        .contains(Base64.getEncoder().encodeToString("Attached file".getBytes(StandardCharsets.UTF_8))));
+    final OutboxRecord record = new OnDiskOutboxRepository(file).pending().get(0);
+    assertNull(record.getAttachments().get(0));
+    assertEquals(attachment.toAbsolutePath(), record.getAttachmentPaths().get(0));
+    assertEquals(preview.toAbsolutePath(), record.getPreviewPaths().get(0));
+
+    final Message replayed = record.toMessage();
+    assertEquals("report.txt", replayed.getAttachments().get(0).getFilename());
+    try (InputStream content = replayed.getAttachments().get(0).openContent();
+        InputStream previewContent = replayed.getPreviews().get(0).openContent()) {
+      assertEquals("Attached file", IOUtils.toString(content, StandardCharsets.UTF_8));
+      assertEquals("Preview file", IOUtils.toString(previewContent, StandardCharsets.UTF_8));
+    }
+  }
+
+  private static OutboxRecord record(String streamId) {
+    return OutboxRecord.of(streamId, Message.builder().content("Hello " + streamId).build());
+  }
+}
@@ -1,11 +1,20 @@
 package com.symphony.bdk.core.service.message.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.symphony.bdk.core.service.message.exception.MessageCreationException;
 
+import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 class MessageTest {
 
@@ -28,4 +37,34 @@ class MessageTest {
   void checkMessageMLNotAppendedToContentIfSet() {
     assertEquals("<messageML>hello</messageML>", Message.builder().content("<messageML>hello</messageML>").build().getContent());
   }
+
+  @Test
+  void checkFileAttachmentIsReadFromTheFileEachTime(@TempDir Path tmpDir) throws IOException {
+    final Path report = tmpDir.resolve("report.csv");
+    Files.write(report, "a,b".getBytes(StandardCharsets.UTF_8));
+
+    final Attachment attachment = Message.builder().content("hello").addAttachment(report).build()
+        .getAttachments().get(0);
+
+    assertEquals("report.csv", attachment.getFilename());
+    assertEquals(report, attachment.getPath());
+    assertNull(attachment.getContent());
+    for (int i = 0; i < 2; i++) {
+      try (InputStream content = attachment.openContent()) {
+        assertEquals("a,b", IOUtils.toString(content, StandardCharsets.UTF_8));
+      }
+    }
+  }
+
+  @Test
+  void checkStreamAttachmentHasNoPath() {
+    final Attachment attachment = new Attachment(IOUtils.toInputStream("a,b", StandardCharsets.UTF_8), "report.csv");
+
+    assertNull(attachment.getPath());
+  }
+
+  @Test
+  void cannotCreateFileAttachmentWithoutExtension(@TempDir Path tmpDir) {
+    assertThrows(MessageCreationException.class, () -> Message.builder().addAttachment(tmpDir.resolve("report")));
+  }
 }
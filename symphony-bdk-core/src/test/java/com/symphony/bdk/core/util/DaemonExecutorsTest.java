@@ -0,0 +1,87 @@
+package com.symphony.bdk.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+class DaemonExecutorsTest {
+
+  @Test
+  void testSharedPool() {
+    final ExecutorService pool = DaemonExecutors.sharedPool("Test_Pool", 2);
+
+    assertSame(pool, DaemonExecutors.sharedPool("Test_Pool", 2));
+    assertNotSame(pool, DaemonExecutors.sharedPool("Test_Pool", 3));
+    assertEquals(2, ((ThreadPoolExecutor) pool).getMaximumPoolSize());
+  }
+
+  @Test
+  void testSharedScheduler() {
+    assertSame(DaemonExecutors.sharedScheduler("Test_Scheduler"), DaemonExecutors.sharedScheduler("Test_Scheduler"));
+  }
+
+  @Test
+  void testNewSchedulerNotShared() throws Exception {
+    final ScheduledExecutorService scheduler = DaemonExecutors.newScheduler("Test_New_Scheduler");
+    try {
+      assertNotSame(scheduler, DaemonExecutors.newScheduler("Test_New_Scheduler"));
+      final Thread thread = scheduler.submit(Thread::currentThread).get();
+
+      assertTrue(thread.isDaemon());
+      assertEquals("Test_New_Scheduler", thread.getName());
+    } finally {
+      scheduler.shutdown();
+    }
+  }
+
+  @Test
+  void testNewBoundedPoolRunsDaemonThreads() {
+    final ExecutorService pool = DaemonExecutors.newBoundedPool("Test_Bounded", 1);
+    try {
+      final Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, pool).join();
+
+      assertTrue(thread.isDaemon());
+      assertEquals("Test_Bounded-1", thread.getName());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testNewBoundedPoolRejectsTasksAboveQueueCapacity() {
+    final ExecutorService pool = DaemonExecutors.newBoundedPool("Test_Capacity", 1, 1);
+    final CountDownLatch release = new CountDownLatch(1);
+    try {
+      pool.execute(() -> {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      pool.execute(() -> {});
+
+      assertThrows(RejectedExecutionException.class, () -> pool.execute(() -> {}));
+    } finally {
+      release.countDown();
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testNewBoundedPoolInvalidMaxThreads() {
+    assertThrows(IllegalArgumentException.class, () -> DaemonExecutors.newBoundedPool("Test_Invalid", 0));
+    assertThrows(IllegalArgumentException.class, () -> DaemonExecutors.newBoundedPool("Test_Invalid", 1, 0));
+  }
+}
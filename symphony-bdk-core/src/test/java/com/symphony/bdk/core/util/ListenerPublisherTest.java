@@ -0,0 +1,42 @@
+package com.symphony.bdk.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+class ListenerPublisherTest {
+
+  @Test
+  void testPublishIgnoresFailingListeners() {
+    final List<String> notified = new ArrayList<>();
+    final ListenerPublisher<Consumer<String>> publisher = new ListenerPublisher<>();
+    publisher.add(value -> {
+      throw new IllegalStateException("failure");
+    });
+    publisher.add(notified::add);
+
+    publisher.publish(listener -> listener.accept("event"));
+
+    assertEquals(1, notified.size());
+    assertEquals("event", notified.get(0));
+  }
+
+  @Test
+  void testAddAndRemove() {
+    final ListenerPublisher<Consumer<String>> publisher = new ListenerPublisher<>();
+    final Consumer<String> listener = value -> {};
+    assertFalse(publisher.isEnabled());
+
+    publisher.add(listener);
+    assertTrue(publisher.isEnabled());
+
+    publisher.remove(listener);
+    assertFalse(publisher.isEnabled());
+  }
+}
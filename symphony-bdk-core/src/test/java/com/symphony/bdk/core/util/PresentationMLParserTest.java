@@ -5,10 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
+import com.symphony.bdk.core.service.message.util.PresentationMLContent;
 import com.symphony.bdk.core.service.message.util.PresentationMLParser;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 public class PresentationMLParserTest {
 
   @Test
@@ -56,4 +59,49 @@ public class PresentationMLParserTest {
 
     assertThrows(PresentationMLParserException.class, () -> PresentationMLParser.getTextContent(presentationML));
   }
+
+  @Test
+  void getMessageWithEntitiesFromPresentationML() throws PresentationMLParserException {
+    String presentationML = "<div data-format=\"PresentationML\" data-version=\"2.0\">"
+        + "<span class=\"entity\" data-entity-id=\"0\">@John</span> buy "
+        + "<span class=\"entity\" data-entity-id=\"1\">$AAPL</span> &amp; <![CDATA[<sell>]]> "
+        + "</div>";
+
+    PresentationMLContent content = PresentationMLParser.parse(presentationML);
+
+    assertEquals("@John buy $AAPL & <sell>", content.getTextContent());
+    assertEquals(Arrays.asList("0", "1"), content.getEntityIds());
+    assertEquals(content.getTextContent(), PresentationMLParser.getTextContent(presentationML));
+  }
+
+  @Test
+  void getMessageFromPresentationMLWithTable() throws PresentationMLParserException {
+    StringBuilder presentationML = new StringBuilder("<div data-format=\"PresentationML\" data-version=\"2.0\"><table>");
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 5000; i++) {
+      presentationML.append("<tr><td>").append(i).append("</td></tr>");
+      expected.append(i);
+    }
+    presentationML.append("</table></div>");
+
+    assertEquals(expected.toString(), PresentationMLParser.getTextContent(presentationML.toString()));
+    // the buffer grown by the large message is not reused as is
+    assertEquals("small", PresentationMLParser.getTextContent("<div> small </div>"));
+  }
+
+  @Test
+  void appendMessageFromPresentationML() throws PresentationMLParserException {
+    StringBuilder buffer = new StringBuilder("text:");
+
+    PresentationMLParser.appendTextContent("<div><p>Hello</p> <p>World</p></div>", buffer);
+
+    assertEquals("text:Hello World", buffer.toString());
+  }
+
+  @Test
+  void parseMessageFromInvalidPresentationMLFailed() {
+    String presentationML = "<div data-format=\"PresentationML\" data-version=\"2.0\">text</div>trailing";
+
+    assertThrows(PresentationMLParserException.class, () -> PresentationMLParser.parse(presentationML));
+  }
 }
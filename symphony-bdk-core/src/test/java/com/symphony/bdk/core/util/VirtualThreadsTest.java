@@ -0,0 +1,41 @@
+package com.symphony.bdk.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+class VirtualThreadsTest {
+
+  private static final boolean JVM_SUPPORTS_VIRTUAL_THREADS = Arrays.stream(Executors.class.getMethods())
+      .anyMatch(m -> m.getName().equals("newVirtualThreadPerTaskExecutor"));
+
+  @Test
+  void testIsSupported() {
+    assertEquals(JVM_SUPPORTS_VIRTUAL_THREADS, VirtualThreads.isSupported());
+  }
+
+  @Test
+  void testNewVirtualThreadPerTaskExecutor() {
+    final Optional<ExecutorService> executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+
+    if (!JVM_SUPPORTS_VIRTUAL_THREADS) {
+      assertFalse(executor.isPresent());
+      return;
+    }
+
+    assertTrue(executor.isPresent());
+    try {
+      assertEquals("done", CompletableFuture.supplyAsync(() -> "done", executor.get()).join());
+    } finally {
+      executor.get().shutdown();
+    }
+  }
+}
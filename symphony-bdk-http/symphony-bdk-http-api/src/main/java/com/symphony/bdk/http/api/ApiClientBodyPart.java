@@ -1,19 +1,39 @@
 package com.symphony.bdk.http.api;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.apiguardian.api.API;
 
+import java.io.File;
 import java.io.InputStream;
 
 /**
- *
+ * Part of a multipart request, either read from an input stream or streamed from a file whose length is known.
  */
 @Getter
-@AllArgsConstructor
 @API(status = API.Status.INTERNAL)
 public class ApiClientBodyPart {
 
   private final InputStream content;
+  private final File file;
   private final String filename;
+
+  /**
+   * @param content  the part content, read once.
+   * @param filename the filename of the part.
+   */
+  public ApiClientBodyPart(InputStream content, String filename) {
+    this.content = content;
+    this.file = null;
+    this.filename = filename;
+  }
+
+  /**
+   * @param file     the file the part content is streamed from, without being loaded in memory.
+   * @param filename the filename of the part, which may differ from the name of the file.
+   */
+  public ApiClientBodyPart(File file, String filename) {
+    this.content = null;
+    this.file = file;
+    this.filename = filename;
+  }
 }
@@ -17,6 +17,7 @@ import org.glassfish.jersey.media.multipart.MultiPartMediaTypes;
 import org.glassfish.jersey.media.multipart.file.StreamDataBodyPart;
 
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
@@ -132,7 +133,9 @@ public class ApiClientJersey2 implements ApiClient {
     Entity<?> entity =
         (body == null && formParams == null) ? Entity.json("") : this.serialize(body, formParams, contentType);
 
-    try(Response response = getResponse(invocationBuilder, method, entity)){
+    final Response response = getResponse(invocationBuilder, method, entity);
+    boolean responseStreamed = false;
+    try {
 
       int statusCode = response.getStatusInfo().getStatusCode();
       Map<String, List<String>> responseHeaders = buildResponseHeaders(response);
@@ -147,6 +150,10 @@ public class ApiClientJersey2 implements ApiClient {
       } else if (response.getStatusInfo().getFamily() == Status.Family.SUCCESSFUL) {
         if (genericReturnType == null) {
           return new ApiResponse<>(statusCode, responseHeaders);
+        } else if (genericReturnType.getRawType() == InputStream.class) {
+          // the response is closed with the returned stream, once read by the caller
+          responseStreamed = true;
+          return new ApiResponse<>(statusCode, responseHeaders, (T) streamEntity(response));
         } else {
           return new ApiResponse<>(statusCode, responseHeaders, deserialize(response, genericReturnType));
         }
@@ -167,9 +174,32 @@ public class ApiClientJersey2 implements ApiClient {
             buildResponseHeaders(response),
             respBody);
       }
+    } finally {
+      if (!responseStreamed) {
+        response.close();
+      }
     }
   }
 
+  /**
+   * Gives access to the entity stream of a response, the response being closed with the returned stream.
+   *
+   * @param response Response
+   * @return the entity stream
+   */
+  private InputStream streamEntity(final Response response) {
+    return new FilterInputStream(response.readEntity(InputStream.class)) {
+      @Override
+      public void close() throws IOException {
+        try {
+          super.close();
+        } finally {
+          response.close();
+        }
+      }
+    };
+  }
+
   private Response getResponse(Invocation.Builder invocationBuilder, String method, Entity<?> entity) throws ApiException {
     try {
       switch(method) {
@@ -399,15 +429,13 @@ public class ApiClientJersey2 implements ApiClient {
       // if part is a ApiClientBodyPart[]
       else if (param.getValue() instanceof ApiClientBodyPart[]) {
         for (ApiClientBodyPart attachment : (ApiClientBodyPart[]) param.getValue()) {
-          final StreamDataBodyPart streamPart = new StreamDataBodyPart(param.getKey(), attachment.getContent(), attachment.getFilename());
-          multiPart = (FormDataMultiPart) multiPart.bodyPart(streamPart);
+          multiPart = (FormDataMultiPart) multiPart.bodyPart(toBodyPart(param.getKey(), attachment));
         }
       }
       // if part is a single ApiClientBodyPart
       else if (param.getValue() instanceof ApiClientBodyPart) {
         final ApiClientBodyPart part = (ApiClientBodyPart) param.getValue();
-        final StreamDataBodyPart streamPart = new StreamDataBodyPart(param.getKey(), part.getContent(), part.getFilename());
-        multiPart = (FormDataMultiPart) multiPart.bodyPart(streamPart);
+        multiPart = (FormDataMultiPart) multiPart.bodyPart(toBodyPart(param.getKey(), part));
       }
       else {
         multiPart = multiPart.field(param.getKey(), this.parameterToString(param.getValue()));
@@ -417,6 +445,21 @@ public class ApiClientJersey2 implements ApiClient {
     return Entity.entity(multiPart, MultiPartMediaTypes.createFormData());
   }
 
+  /**
+   * File parts are streamed from the disk by Jersey with their length, instead of being read in memory.
+   */
+  private static FormDataBodyPart toBodyPart(String name, ApiClientBodyPart part) {
+    if (part.getFile() == null) {
+      return new StreamDataBodyPart(name, part.getContent(), part.getFilename());
+    }
+    final FormDataContentDisposition contentDisposition = FormDataContentDisposition
+        .name(name)
+        .fileName(part.getFilename())
+        .size(part.getFile().length())
+        .build();
+    return new FormDataBodyPart(contentDisposition, part.getFile(), MediaType.APPLICATION_OCTET_STREAM_TYPE);
+  }
+
   /**
    * Deserialize response body to Java object according to the Content-Type.
    *
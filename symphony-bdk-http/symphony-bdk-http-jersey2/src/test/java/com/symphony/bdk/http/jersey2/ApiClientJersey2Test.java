@@ -0,0 +1,70 @@
+package com.symphony.bdk.http.jersey2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiClientBodyPart;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.HttpRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import javax.ws.rs.core.MediaType;
+
+class ApiClientJersey2Test {
+
+  private ClientAndServer mockServer;
+  private ApiClient apiClient;
+
+  @BeforeEach
+  void setUp() {
+    this.mockServer = startClientAndServer();
+    this.apiClient = new ApiClientBuilderJersey2()
+        .withBasePath("http://localhost:" + this.mockServer.getPort())
+        .build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.mockServer.stop();
+  }
+
+  @Test
+  void testInvokeApiWithFileBodyPart(@TempDir Path tempDir) throws ApiException, IOException {
+    final Path file = Files.write(tempDir.resolve("tempFile"), "file content".getBytes(StandardCharsets.UTF_8));
+    this.mockServer.when(request().withMethod("POST").withPath("/test-api")).respond(response().withStatusCode(200));
+
+    final ApiResponse<Void> response = this.apiClient.invokeAPI("/test-api", "POST", null, null,
+        Collections.singletonMap("sessionToken", "test-token"), null,
+        Collections.singletonMap("attachment", new ApiClientBodyPart[] {
+            new ApiClientBodyPart(file.toFile(), "report.csv"),
+            new ApiClientBodyPart(new ByteArrayInputStream("stream content".getBytes(StandardCharsets.UTF_8)),
+                "other.csv")}),
+        null, MediaType.MULTIPART_FORM_DATA, new String[] {}, null);
+
+    assertEquals(200, response.getStatusCode());
+    final HttpRequest[] requests = this.mockServer.retrieveRecordedRequests(request().withPath("/test-api"));
+    assertEquals(1, requests.length);
+    final String body = requests[0].getBodyAsString();
+    assertTrue(body.contains("filename=\"report.csv\""));
+    assertTrue(body.contains("file content"));
+    assertTrue(body.contains("filename=\"other.csv\""));
+    assertTrue(body.contains("stream content"));
+  }
+}
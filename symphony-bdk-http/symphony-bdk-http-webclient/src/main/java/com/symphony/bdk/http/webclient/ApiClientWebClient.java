@@ -11,8 +11,11 @@ import com.symphony.bdk.http.api.util.TypeReference;
 import io.netty.channel.ConnectTimeoutException;
 import org.apiguardian.api.API;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -27,6 +30,7 @@ import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 
 import java.io.File;
+import java.io.InputStream;
 import java.net.SocketTimeoutException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -175,6 +179,11 @@ public class ApiClientWebClient implements ApiClient {
       if (returnType == null) {
         return Mono.just(
             new ApiResponse<>(response.statusCode().value(), headers));
+      } else if (returnType.getType() == InputStream.class) {
+        // the body is kept in the network buffers, released once the returned stream is closed by the caller
+        Mono<DataBuffer> body = DataBufferUtils.join(response.bodyToFlux(DataBuffer.class));
+        return body.map(buffer -> new ApiResponse<>(response.statusCode().value(), headers,
+            (T) buffer.asInputStream(true)));
       } else {
         if (returnType.getType() instanceof Class) {
           Class<T> clazz = (Class<T>) returnType.getType();
@@ -231,9 +240,14 @@ public class ApiClientWebClient implements ApiClient {
   private void serializeApiClientBodyPart(String paramKey, ApiClientBodyPart bodyPart,
       MultiValueMap<String, Object> formValueMap) {
 
+    // a file resource is streamed from the disk with its known length
+    final Resource resource = bodyPart.getFile() != null
+        ? new FileSystemResource(bodyPart.getFile())
+        : new InputStreamResource(bodyPart.getContent());
+
     final MultipartBodyBuilder multipartBodyBuilder = new MultipartBodyBuilder();
     multipartBodyBuilder
-        .part(paramKey, new InputStreamResource(bodyPart.getContent()))
+        .part(paramKey, resource)
         .filename(bodyPart.getFilename());
 
     multipartBodyBuilder.build().forEach(formValueMap::addAll);
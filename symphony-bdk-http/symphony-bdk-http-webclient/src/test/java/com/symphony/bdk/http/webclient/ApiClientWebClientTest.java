@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 
 import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiClientBodyPart;
 import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.http.api.ApiResponse;
 import com.symphony.bdk.http.api.Pair;
@@ -21,13 +22,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockserver.matchers.MatchType;
 import org.mockserver.model.Header;
+import org.mockserver.model.HttpRequest;
 import org.mockserver.model.JsonBody;
 import org.mockserver.model.Parameter;
 import org.mockserver.model.ParameterBody;
 import org.springframework.http.MediaType;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -73,6 +77,23 @@ class ApiClientWebClientTest {
     assertEquals("success", response.getData().getMessage());
   }
 
+  @Test
+  void testInvokeApiStreamedResponseTest(final BdkMockServer mockServer) throws ApiException, IOException {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api"),
+        httpResponse -> httpResponse.withBody("{\"code\": 200, \"message\": \"success\"}"));
+
+    ApiResponse<InputStream> response =
+        this.apiClient.invokeAPI("/test-api", "GET", null, null, Collections.emptyMap(),
+            null, null, null, "application/json", new String[] {}, new TypeReference<InputStream>() {});
+
+    try (InputStream body = response.getData()) {
+      assertEquals("{\"code\": 200, \"message\": \"success\"}", IOUtils.toString(body, StandardCharsets.UTF_8));
+    }
+  }
+
   @Test
   void testInvokeApiTest2xx(final BdkMockServer mockServer) throws ApiException {
     mockServer.onRequestModifierWithResponse(201,
@@ -282,6 +303,42 @@ class ApiClientWebClientTest {
     assertEquals("success", response.getData().getMessage());
   }
 
+  @Test
+  void testInvokeApiWithFileBodyPartTest(final BdkMockServer mockServer, @TempDir Path tempDir)
+      throws ApiException, IOException {
+    Path tempFilePath = tempDir.resolve("tempFile");
+    IOUtils.write("file content", new FileOutputStream(tempFilePath.toFile()), "utf-8");
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("POST")
+            .withPath("/test-api")
+            .withHeader(Header.header("sessionToken", "test-token")),
+        httpResponse -> httpResponse
+            .withBody("{\"code\": 200, \"message\": \"success\"}"));
+
+    Map<String, Object> formParams = new HashMap<>();
+    formParams.put("attachment", new ApiClientBodyPart[] {
+        new ApiClientBodyPart(tempFilePath.toFile(), "report.csv"),
+        new ApiClientBodyPart(new ByteArrayInputStream("stream content".getBytes()), "other.csv")});
+
+    ApiResponse<Response> response =
+        this.apiClient.invokeAPI("/test-api", "POST", null, null,
+            Collections.singletonMap("sessionToken", "test-token"),
+            null, formParams, null, MediaType.MULTIPART_FORM_DATA_VALUE,
+            new String[] {},
+            new TypeReference<Response>() {});
+
+    assertEquals(200, response.getData().getCode());
+    assertEquals("success", response.getData().getMessage());
+    final HttpRequest[] requests = mockServer.retrieveRecordedRequests("/test-api");
+    assertEquals(1, requests.length);
+    final String body = requests[0].getBodyAsString();
+    assertTrue(body.contains("filename=\"report.csv\""));
+    assertTrue(body.contains("file content"));
+    assertTrue(body.contains("filename=\"other.csv\""));
+    assertTrue(body.contains("stream content"));
+  }
+
   @Test
   void testParameterToString() {
     RequestBody body = new RequestBody("test-id", "content");
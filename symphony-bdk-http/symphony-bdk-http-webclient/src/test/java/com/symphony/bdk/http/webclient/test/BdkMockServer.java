@@ -86,4 +86,8 @@ public class BdkMockServer {
 
     this.mockServer.when(httpRequest).respond(httpResponse);
   }
+
+  public HttpRequest[] retrieveRecordedRequests(String path) {
+    return this.mockServer.retrieveRecordedRequests(request().withPath(path));
+  }
 }
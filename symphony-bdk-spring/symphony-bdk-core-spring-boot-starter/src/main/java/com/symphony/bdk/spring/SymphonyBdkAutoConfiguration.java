@@ -4,6 +4,7 @@ import com.symphony.bdk.spring.config.BdkActivityConfig;
 import com.symphony.bdk.spring.config.BdkApiClientsConfig;
 import com.symphony.bdk.spring.config.BdkCoreConfig;
 import com.symphony.bdk.spring.config.BdkDatafeedConfig;
+import com.symphony.bdk.spring.config.BdkDatafeedMetricsConfig;
 import com.symphony.bdk.spring.config.BdkOboServiceConfig;
 import com.symphony.bdk.spring.config.BdkServiceConfig;
 
@@ -16,6 +17,7 @@ import org.springframework.context.annotation.Import;
 @Import({
     BdkCoreConfig.class,
     BdkApiClientsConfig.class,
+    BdkDatafeedMetricsConfig.class,
     BdkDatafeedConfig.class,
     BdkServiceConfig.class,
     BdkOboServiceConfig.class,
@@ -1,6 +1,7 @@
 package com.symphony.bdk.spring.config;
 
 import com.symphony.bdk.core.activity.AbstractActivity;
+import com.symphony.bdk.core.activity.ActivityMetricsListener;
 import com.symphony.bdk.core.activity.ActivityRegistry;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
 import com.symphony.bdk.core.service.message.MessageService;
@@ -10,6 +11,7 @@ import com.symphony.bdk.spring.annotation.Slash;
 import com.symphony.bdk.spring.annotation.SlashAnnotationProcessor;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.context.annotation.Bean;
 
@@ -20,6 +22,7 @@ import java.util.List;
  * <ul>
  *   <li>configuration and injection of the {@link ActivityRegistry}</li>
  *   <li>registering of any bean of type {@link AbstractActivity}</li>
+ *   <li>registering of any bean of type {@link ActivityMetricsListener}</li>
  *   <li>process methods annotated by {@link Slash} annotation and register them</li>
  * </ul>
  */
@@ -32,11 +35,13 @@ public class BdkActivityConfig {
       final SessionService sessionService,
       final DatafeedLoop datafeedLoop,
       final MessageService messageService,
-      final List<AbstractActivity<?, ?>> activities
+      final List<AbstractActivity<?, ?>> activities,
+      final ObjectProvider<ActivityMetricsListener> metricsListeners
   ) {
     log.debug("Retrieving bot session info");
     final UserV2 botSessionInfo = sessionService.getSession();
     final ActivityRegistry activityRegistry = new ActivityRegistry(botSessionInfo, datafeedLoop);
+    metricsListeners.orderedStream().forEach(activityRegistry::addMetricsListener);
     log.debug("{} activities found from context", activities.size());
     activities.forEach(activityRegistry::register);
     return activityRegistry;
@@ -2,6 +2,7 @@ package com.symphony.bdk.spring.config;
 
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetricsListener;
 import com.symphony.bdk.core.service.datafeed.DatafeedVersion;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.impl.DatafeedLoopV1;
@@ -12,6 +13,8 @@ import com.symphony.bdk.spring.events.RealTimeEvent;
 import com.symphony.bdk.spring.events.RealTimeEventsDispatcher;
 import com.symphony.bdk.spring.service.DatafeedAsyncLauncherService;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -22,14 +25,20 @@ import org.springframework.context.event.SimpleApplicationEventMulticaster;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Injection of the {@link DatafeedLoop} instance into the Spring application context.
+ * <p>
+ * If an {@link Executor} bean named {@value #DATAFEED_EXECUTOR} is defined, it runs the datafeed loop and the
+ * dispatch of the events.
  */
 @ConditionalOnProperty(value = "bdk.datafeed.enabled", havingValue = "true", matchIfMissing = true)
 @ConditionalOnBean(name = "botSession")
 public class BdkDatafeedConfig {
 
+  public static final String DATAFEED_EXECUTOR = "datafeedExecutor";
+
   @Bean
   @ConditionalOnMissingBean
   public DatafeedVersion datafeedVersion(SymphonyBdkCoreProperties properties) {
@@ -42,14 +51,18 @@ public class BdkDatafeedConfig {
       SymphonyBdkCoreProperties properties,
       DatafeedApi datafeedApi,
       AuthSession botSession,
-      DatafeedVersion datafeedVersion
+      DatafeedVersion datafeedVersion,
+      ObjectProvider<DatafeedMetricsListener> metricsListeners,
+      @Qualifier(DATAFEED_EXECUTOR) ObjectProvider<Executor> datafeedExecutor
   ) {
 
-    if (datafeedVersion == DatafeedVersion.V2) {
-      return new DatafeedLoopV2(datafeedApi, botSession, properties);
-    }
+    final DatafeedLoop datafeedLoop = datafeedVersion == DatafeedVersion.V2
+        ? new DatafeedLoopV2(datafeedApi, botSession, properties)
+        : new DatafeedLoopV1(datafeedApi, botSession, properties);
 
-    return new DatafeedLoopV1(datafeedApi, botSession, properties);
+    metricsListeners.orderedStream().forEach(datafeedLoop::addMetricsListener);
+    datafeedExecutor.ifAvailable(datafeedLoop::setExecutor);
+    return datafeedLoop;
   }
 
   @Bean
@@ -60,8 +73,10 @@ public class BdkDatafeedConfig {
 
   @Bean(initMethod = "start", destroyMethod = "stop")
   @ConditionalOnMissingBean
-  public DatafeedAsyncLauncherService datafeedAsyncLauncherService(final DatafeedLoop datafeedService, List<RealTimeEventListener> realTimeEventListeners) {
-    return new DatafeedAsyncLauncherService(datafeedService, realTimeEventListeners);
+  public DatafeedAsyncLauncherService datafeedAsyncLauncherService(final DatafeedLoop datafeedService,
+      List<RealTimeEventListener> realTimeEventListeners,
+      @Qualifier(DATAFEED_EXECUTOR) ObjectProvider<Executor> datafeedExecutor) {
+    return new DatafeedAsyncLauncherService(datafeedService, realTimeEventListeners, datafeedExecutor.getIfAvailable());
   }
 
   /**
@@ -0,0 +1,26 @@
+package com.symphony.bdk.spring.config;
+
+import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.spring.service.DatafeedMicrometerMetrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Injection of the Micrometer binding of the {@link DatafeedLoop} metrics, if Micrometer is on the classpath.
+ */
+@ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+@ConditionalOnProperty(value = "bdk.datafeed.enabled", havingValue = "true", matchIfMissing = true)
+public class BdkDatafeedMetricsConfig {
+
+  /**
+   * Datafeed metrics, bound to the Micrometer registry by Spring Boot Actuator.
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public DatafeedMicrometerMetrics datafeedMicrometerMetrics() {
+    return new DatafeedMicrometerMetrics();
+  }
+}
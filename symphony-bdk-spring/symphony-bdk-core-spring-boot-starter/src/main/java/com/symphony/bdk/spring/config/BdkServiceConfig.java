@@ -121,6 +121,7 @@ public class BdkServiceConfig {
       final BdkConfig config
   ) {
     return new MessageService(messagesApi, messageApi, messageSuppressionApi, streamsApi, podApi, attachmentsApi,
-        defaultApi, botSession, templateEngine, new RetryWithRecoveryBuilder<>().retryConfig(config.getRetry()));
+        defaultApi, botSession, templateEngine, new RetryWithRecoveryBuilder<>().retryConfig(config.getRetry()),
+        MessageService.sharedAsyncExecutor(config.getMessage().getAsyncMaxThreads()));
   }
 }
@@ -12,12 +12,13 @@ import org.apiguardian.api.API;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import javax.annotation.PostConstruct;
 
 /**
  * Async Launcher for the {@link DatafeedLoop} that call the {@link DatafeedLoop#start()} method in a separate
- * thread.
+ * thread, or on the given {@link Executor} if any.
  */
 @Slf4j
 @API(status = API.Status.INTERNAL)
@@ -25,13 +26,23 @@ public class DatafeedAsyncLauncherService implements Thread.UncaughtExceptionHan
 
   private final DatafeedLoop datafeedLoop;
   private final List<RealTimeEventListener> realTimeEventListeners;
+  private final Executor executor;
 
   public DatafeedAsyncLauncherService(
       final DatafeedLoop datafeedLoop,
       final List<RealTimeEventListener> realTimeEventListeners
+  ) {
+    this(datafeedLoop, realTimeEventListeners, null);
+  }
+
+  public DatafeedAsyncLauncherService(
+      final DatafeedLoop datafeedLoop,
+      final List<RealTimeEventListener> realTimeEventListeners,
+      final Executor executor
   ) {
     this.datafeedLoop = datafeedLoop;
     this.realTimeEventListeners = realTimeEventListeners;
+    this.executor = executor;
   }
 
   /**
@@ -46,6 +57,16 @@ public class DatafeedAsyncLauncherService implements Thread.UncaughtExceptionHan
    * Asynchronous execution of the {@link DatafeedLoop#start()} method.
    */
   public void start() {
+    if (this.executor != null) {
+      this.executor.execute(MDCUtils.wrap(() -> {
+        try {
+          this.uncheckedStart();
+        } catch (RuntimeException e) {
+          this.uncaughtException(Thread.currentThread(), e);
+        }
+      }));
+      return;
+    }
     final Thread datafeedThread = new Thread(MDCUtils.wrap(this::uncheckedStart), "SymphonyBdk_DatafeedThread");
     datafeedThread.setUncaughtExceptionHandler(this);
     datafeedThread.start();
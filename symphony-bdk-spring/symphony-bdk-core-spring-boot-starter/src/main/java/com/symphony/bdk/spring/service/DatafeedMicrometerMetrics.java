@@ -0,0 +1,149 @@
+package com.symphony.bdk.spring.service;
+
+import com.symphony.bdk.core.service.datafeed.DatafeedMetricsListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Micrometer binding of the {@link DatafeedMetricsListener}, registered when Micrometer is on the classpath.
+ * <p>
+ * Metrics are only recorded once the binder has been bound to a {@link MeterRegistry}, which is done by Spring Boot
+ * Actuator.
+ * The meters are built once per registry, the ones tagged with an event type or a listener on first use, so that
+ * recording an event does not look the meter up in the registry.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public class DatafeedMicrometerMetrics implements DatafeedMetricsListener, MeterBinder {
+
+  public static final String READ = "symphony.bdk.datafeed.read";
+  public static final String BATCH_SIZE = "symphony.bdk.datafeed.batch.size";
+  public static final String EVENTS = "symphony.bdk.datafeed.events";
+  public static final String EVENT_AGE = "symphony.bdk.datafeed.event.age";
+  public static final String LISTENER_LATENCY = "symphony.bdk.datafeed.listener.latency";
+  public static final String BATCHES = "symphony.bdk.datafeed.batches";
+
+  private static final String TYPE_TAG = "type";
+  private static final String LISTENER_TAG = "listener";
+  private static final String OUTCOME_TAG = "outcome";
+
+  // null until the binder has been bound to a registry
+  private volatile Meters meters;
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    this.meters = new Meters(registry);
+  }
+
+  @Override
+  public void onRead(Duration roundTrip, int batchSize) {
+    final Meters boundMeters = this.meters;
+    if (boundMeters != null) {
+      boundMeters.read.record(roundTrip);
+      boundMeters.batchSize.record(batchSize);
+    }
+  }
+
+  @Override
+  public void onEventReceived(String eventType, Duration age) {
+    final Meters boundMeters = this.meters;
+    if (boundMeters != null) {
+      boundMeters.events(eventType).increment();
+      if (age != null) {
+        boundMeters.eventAge(eventType).record(age);
+      }
+    }
+  }
+
+  @Override
+  public void onEventProcessed(String eventType, String listener, Duration latency) {
+    final Meters boundMeters = this.meters;
+    if (boundMeters != null) {
+      boundMeters.listenerLatency(eventType, listener).record(latency);
+    }
+  }
+
+  @Override
+  public void onBatchProcessed(int batchSize) {
+    final Meters boundMeters = this.meters;
+    if (boundMeters != null) {
+      boundMeters.processedBatches.increment();
+    }
+  }
+
+  @Override
+  public void onBatchRequeued(int batchSize) {
+    final Meters boundMeters = this.meters;
+    if (boundMeters != null) {
+      boundMeters.requeuedBatches.increment();
+    }
+  }
+
+  /**
+   * Meters of a registry, each of them being built and registered on first use only.
+   */
+  @API(status = API.Status.INTERNAL)
+  private static class Meters {
+
+    private final MeterRegistry registry;
+    private final Timer read;
+    private final DistributionSummary batchSize;
+    private final Counter processedBatches;
+    private final Counter requeuedBatches;
+    private final Map<String, Counter> events = new ConcurrentHashMap<>();
+    private final Map<String, Timer> eventAges = new ConcurrentHashMap<>();
+    // keyed by event type, then by listener
+    private final Map<String, Map<String, Timer>> listenerLatencies = new ConcurrentHashMap<>();
+
+    Meters(MeterRegistry registry) {
+      this.registry = registry;
+      this.read = Timer.builder(READ)
+          .description("Datafeed read calls round-trip time")
+          .register(registry);
+      this.batchSize = DistributionSummary.builder(BATCH_SIZE)
+          .description("Number of events returned by the datafeed read calls")
+          .register(registry);
+      this.processedBatches = batches(registry, "processed");
+      this.requeuedBatches = batches(registry, "requeued");
+    }
+
+    Counter events(String eventType) {
+      return this.events.computeIfAbsent(eventType, type -> Counter.builder(EVENTS)
+          .description("Events received from the datafeed")
+          .tag(TYPE_TAG, type)
+          .register(this.registry));
+    }
+
+    Timer eventAge(String eventType) {
+      return this.eventAges.computeIfAbsent(eventType, type -> Timer.builder(EVENT_AGE)
+          .description("Time elapsed between the creation of an event and its dispatching")
+          .tag(TYPE_TAG, type)
+          .register(this.registry));
+    }
+
+    Timer listenerLatency(String eventType, String listener) {
+      return this.listenerLatencies.computeIfAbsent(eventType, type -> new ConcurrentHashMap<>())
+          .computeIfAbsent(listener, name -> Timer.builder(LISTENER_LATENCY)
+              .description("Time taken by the listeners to process the events")
+              .tag(TYPE_TAG, eventType)
+              .tag(LISTENER_TAG, name)
+              .publishPercentileHistogram()
+              .register(this.registry));
+    }
+
+    private static Counter batches(MeterRegistry registry, String outcome) {
+      return Counter.builder(BATCHES)
+          .description("Batches of events processed or re-queued")
+          .tag(OUTCOME_TAG, outcome)
+          .register(registry);
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.symphony.bdk.spring.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+class DatafeedMicrometerMetricsTest {
+
+  private MeterRegistry registry;
+  private DatafeedMicrometerMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    this.registry = new SimpleMeterRegistry();
+    this.metrics = new DatafeedMicrometerMetrics();
+    this.metrics.bindTo(this.registry);
+  }
+
+  @Test
+  void testRead() {
+    this.metrics.onRead(Duration.ofMillis(200), 3);
+
+    assertEquals(1, this.registry.get(DatafeedMicrometerMetrics.READ).timer().count());
+    assertEquals(3, this.registry.get(DatafeedMicrometerMetrics.BATCH_SIZE).summary().totalAmount());
+  }
+
+  @Test
+  void testEventReceived() {
+    this.metrics.onEventReceived("MESSAGESENT", Duration.ofSeconds(2));
+    this.metrics.onEventReceived("MESSAGESENT", null);
+
+    assertEquals(2, this.registry.get(DatafeedMicrometerMetrics.EVENTS).tag("type", "MESSAGESENT").counter().count());
+    assertEquals(2, this.registry.get(DatafeedMicrometerMetrics.EVENT_AGE).timer().totalTime(TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testEventProcessed() {
+    this.metrics.onEventProcessed("MESSAGESENT", "com.acme.MyListener", Duration.ofMillis(10));
+
+    assertEquals(1, this.registry.get(DatafeedMicrometerMetrics.LISTENER_LATENCY)
+        .tag("listener", "com.acme.MyListener").timer().count());
+  }
+
+  @Test
+  void testEventProcessedMetersReused() {
+    this.metrics.onEventProcessed("MESSAGESENT", "com.acme.MyListener", Duration.ofMillis(10));
+    final int meters = this.registry.getMeters().size();
+    this.metrics.onEventProcessed("MESSAGESENT", "com.acme.MyListener", Duration.ofMillis(20));
+    this.metrics.onEventProcessed("MESSAGESENT", "com.acme.OtherListener", Duration.ofMillis(30));
+
+    assertEquals(meters + 1, this.registry.getMeters().size());
+    assertEquals(2, this.registry.get(DatafeedMicrometerMetrics.LISTENER_LATENCY)
+        .tag("listener", "com.acme.MyListener").timer().count());
+    assertEquals(1, this.registry.get(DatafeedMicrometerMetrics.LISTENER_LATENCY)
+        .tag("listener", "com.acme.OtherListener").timer().count());
+  }
+
+  @Test
+  void testBatches() {
+    this.metrics.onBatchProcessed(2);
+    this.metrics.onBatchProcessed(1);
+    this.metrics.onBatchRequeued(2);
+
+    assertEquals(2, this.registry.get(DatafeedMicrometerMetrics.BATCHES).tag("outcome", "processed").counter().count());
+    assertEquals(1, this.registry.get(DatafeedMicrometerMetrics.BATCHES).tag("outcome", "requeued").counter().count());
+  }
+
+  @Test
+  void testNothingRecordedIfNotBound() {
+    final DatafeedMicrometerMetrics unbound = new DatafeedMicrometerMetrics();
+    unbound.onRead(Duration.ofMillis(200), 3);
+    unbound.onBatchProcessed(3);
+
+    assertNull(this.registry.find(DatafeedMicrometerMetrics.READ).timer());
+  }
+}